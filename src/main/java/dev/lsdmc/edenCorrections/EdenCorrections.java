@@ -15,6 +15,7 @@ import dev.lsdmc.edenCorrections.managers.BossBarManager;
 import dev.lsdmc.edenCorrections.managers.GuardLootManager;
 import dev.lsdmc.edenCorrections.managers.ProgressionManager;
 import dev.lsdmc.edenCorrections.managers.LockerManager;
+import dev.lsdmc.edenCorrections.managers.LeaderboardManager;
 import dev.lsdmc.edenCorrections.managers.BuybackNpcManager;
 import dev.lsdmc.edenCorrections.storage.DataManager;
 import dev.lsdmc.edenCorrections.events.GuardEventHandler;
@@ -53,6 +54,7 @@ public class EdenCorrections extends JavaPlugin {
     private GuardLootManager guardLootManager;
     private ProgressionManager progressionManager;
     private LockerManager lockerManager;
+    private LeaderboardManager leaderboardManager;
     
     
     private SpamControlManager spamControlManager;
@@ -81,31 +83,44 @@ public class EdenCorrections extends JavaPlugin {
     
     private dev.lsdmc.edenCorrections.utils.PerformanceMonitor performanceMonitor;
     
+    
+    private dev.lsdmc.edenCorrections.utils.HudTicker hudTicker;
+    private dev.lsdmc.edenCorrections.utils.ExpiryWheel expiryWheel;
+    private final dev.lsdmc.edenCorrections.utils.PlaceholderSnapshotCache placeholderSnapshots = new dev.lsdmc.edenCorrections.utils.PlaceholderSnapshotCache();
+    private dev.lsdmc.edenCorrections.utils.StartupTimer startupTimer;
+    
     @Override
     public void onEnable() {
         instance = this;
         logger = getLogger();
+        startupTimer = new dev.lsdmc.edenCorrections.utils.StartupTimer();
         
         try {
             LoggingUtils.info(logger, "Starting Corrections v" + getPluginMeta().getVersion());
             
             
             initializeCore();
+            startupTimer.mark("core");
             
             
             initializeManagers();
+            startupTimer.mark("managers");
             
             
             registerEventsAndCommands();
+            startupTimer.mark("listeners");
             
             
             registerPlaceholderAPI();
+            startupTimer.mark("placeholders");
             
             
             performStartupValidation();
+            startupTimer.mark("validation");
             
             
             logSystemStats();
+            LoggingUtils.info(logger, "Startup timing: " + startupTimer.summary());
             
             
             messageManager.sendMessage(getServer().getConsoleSender(), "system.startup");
@@ -221,6 +236,14 @@ public class EdenCorrections extends JavaPlugin {
             }
         }
         
+        if (leaderboardManager != null) {
+            try {
+                leaderboardManager.cleanup();
+            } catch (Exception e) {
+                LoggingUtils.warn(logger, "Error cleaning up LeaderboardManager: " + e.getMessage());
+            }
+        }
+        
         if (dutyManager != null) {
             try {
                 dutyManager.cleanup();
@@ -229,6 +252,14 @@ public class EdenCorrections extends JavaPlugin {
             }
         }
         
+        if (vaultEconomyManager != null) {
+            try {
+                vaultEconomyManager.shutdown();
+            } catch (Exception e) {
+                LoggingUtils.warn(logger, "Error cleaning up VaultEconomyManager: " + e.getMessage());
+            }
+        }
+        
         if (messageManager != null) {
             try {
                 messageManager.cleanup();
@@ -237,6 +268,14 @@ public class EdenCorrections extends JavaPlugin {
             }
         }
         
+        if (hudTicker != null) {
+            hudTicker.stop();
+        }
+        
+        if (expiryWheel != null) {
+            expiryWheel.stop();
+        }
+        
         if (dataManager != null) {
             try {
                 dataManager.shutdown();
@@ -273,6 +312,7 @@ public class EdenCorrections extends JavaPlugin {
     private void initializeCore() {
         
         configManager = new ConfigManager(this);
+        startupTimer.mark("config");
         
         
         if (!configManager.isConfigValid()) {
@@ -284,8 +324,15 @@ public class EdenCorrections extends JavaPlugin {
         }
         
         
+        hudTicker = new dev.lsdmc.edenCorrections.utils.HudTicker(this);
+        hudTicker.start();
+        expiryWheel = new dev.lsdmc.edenCorrections.utils.ExpiryWheel(this);
+        expiryWheel.start();
+        
+        
         messageManager = new MessageManager(this);
         messageManager.initialize();
+        startupTimer.mark("messages");
         
         
         dataManager = new DataManager(this);
@@ -342,6 +389,7 @@ public class EdenCorrections extends JavaPlugin {
         dutyBankingManager = new DutyBankingManager(this);
         progressionManager = new ProgressionManager(this);
         lockerManager = new LockerManager(this);
+        leaderboardManager = new LeaderboardManager(this);
         
         
         securityManager = new SecurityManager(this);
@@ -365,6 +413,7 @@ public class EdenCorrections extends JavaPlugin {
         bossBarManager.initialize();
         guardLootManager.initialize();
         spamControlManager.initialize();
+        leaderboardManager.initialize();
         
         
         
@@ -423,6 +472,7 @@ public class EdenCorrections extends JavaPlugin {
             LoggingUtils.info(logger, "Reloading Corrections configuration...");
             
             configManager.reload();
+            placeholderSnapshots.clear();
             messageManager.reload();
             
             
@@ -777,6 +827,9 @@ public class EdenCorrections extends JavaPlugin {
     public ProgressionManager getProgressionManager() {
         return progressionManager;
     }
+    public LeaderboardManager getLeaderboardManager() {
+        return leaderboardManager;
+    }
     public LockerManager getLockerManager() {
         return lockerManager;
     }
@@ -799,6 +852,10 @@ public class EdenCorrections extends JavaPlugin {
         return vaultEconomyManager;
     }
     
+    public dev.lsdmc.edenCorrections.utils.StartupTimer getStartupTimer() {
+        return startupTimer;
+    }
+    
     public BuybackNpcManager getBuybackNpcManager() {
         return buybackNpcManager;
     }
@@ -806,4 +863,16 @@ public class EdenCorrections extends JavaPlugin {
     public dev.lsdmc.edenCorrections.utils.PerformanceMonitor getPerformanceMonitor() {
         return performanceMonitor;
     }
+    
+    public dev.lsdmc.edenCorrections.utils.HudTicker getHudTicker() {
+        return hudTicker;
+    }
+    
+    public dev.lsdmc.edenCorrections.utils.ExpiryWheel getExpiryWheel() {
+        return expiryWheel;
+    }
+    
+    public dev.lsdmc.edenCorrections.utils.PlaceholderSnapshotCache getPlaceholderSnapshots() {
+        return placeholderSnapshots;
+    }
 } 
\ No newline at end of file
@@ -3,6 +3,8 @@ package dev.lsdmc.edenCorrections.commands;
 import dev.lsdmc.edenCorrections.EdenCorrections;
 import dev.lsdmc.edenCorrections.models.PlayerData;
 import dev.lsdmc.edenCorrections.models.ChaseData;
+import dev.lsdmc.edenCorrections.models.StatRollup;
+import dev.lsdmc.edenCorrections.storage.StatsJournal;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.command.Command;
@@ -638,12 +640,13 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
                 return true;
             }
         }
-        plugin.getJailManager().jailOfflinePlayer(executor, targetName, reason)
+        String finalReason = reason;
+        resolvePlayerData(sender, targetName, target -> plugin.getJailManager().jailOfflinePlayer(executor, target.getPlayerName(), finalReason)
             .thenAccept(success -> {
                 if (!success) {
                     plugin.getMessageManager().sendMessage(executor, "universal.failed");
                 }
-            });
+            }));
         return true;
     }
     
@@ -1099,7 +1102,7 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
     private boolean handlePlayerAdminCommand(CommandSender sender, String[] args) {
         if (args.length < 2) {
             plugin.getMessageManager().sendMessage(sender, "universal.invalid-usage",
-                stringPlaceholder("command", "/corrections player <info|stats|reset|modify> <player> [scope]"));
+                stringPlaceholder("command", "/corrections player <info|stats|history|reset|modify> <player> [scope]"));
             return true;
         }
 
@@ -1128,6 +1131,27 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
                 }
                 return handlePlayerStats(sender, args[2]);
 
+            case "history":
+                if (args.length < 3) {
+                    plugin.getMessageManager().sendMessage(sender, "universal.invalid-usage",
+                        stringPlaceholder("command", "/corrections player history <player> [days]"));
+                    return true;
+                }
+                int days = 7;
+                if (args.length >= 4) {
+                    try {
+                        days = Integer.parseInt(args[3]);
+                    } catch (NumberFormatException e) {
+                        days = -1;
+                    }
+                    if (days <= 0) {
+                        plugin.getMessageManager().sendMessage(sender, "universal.invalid-number",
+                            stringPlaceholder("input", args[3]));
+                        return true;
+                    }
+                }
+                return handlePlayerHistory(sender, args[2], days);
+
             case "reset":
                 if (args.length < 3) {
                     plugin.getMessageManager().sendMessage(sender, "universal.invalid-usage",
@@ -1329,13 +1353,28 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         }
         String playerName = args[0];
         String toRank = args.length > 1 ? args[1] : "none";
-        org.bukkit.OfflinePlayer off = Bukkit.getOfflinePlayer(playerName);
-        java.util.UUID uuid = off.getUniqueId();
+        plugin.getDataManager().resolvePlayerData(playerName).whenComplete((stored, throwable) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            java.util.UUID uuid = stored != null ? stored.getPlayerId() : null;
+            if (uuid == null) {
+                org.bukkit.OfflinePlayer cached = Bukkit.getOfflinePlayerIfCached(playerName);
+                uuid = cached != null ? cached.getUniqueId() : null;
+            }
+            if (uuid == null) {
+                plugin.getMessageManager().sendMessage(sender, "universal.player-not-found",
+                    stringPlaceholder("player", playerName));
+                return;
+            }
+            demotePlayer(sender, uuid, stored, playerName, toRank);
+        }));
+        return true;
+    }
+
+    private void demotePlayer(CommandSender sender, java.util.UUID uuid, PlayerData stored, String playerName, String toRank) {
         try {
             org.bukkit.plugin.RegisteredServiceProvider<net.luckperms.api.LuckPerms> reg = Bukkit.getServicesManager().getRegistration(net.luckperms.api.LuckPerms.class);
             if (reg == null) {
                 plugin.getMessageManager().sendMessage(sender, "progression.luckperms-error");
-                return true;
+                return;
             }
             net.luckperms.api.LuckPerms luckPerms = reg.getProvider();
             String trackName = plugin.getConfigManager().getConfig().getString("progression.rankup.track", "guard");
@@ -1368,7 +1407,7 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
                 plugin.getMessageManager().sendMessage(online, "system.info",
                     stringPlaceholder("message", "You have been demoted by an administrator."));
             } else {
-                PlayerData data = plugin.getDataManager().getOrCreatePlayerData(uuid, off.getName() != null ? off.getName() : playerName);
+                PlayerData data = stored != null ? stored : plugin.getDataManager().getOrCreatePlayerData(uuid, playerName);
                 data.setOnDuty(false);
                 data.setOffDutyTime(System.currentTimeMillis());
                 data.resetConsumedOffDutyTime();
@@ -1380,7 +1419,6 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         } catch (Exception e) {
             plugin.getMessageManager().sendMessage(sender, "progression.promotion-error");
         }
-        return true;
     }
 
     private boolean handleProgressionToggleAuto(CommandSender sender, String value) {
@@ -1430,19 +1468,41 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         return true;
     }
 
-    private boolean handlePlayerStats(CommandSender sender, String playerName) {
-        Player target = Bukkit.getPlayer(playerName);
-        if (target == null) {
-            plugin.getMessageManager().sendMessage(sender, "universal.player-not-found",
-                stringPlaceholder("player", playerName));
+    private boolean handlePlayerHistory(CommandSender sender, String playerName, int days) {
+        StatsJournal journal = plugin.getDataManager().getStatsJournal();
+        if (journal == null || !journal.isEnabled()) {
+            plugin.getMessageManager().sendMessage(sender, "admin.player.history-disabled");
             return true;
         }
+        resolvePlayerData(sender, playerName, data -> showPlayerHistory(sender, journal, data, days));
+        return true;
+    }
 
-        PlayerData data = plugin.getDataManager().getPlayerData(target.getUniqueId());
-        if (data == null) {
-            plugin.getMessageManager().sendMessage(sender, "universal.failed");
-            return true;
-        }
+    private void showPlayerHistory(CommandSender sender, StatsJournal journal, PlayerData data, int days) {
+        long since = System.currentTimeMillis() - days * StatRollup.DAY_MILLIS;
+        journal.sumSince(data.getPlayerId(), since).thenAccept(totals -> Bukkit.getScheduler().runTask(plugin, () -> {
+            plugin.getMessageManager().sendMessage(sender, "admin.player.history-header",
+                stringPlaceholder("player", data.getPlayerName()),
+                numberPlaceholder("days", days));
+            plugin.getMessageManager().sendMessage(sender, "admin.player.history-combat",
+                numberPlaceholder("arrests", totals.getOrDefault(StatsJournal.ARREST, 0L)),
+                numberPlaceholder("kills", totals.getOrDefault(StatsJournal.KILL, 0L)),
+                numberPlaceholder("detections", totals.getOrDefault(StatsJournal.DETECTION, 0L)));
+            plugin.getMessageManager().sendMessage(sender, "admin.player.history-searches",
+                numberPlaceholder("searches", totals.getOrDefault(StatsJournal.SEARCH, 0L)),
+                numberPlaceholder("successful", totals.getOrDefault(StatsJournal.SUCCESSFUL_SEARCH, 0L)));
+            plugin.getMessageManager().sendMessage(sender, "admin.player.history-duty-time",
+                stringPlaceholder("hours", String.format("%.1f", totals.getOrDefault(StatsJournal.DUTY_TIME, 0L) / 3600000.0)));
+        }));
+    }
+
+    private boolean handlePlayerStats(CommandSender sender, String playerName) {
+        resolvePlayerData(sender, playerName, data -> showPlayerStats(sender, data));
+        return true;
+    }
+
+    private void showPlayerStats(CommandSender sender, PlayerData data) {
+        Player target = Bukkit.getPlayer(data.getPlayerId());
 
         
         plugin.getMessageManager().sendMessage(sender, "admin.player.stats.header");
@@ -1487,7 +1547,7 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
             numberPlaceholder("count", data.getTotalViolations()));
         
         
-        String currentRank = plugin.getDutyManager().getPlayerGuardRank(target);
+        String currentRank = target != null ? plugin.getDutyManager().getPlayerGuardRank(target) : data.getGuardRank();
         if (currentRank != null) {
             plugin.getMessageManager().sendMessage(sender, "admin.player.stats.progression-header");
             plugin.getMessageManager().sendMessage(sender, "admin.player.stats.current-rank",
@@ -1497,8 +1557,12 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
             String nextRank = plugin.getProgressionManager() != null ?
                 invokeNextRank(currentRank) : null;
             if (nextRank != null) {
-                boolean canPromote = invokeCheckPromotion(target, data, nextRank);
-                String status = canPromote ? "Ready for promotion" : "Requirements not met";
+                String status;
+                if (target == null) {
+                    status = "Player offline";
+                } else {
+                    status = invokeCheckPromotion(target, data, nextRank) ? "Ready for promotion" : "Requirements not met";
+                }
                 plugin.getMessageManager().sendMessage(sender, "admin.player.stats.promotion-status",
                     stringPlaceholder("rank", nextRank),
                     stringPlaceholder("status", status));
@@ -1509,8 +1573,28 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         
         
         plugin.getMessageManager().sendMessage(sender, "admin.player.stats.header");
+    }
+    
+    
+    private void resolvePlayerData(CommandSender sender, String playerName, java.util.function.Consumer<PlayerData> action) {
+        java.util.concurrent.CompletableFuture<PlayerData> lookup = plugin.getDataManager().resolvePlayerData(playerName);
+        java.util.function.BiConsumer<PlayerData, Throwable> complete = (data, throwable) -> {
+            if (throwable != null || data == null) {
+                if (throwable != null) {
+                    logger.warning("Failed to resolve player " + playerName + ": " + throwable.getMessage());
+                }
+                plugin.getMessageManager().sendMessage(sender, "universal.player-not-found",
+                    stringPlaceholder("player", playerName));
+                return;
+            }
+            action.accept(data);
+        };
         
-        return true;
+        if (lookup.isDone() && Bukkit.isPrimaryThread()) {
+            lookup.whenComplete(complete);
+            return;
+        }
+        lookup.whenComplete((data, throwable) -> Bukkit.getScheduler().runTask(plugin, () -> complete.accept(data, throwable)));
     }
     
     
@@ -1523,9 +1607,10 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
     }
     private boolean invokeCheckPromotion(Player player, PlayerData data, String nextRank) {
         try {
-            java.lang.reflect.Method m = plugin.getProgressionManager().getClass().getDeclaredMethod("checkPromotionRequirements", org.bukkit.entity.Player.class, dev.lsdmc.edenCorrections.models.PlayerData.class, String.class);
+            java.lang.reflect.Method m = plugin.getProgressionManager().getClass().getDeclaredMethod("checkPromotionRequirements", org.bukkit.entity.Player.class, dev.lsdmc.edenCorrections.models.PlayerData.class, String.class, double.class);
             m.setAccessible(true);
-            Object res = m.invoke(plugin.getProgressionManager(), player, data, nextRank);
+            double balance = plugin.getVaultEconomyManager() != null ? plugin.getVaultEconomyManager().peekBalance(player) : 0.0;
+            Object res = m.invoke(plugin.getProgressionManager(), player, data, nextRank, balance);
             java.lang.reflect.Field f = res.getClass().getDeclaredField("canPromote");
             f.setAccessible(true);
             return f.getBoolean(res);
@@ -1735,6 +1820,76 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         plugin.getMessageManager().sendMessage(sender, "admin.system.stats-chases",
             numberPlaceholder("count", plugin.getDataManager().getActiveChaseCount()));
         
+        dev.lsdmc.edenCorrections.managers.DutyManager dutyManager = plugin.getDutyManager();
+        plugin.getMessageManager().sendMessage(sender, "admin.system.stats-rank-cache",
+            numberPlaceholder("size", dutyManager.getRankCacheSize()),
+            numberPlaceholder("hits", dutyManager.getRankCacheHits()),
+            numberPlaceholder("misses", dutyManager.getRankCacheMisses()));
+        
+        Map<String, Object> pool = plugin.getDataManager().getDatabasePoolMetrics();
+        if (!pool.isEmpty()) {
+            plugin.getMessageManager().sendMessage(sender, "admin.system.stats-db-pool",
+                stringPlaceholder("active", String.valueOf(pool.getOrDefault("activeConnections", 0))),
+                stringPlaceholder("idle", String.valueOf(pool.getOrDefault("idleConnections", 0))),
+                stringPlaceholder("pending", String.valueOf(pool.getOrDefault("pendingThreads", 0))),
+                stringPlaceholder("max", String.valueOf(pool.getOrDefault("maxPoolSize", 0))),
+                stringPlaceholder("workers", String.valueOf(pool.getOrDefault("executorThreads", 0))));
+            plugin.getMessageManager().sendMessage(sender, "admin.system.stats-db-acquire",
+                stringPlaceholder("avg", String.format("%.2f", ((Number) pool.getOrDefault("avgAcquireMillis", 0.0)).doubleValue())),
+                stringPlaceholder("max", String.format("%.2f", ((Number) pool.getOrDefault("maxAcquireMillis", 0.0)).doubleValue())),
+                stringPlaceholder("acquisitions", String.valueOf(pool.getOrDefault("acquisitions", 0))),
+                stringPlaceholder("failed", String.valueOf(pool.getOrDefault("failedAcquisitions", 0))));
+        }
+        
+        Map<String, Long> hud = plugin.getHudTicker().getStats();
+        plugin.getMessageManager().sendMessage(sender, "admin.system.stats-hud",
+            numberPlaceholder("active", hud.get("activeSlots")),
+            numberPlaceholder("delivered", hud.get("delivered")),
+            numberPlaceholder("skipped", hud.get("skipped")));
+        
+        Map<String, Long> expiries = plugin.getExpiryWheel().getStats();
+        plugin.getMessageManager().sendMessage(sender, "admin.system.stats-expiries",
+            numberPlaceholder("pending", expiries.get("pending")),
+            numberPlaceholder("extended", expiries.get("extended")),
+            numberPlaceholder("fired", expiries.get("fired")),
+            numberPlaceholder("cancelled", expiries.get("cancelled")));
+        
+        Map<String, Long> placeholders = plugin.getPlaceholderSnapshots().getStats();
+        plugin.getMessageManager().sendMessage(sender, "admin.system.stats-placeholders",
+            numberPlaceholder("requests", placeholders.get("requests")),
+            numberPlaceholder("hits", placeholders.get("hits")),
+            stringPlaceholder("hit", String.format("%.1f", placeholders.get("avgHitNanos") / 1000.0)),
+            stringPlaceholder("miss", String.format("%.1f", placeholders.get("avgMissNanos") / 1000.0)));
+        
+        if (plugin.getVaultEconomyManager() != null && plugin.getVaultEconomyManager().isAvailable()) {
+            Map<String, Long> economy = plugin.getVaultEconomyManager().getStats();
+            String economyKey = plugin.getVaultEconomyManager().isAsyncSafe()
+                ? "admin.system.stats-economy-executor" : "admin.system.stats-economy-main-thread";
+            plugin.getMessageManager().sendMessage(sender, economyKey,
+                numberPlaceholder("calls", economy.get("providerCalls")),
+                numberPlaceholder("batches", economy.get("mainThreadBatches")),
+                numberPlaceholder("hits", economy.get("cacheHits")),
+                numberPlaceholder("misses", economy.get("cacheMisses")));
+        }
+        
+        if (plugin.getLeaderboardManager() != null) {
+            Map<String, Long> leaderboards = plugin.getLeaderboardManager().getStats();
+            plugin.getMessageManager().sendMessage(sender, "admin.system.stats-leaderboards",
+                numberPlaceholder("refreshes", leaderboards.get("refreshes")),
+                numberPlaceholder("updates", leaderboards.get("incrementalUpdates")),
+                numberPlaceholder("size", leaderboards.get("size")));
+        }
+        
+        StatsJournal journal = plugin.getDataManager().getStatsJournal();
+        if (journal != null && journal.isEnabled()) {
+            Map<String, Long> journalStats = journal.getStats();
+            plugin.getMessageManager().sendMessage(sender, "admin.system.stats-journal",
+                numberPlaceholder("flushed", journalStats.get("flushed")),
+                numberPlaceholder("batches", journalStats.get("batches")),
+                numberPlaceholder("buffered", journalStats.get("buffered")),
+                numberPlaceholder("dropped", journalStats.get("dropped")));
+        }
+        
         String debugStatus = plugin.getConfigManager().isDebugMode() ? "admin.system.debug-status-enabled" : "admin.system.debug-status-disabled";
         plugin.getMessageManager().sendMessage(sender, "admin.system.stats-debug",
             stringPlaceholder("status", plugin.getMessageManager().getRawMessage(debugStatus)));
@@ -2228,7 +2383,7 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
                     completions.addAll(Arrays.asList("info", "limits", "force", "toggle"));
                     break;
                 case "player":
-                    completions.addAll(Arrays.asList("info", "stats", "reset", "modify"));
+                    completions.addAll(Arrays.asList("info", "stats", "history", "reset", "modify"));
                     break;
                 case "system":
                     completions.addAll(Arrays.asList("stats", "debug", "spam"));
@@ -2260,7 +2415,7 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
                 completions.addAll(getOnlinePlayerNames());
             } else if (subCommand.equals("player") && action.equals("modify")) {
                 completions.addAll(getOnlinePlayerNames());
-            } else if (subCommand.equals("player") && action.equals("stats")) {
+            } else if (subCommand.equals("player") && (action.equals("stats") || action.equals("history"))) {
                 
                 completions.addAll(getOnlinePlayerNames());
             } else if (subCommand.equals("system") && action.equals("debug")) {
@@ -3054,17 +3209,6 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         }
         
         
-        PlayerData playerData = plugin.getDataManager().getPlayerDataByName(playerName);
-        if (playerData == null) {
-            plugin.getMessageManager().sendMessage(sender, "universal.player-not-found",
-                stringPlaceholder("player", playerName));
-            return true;
-        }
-        
-        Player targetPlayer = Bukkit.getPlayer(playerName);
-        boolean isOnline = targetPlayer != null;
-        
-        
         StatModificationResult result = parseAndValidateStatModification(statName, value);
         if (!result.isValid()) {
             plugin.getMessageManager().sendMessage(sender, "admin.stats.invalid-stat",
@@ -3074,12 +3218,21 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         }
         
         
+        resolvePlayerData(sender, playerName, playerData -> applyPlayerStatModification(sender, playerData, playerName, statName, result));
+        return true;
+    }
+    
+    private void applyPlayerStatModification(CommandSender sender, PlayerData playerData, String playerName, String statName, StatModificationResult result) {
+        Player targetPlayer = Bukkit.getPlayer(playerData.getPlayerId());
+        boolean isOnline = targetPlayer != null;
+        
+        
         boolean success = applyStatModification(playerData, result, targetPlayer);
         if (!success) {
             plugin.getMessageManager().sendMessage(sender, "admin.stats.modification-failed",
                 stringPlaceholder("player", playerName),
                 stringPlaceholder("stat", statName));
-            return true;
+            return;
         }
         
         
@@ -3126,8 +3279,6 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
             stringPlaceholder("stat", statName),
             stringPlaceholder("oldvalue", String.valueOf(result.getOldValue())),
             stringPlaceholder("newvalue", String.valueOf(result.getNewValue())));
-        
-        return true;
     }
     
     
@@ -3386,6 +3537,10 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
                 case "isonduty":
                     result.setOldValue(playerData.isOnDuty());
                     playerData.setOnDuty((Boolean) result.getValue());
+                    Player dutyTarget = Bukkit.getPlayer(playerData.getPlayerId());
+                    if (dutyTarget != null) {
+                        plugin.getDutyManager().getGuardRoster().refresh(dutyTarget);
+                    }
                     break;
                     
                 case "hasearnedbasetime":
@@ -32,6 +32,7 @@ public class ConfigManager {
     
     private final AtomicBoolean isReloading = new AtomicBoolean(false);
     private final Map<String, Object> configCache = new ConcurrentHashMap<>();
+    private volatile ConfigSnapshot snapshot;
     private long lastReloadTime = 0;
     
     
@@ -80,6 +81,7 @@ public class ConfigManager {
             
             
             migrateIfNeeded();
+            rebuildSnapshot();
 
             
             
@@ -263,6 +265,24 @@ public class ConfigManager {
     private void cacheConfigValues() {
         configCache.clear();
         cacheSection("", config);
+        rebuildSnapshot();
+    }
+    
+    private void rebuildSnapshot() {
+        try {
+            snapshot = ConfigSnapshot.from(config, logger);
+        } catch (Exception e) {
+            logger.warning("Failed to build configuration snapshot: " + e.getMessage());
+        }
+    }
+    
+    public ConfigSnapshot getSnapshot() {
+        ConfigSnapshot current = snapshot;
+        if (current == null) {
+            rebuildSnapshot();
+            current = snapshot;
+        }
+        return current;
     }
     
     private void cacheSection(String prefix, ConfigurationSection section) {
@@ -489,11 +509,25 @@ public class ConfigManager {
         setDefaultIfMissing("database.sqlite.maintenance.enable-vacuum", true);
         setDefaultIfMissing("database.sqlite.maintenance.vacuum-timeout", 10000);
         setDefaultIfMissing("database.sqlite.maintenance.maintenance-interval", 60);
+        setDefaultIfMissing("database.sqlite.read-connections", 2);
+        setDefaultIfMissing("database.sqlite.max-write-batch", 100);
         setDefaultIfMissing("database.mysql.host", "localhost");
         setDefaultIfMissing("database.mysql.port", 3306);
         setDefaultIfMissing("database.mysql.database", "edencorrections");
         setDefaultIfMissing("database.mysql.username", "username");
         setDefaultIfMissing("database.mysql.password", "password");
+        setDefaultIfMissing("database.mysql.executor-threads", 10);
+        setDefaultIfMissing("database.mysql.pool.maximum-pool-size", 10);
+        setDefaultIfMissing("database.mysql.pool.minimum-idle", 2);
+        setDefaultIfMissing("database.mysql.pool.connection-timeout", 30000);
+        setDefaultIfMissing("database.mysql.pool.idle-timeout", 600000);
+        setDefaultIfMissing("database.mysql.pool.max-lifetime", 1800000);
+        setDefaultIfMissing("database.mysql.pool.leak-detection-threshold", 60000);
+        setDefaultIfMissing("database.mysql.statements.cache-prep-stmts", true);
+        setDefaultIfMissing("database.mysql.statements.prep-stmt-cache-size", 250);
+        setDefaultIfMissing("database.mysql.statements.prep-stmt-cache-sql-limit", 2048);
+        setDefaultIfMissing("database.mysql.statements.use-server-prep-stmts", true);
+        setDefaultIfMissing("database.mysql.statements.rewrite-batched-statements", true);
         
         
         setDefaultIfMissing("performance.spam-control.duty-system.disable-continuous-messages", true);
@@ -513,8 +547,22 @@ public class ConfigManager {
         setDefaultIfMissing("performance.caching.message-cache-size", 1000);
         setDefaultIfMissing("performance.caching.enable-database-cache", true);
         setDefaultIfMissing("performance.caching.database-cache-size", 500);
+        setDefaultIfMissing("performance.caching.database-cache-ttl", 300);
         setDefaultIfMissing("performance.caching.cache-cleanup-interval", 300);
         setDefaultIfMissing("performance.caching.database-cleanup-interval", 600);
+        setDefaultIfMissing("performance.write-behind.enabled", true);
+        setDefaultIfMissing("performance.write-behind.flush-interval", 5);
+        setDefaultIfMissing("performance.write-behind.max-batch-size", 200);
+        setDefaultIfMissing("performance.leaderboards.enabled", true);
+        setDefaultIfMissing("performance.leaderboards.size", 10);
+        setDefaultIfMissing("performance.leaderboards.refresh-interval", 60);
+        setDefaultIfMissing("performance.stats-journal.enabled", true);
+        setDefaultIfMissing("performance.stats-journal.flush-interval", 10);
+        setDefaultIfMissing("performance.stats-journal.max-batch-size", 1000);
+        setDefaultIfMissing("performance.stats-journal.max-buffer", 20000);
+        setDefaultIfMissing("performance.stats-journal.retention.raw-days", 30);
+        setDefaultIfMissing("performance.stats-journal.retention.hourly-days", 90);
+        setDefaultIfMissing("performance.stats-journal.retention.daily-days", 730);
         
         
         
@@ -921,8 +969,27 @@ public class ConfigManager {
         
         validatePositiveInt("performance.caching.message-cache-size", "Message cache size");
         validatePositiveInt("performance.caching.database-cache-size", "Database cache size");
+        validatePositiveInt("performance.caching.database-cache-ttl", "Database cache TTL");
         validatePositiveInt("performance.caching.cache-cleanup-interval", "Cache cleanup interval");
         validatePositiveInt("performance.caching.database-cleanup-interval", "Database cleanup interval");
+        validatePositiveInt("performance.write-behind.flush-interval", "Write-behind flush interval");
+        validatePositiveInt("performance.write-behind.max-batch-size", "Write-behind max batch size");
+        validatePositiveInt("performance.leaderboards.size", "Leaderboard size");
+        validatePositiveInt("performance.leaderboards.refresh-interval", "Leaderboard refresh interval");
+        validatePositiveInt("performance.stats-journal.flush-interval", "Stats journal flush interval");
+        validatePositiveInt("performance.stats-journal.max-batch-size", "Stats journal max batch size");
+        validatePositiveInt("performance.stats-journal.max-buffer", "Stats journal max buffer");
+        validatePositiveInt("performance.stats-journal.retention.raw-days", "Stats journal raw retention");
+        validatePositiveInt("performance.stats-journal.retention.hourly-days", "Stats journal hourly retention");
+        validatePositiveInt("performance.stats-journal.retention.daily-days", "Stats journal daily retention");
+        validatePositiveInt("database.sqlite.read-connections", "SQLite read connections");
+        validatePositiveInt("database.sqlite.max-write-batch", "SQLite max write batch");
+        validatePositiveInt("database.mysql.executor-threads", "MySQL executor threads");
+        validatePositiveInt("database.mysql.pool.maximum-pool-size", "MySQL maximum pool size");
+        validateNonNegativeInt("database.mysql.pool.minimum-idle", "MySQL minimum idle connections");
+        validatePositiveInt("database.mysql.pool.connection-timeout", "MySQL connection timeout");
+        validateNonNegativeInt("database.mysql.pool.leak-detection-threshold", "MySQL leak detection threshold");
+        validatePositiveInt("database.mysql.statements.prep-stmt-cache-size", "MySQL prepared statement cache size");
     }
     
     private void validateIntegrationSettings() {
@@ -1147,11 +1214,11 @@ public class ConfigManager {
     }
     
     public int getMaxChaseDistance() {
-        return config.getInt("chase-system.max-distance", 100);
+        return getSnapshot().getMaxChaseDistance();
     }
     
     public int getChaseWarningDistance() {
-        return config.getInt("chase-system.warning-distance", 20);
+        return getSnapshot().getChaseWarningDistance();
     }
     
     public int getMaxConcurrentChases() {
@@ -1169,23 +1236,7 @@ public class ConfigManager {
     }
     
     public String[] getChaseRestrictedAreas() {
-        String path = "chase-system.restrictions.restricted-areas";
-        if (config.isList(path)) {
-            java.util.List<String> list = config.getStringList(path);
-            return list.stream().filter(s -> s != null && !s.trim().isEmpty()).toArray(String[]::new);
-        }
-        String areas = config.getString(path, "");
-        if (areas == null || areas.trim().isEmpty()) {
-            return new String[0];
-        }
-        String[] split = areas.split(",");
-        java.util.List<String> normalized = new java.util.ArrayList<>();
-        for (String s : split) {
-            if (s != null && !s.trim().isEmpty()) {
-                normalized.add(s.trim());
-            }
-        }
-        return normalized.toArray(new String[0]);
+        return getSnapshot().getChaseRestrictedAreas();
     }
 
     
@@ -1207,6 +1258,7 @@ public class ConfigManager {
         if (added) {
             config.set(path, new java.util.ArrayList<>(set));
             plugin.saveConfig();
+            rebuildSnapshot();
         }
         return added;
     }
@@ -1237,6 +1289,7 @@ public class ConfigManager {
         if (removed) {
             config.set(path, list);
             plugin.saveConfig();
+            rebuildSnapshot();
         }
         return removed;
     }
@@ -1350,6 +1403,54 @@ public class ConfigManager {
         return config.getString("database.mysql.password", "password");
     }
     
+    public int getMySQLExecutorThreads() {
+        return Math.max(1, config.getInt("database.mysql.executor-threads", 10));
+    }
+    
+    public int getMySQLMaximumPoolSize() {
+        return Math.max(1, config.getInt("database.mysql.pool.maximum-pool-size", 10));
+    }
+    
+    public int getMySQLMinimumIdle() {
+        return Math.max(0, Math.min(config.getInt("database.mysql.pool.minimum-idle", 2), getMySQLMaximumPoolSize()));
+    }
+    
+    public long getMySQLConnectionTimeout() {
+        return config.getLong("database.mysql.pool.connection-timeout", 30000L);
+    }
+    
+    public long getMySQLIdleTimeout() {
+        return config.getLong("database.mysql.pool.idle-timeout", 600000L);
+    }
+    
+    public long getMySQLMaxLifetime() {
+        return config.getLong("database.mysql.pool.max-lifetime", 1800000L);
+    }
+    
+    public long getMySQLLeakDetectionThreshold() {
+        return config.getLong("database.mysql.pool.leak-detection-threshold", 60000L);
+    }
+    
+    public boolean isMySQLCachePrepStmts() {
+        return config.getBoolean("database.mysql.statements.cache-prep-stmts", true);
+    }
+    
+    public int getMySQLPrepStmtCacheSize() {
+        return config.getInt("database.mysql.statements.prep-stmt-cache-size", 250);
+    }
+    
+    public int getMySQLPrepStmtCacheSqlLimit() {
+        return config.getInt("database.mysql.statements.prep-stmt-cache-sql-limit", 2048);
+    }
+    
+    public boolean isMySQLUseServerPrepStmts() {
+        return config.getBoolean("database.mysql.statements.use-server-prep-stmts", true);
+    }
+    
+    public boolean isMySQLRewriteBatchedStatements() {
+        return config.getBoolean("database.mysql.statements.rewrite-batched-statements", true);
+    }
+    
     
     public boolean isDatabaseMaintenanceEnabled() {
         return config.getBoolean("database.sqlite.maintenance.enabled", true);
@@ -1367,6 +1468,14 @@ public class ConfigManager {
         return config.getInt("database.sqlite.maintenance.maintenance-interval", 60);
     }
     
+    public int getSQLiteReadConnections() {
+        return Math.max(1, config.getInt("database.sqlite.read-connections", 2));
+    }
+    
+    public int getSQLiteMaxWriteBatch() {
+        return Math.max(1, config.getInt("database.sqlite.max-write-batch", 100));
+    }
+    
     
     
     
@@ -1463,25 +1572,11 @@ public class ConfigManager {
     }
     
     public Map<String, String> getRankMappings() {
-        Map<String, String> mappings = new HashMap<>();
-        ConfigurationSection section = config.getConfigurationSection("guard-system.rank-mappings");
-        if (section != null) {
-            for (String key : section.getKeys(false)) {
-                mappings.put(key, section.getString(key));
-            }
-        }
-        return mappings;
+        return getSnapshot().getRankMappings();
     }
     
     public Map<String, String> getKitMappings() {
-        Map<String, String> mappings = new HashMap<>();
-        ConfigurationSection section = config.getConfigurationSection("guard-system.kit-mappings");
-        if (section != null) {
-            for (String key : section.getKeys(false)) {
-                mappings.put(key, section.getString(key));
-            }
-        }
-        return mappings;
+        return getSnapshot().getKitMappings();
     }
     
     public String getKitForRank(String rank) {
@@ -1546,6 +1641,10 @@ public class ConfigManager {
         return config.getString("contraband-system.types." + type + ".items", "");
     }
     
+    public java.util.List<Material> getContrabandMaterials(String type) {
+        return getSnapshot().getContrabandMaterials(type);
+    }
+    
     public String getContrabandDescription(String type) {
         return config.getString("contraband-system.types." + type + ".description", type);
     }
@@ -1595,53 +1694,24 @@ public class ConfigManager {
     
     
     public String[] getNoChaseZones() {
-        String zones = config.getString("regions.no-chase-zones", "safezon");
-        return zones.split(",");
+        return getSnapshot().getNoChaseZones();
     }
     
     public String[] getDutyRequiredZones() {
-        String zones = config.getString("regions.duty-required-zones", "guard_lockers,guard_lockers2,guardplotstairs");
-        return zones.split(",");
+        return getSnapshot().getDutyRequiredZones();
     }
 
     public String[] getDutyRestrictedZones() {
-        String listPath = "regions.duty-restricted-zones";
-        if (config.isList(listPath)) {
-            java.util.List<String> list = config.getStringList(listPath);
-            return list.stream().filter(s -> s != null && !s.trim().isEmpty()).toArray(String[]::new);
-        }
-        String zones = config.getString(listPath, "");
-        if (zones == null || zones.trim().isEmpty()) return new String[]{};
-        return zones.split(",");
+        return getSnapshot().getDutyRestrictedZones();
     }
 
     public String[] getDutyDisallowedZonesForRank(String rank) {
-        if (rank == null || rank.trim().isEmpty()) return new String[]{};
-        String path = "regions.duty-disallowed-zones-by-rank." + rank.toLowerCase();
-        if (config.isList(path)) {
-            java.util.List<String> list = config.getStringList(path);
-            return list.stream().filter(s -> s != null && !s.trim().isEmpty()).toArray(String[]::new);
-        }
-        String zones = config.getString(path, "");
-        if (zones == null || zones.trim().isEmpty()) return new String[]{};
-        return zones.split(",");
+        return getSnapshot().getDutyDisallowedZonesForRank(rank);
     }
 
     
     public String[] getBreakZones() {
-        String listPath = "regions.break-zones";
-        if (config.isList(listPath)) {
-            java.util.List<String> list = config.getStringList(listPath);
-            return list.stream().filter(s -> s != null && !s.trim().isEmpty()).toArray(String[]::new);
-        }
-        String zones = config.getString(listPath, null);
-        if (zones == null || zones.trim().isEmpty()) {
-            
-            String legacy = config.getString("regions.wanted-exempt-zones", "");
-            if (legacy == null || legacy.trim().isEmpty()) return new String[]{};
-            return legacy.split(",");
-        }
-        return zones.split(",");
+        return getSnapshot().getBreakZones();
     }
 
     
@@ -1719,6 +1789,10 @@ public class ConfigManager {
         return config.getInt("performance.caching.database-cache-size", 500);
     }
     
+    public int getDatabaseCacheTtlSeconds() {
+        return Math.max(1, config.getInt("performance.caching.database-cache-ttl", 300));
+    }
+    
     public int getCacheCleanupInterval() {
         return config.getInt("performance.caching.cache-cleanup-interval", 300);
     }
@@ -1727,6 +1801,58 @@ public class ConfigManager {
         return config.getInt("performance.caching.database-cleanup-interval", 600);
     }
     
+    public boolean isWriteBehindEnabled() {
+        return config.getBoolean("performance.write-behind.enabled", true);
+    }
+    
+    public int getWriteBehindFlushInterval() {
+        return config.getInt("performance.write-behind.flush-interval", 5);
+    }
+    
+    public int getWriteBehindMaxBatchSize() {
+        return config.getInt("performance.write-behind.max-batch-size", 200);
+    }
+    
+    public boolean isLeaderboardsEnabled() {
+        return config.getBoolean("performance.leaderboards.enabled", true);
+    }
+    
+    public int getLeaderboardSize() {
+        return Math.max(1, Math.min(100, config.getInt("performance.leaderboards.size", 10)));
+    }
+    
+    public int getLeaderboardRefreshInterval() {
+        return Math.max(5, config.getInt("performance.leaderboards.refresh-interval", 60));
+    }
+    
+    public boolean isStatsJournalEnabled() {
+        return config.getBoolean("performance.stats-journal.enabled", true);
+    }
+    
+    public int getStatsJournalFlushInterval() {
+        return Math.max(1, config.getInt("performance.stats-journal.flush-interval", 10));
+    }
+    
+    public int getStatsJournalMaxBatchSize() {
+        return Math.max(1, config.getInt("performance.stats-journal.max-batch-size", 1000));
+    }
+    
+    public int getStatsJournalMaxBuffer() {
+        return Math.max(1, config.getInt("performance.stats-journal.max-buffer", 20000));
+    }
+    
+    public int getStatsJournalRawRetentionDays() {
+        return Math.max(1, config.getInt("performance.stats-journal.retention.raw-days", 30));
+    }
+    
+    public int getStatsJournalHourlyRetentionDays() {
+        return Math.max(1, config.getInt("performance.stats-journal.retention.hourly-days", 90));
+    }
+    
+    public int getStatsJournalDailyRetentionDays() {
+        return Math.max(getStatsJournalHourlyRetentionDays(), config.getInt("performance.stats-journal.retention.daily-days", 730));
+    }
+    
     
     public boolean isPlaceholderAPIEnabled() {
         return config.getBoolean("integrations.placeholderapi.enabled", true);
@@ -1744,6 +1870,22 @@ public class ConfigManager {
         return config.getBoolean("integrations.cmi.kits-enabled", true);
     }
     
+    public java.util.List<String> getEconomyAsyncSafeProviders() {
+        return config.getStringList("integration.economy.async-safe-providers");
+    }
+    
+    public int getEconomyExecutorThreads() {
+        return Math.max(1, config.getInt("integration.economy.executor-threads", 2));
+    }
+    
+    public long getEconomyBalanceCacheTtlMillis() {
+        return Math.max(0L, config.getLong("integration.economy.balance-cache-ttl-ms", 5000L));
+    }
+    
+    public int getEconomyMainThreadBatchSize() {
+        return Math.max(1, config.getInt("integration.economy.main-thread-batch-size", 50));
+    }
+    
     
     
     public boolean isGuardImmunityEnabled() {
@@ -2220,6 +2362,7 @@ public class ConfigManager {
     public void setConfigValue(String path, Object value) {
         config.set(path, value);
         plugin.saveConfig();
+        rebuildSnapshot();
     }
     
     public Object getConfigValue(String path, Object defaultValue) {
@@ -0,0 +1,274 @@
+package dev.lsdmc.edenCorrections.config;
+
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+
+public final class ConfigSnapshot {
+
+    private static final String[] EMPTY = new String[0];
+
+    private final long builtAt;
+
+
+    private final String[] noChaseZones;
+    private final String[] dutyRequiredZones;
+    private final String[] dutyRestrictedZones;
+    private final String[] breakZones;
+    private final String[] chaseRestrictedAreas;
+    private final Map<String, String[]> dutyDisallowedZonesByRank;
+
+
+    private final Set<String> noChaseZoneSet;
+    private final Set<String> dutyRequiredZoneSet;
+    private final Set<String> dutyRestrictedZoneSet;
+    private final Set<String> breakZoneSet;
+    private final Set<String> chaseRestrictedAreaSet;
+    private final Map<String, Set<String>> dutyDisallowedZoneSetsByRank;
+
+
+    private final Map<String, String> rankMappings;
+    private final Map<String, String> kitMappings;
+
+
+    private final Map<String, List<Material>> contrabandMaterials;
+
+
+    private final int maxChaseDistance;
+    private final int chaseWarningDistance;
+    private final double maxChaseDistanceSquared;
+    private final double chaseWarningDistanceSquared;
+
+
+    private final Map<String, RankRequirement> rankRequirements;
+    private final String rankupEconomyMode;
+    private final String rankupTokensPlaceholder;
+
+
+    public static final class RankRequirement {
+        private static final RankRequirement DEFAULT = new RankRequirement(10, 3600L, 0.0, 0);
+
+        private final int arrests;
+        private final long dutySeconds;
+        private final double money;
+        private final int tokens;
+
+        RankRequirement(int arrests, long dutySeconds, double money, int tokens) {
+            this.arrests = arrests;
+            this.dutySeconds = dutySeconds;
+            this.money = money;
+            this.tokens = tokens;
+        }
+
+        public int getArrests() { return arrests; }
+        public long getDutySeconds() { return dutySeconds; }
+        public double getMoney() { return money; }
+        public int getTokens() { return tokens; }
+    }
+
+    private ConfigSnapshot(FileConfiguration config, Logger logger) {
+        this.builtAt = System.currentTimeMillis();
+
+        this.noChaseZones = config.getString("regions.no-chase-zones", "safezon").split(",");
+        this.dutyRequiredZones = config.getString("regions.duty-required-zones", "guard_lockers,guard_lockers2,guardplotstairs").split(",");
+        this.dutyRestrictedZones = readZoneList(config, "regions.duty-restricted-zones");
+        this.breakZones = readBreakZones(config);
+        this.chaseRestrictedAreas = readChaseRestrictedAreas(config);
+
+        Map<String, String[]> disallowed = new HashMap<>();
+        Map<String, Set<String>> disallowedSets = new HashMap<>();
+        ConfigurationSection disallowedSection = config.getConfigurationSection("regions.duty-disallowed-zones-by-rank");
+        if (disallowedSection != null) {
+            for (String rank : disallowedSection.getKeys(false)) {
+                String[] zones = readZoneList(config, "regions.duty-disallowed-zones-by-rank." + rank);
+                disallowed.put(rank, zones);
+                disallowedSets.put(rank, toLowerSet(zones));
+            }
+        }
+        this.dutyDisallowedZonesByRank = Collections.unmodifiableMap(disallowed);
+        this.dutyDisallowedZoneSetsByRank = Collections.unmodifiableMap(disallowedSets);
+
+        this.noChaseZoneSet = toLowerSet(noChaseZones);
+        this.dutyRequiredZoneSet = toLowerSet(dutyRequiredZones);
+        this.dutyRestrictedZoneSet = toLowerSet(dutyRestrictedZones);
+        this.breakZoneSet = toLowerSet(breakZones);
+        this.chaseRestrictedAreaSet = toLowerSet(chaseRestrictedAreas);
+
+        this.rankMappings = readStringMap(config, "guard-system.rank-mappings");
+        this.kitMappings = readStringMap(config, "guard-system.kit-mappings");
+
+        Map<String, List<Material>> materials = new HashMap<>();
+        ConfigurationSection contrabandTypes = config.getConfigurationSection("contraband-system.types");
+        if (contrabandTypes != null) {
+            for (String type : contrabandTypes.getKeys(false)) {
+                String items = config.getString("contraband-system.types." + type + ".items", "");
+                materials.put(type, parseMaterials(items, logger));
+            }
+        }
+        this.contrabandMaterials = Collections.unmodifiableMap(materials);
+
+        this.maxChaseDistance = config.getInt("chase-system.max-distance", 100);
+        this.chaseWarningDistance = config.getInt("chase-system.warning-distance", 20);
+        this.maxChaseDistanceSquared = (double) maxChaseDistance * maxChaseDistance;
+        this.chaseWarningDistanceSquared = (double) chaseWarningDistance * chaseWarningDistance;
+
+        Map<String, RankRequirement> requirements = new HashMap<>();
+        ConfigurationSection requirementSection = config.getConfigurationSection("progression.rankup.requirements");
+        if (requirementSection != null) {
+            for (String rank : requirementSection.getKeys(false)) {
+                String path = "progression.rankup.requirements." + rank;
+                requirements.put(rank.toLowerCase(), new RankRequirement(
+                    config.getInt(path + ".arrests", 10),
+                    config.getLong(path + ".duty_time_seconds", 3600L),
+                    config.getDouble(path + ".vault_money", 0.0),
+                    config.getInt(path + ".et_tokens", 0)));
+            }
+        }
+        this.rankRequirements = Collections.unmodifiableMap(requirements);
+        this.rankupEconomyMode = config.getString("progression.rankup.economy-mode", "vault");
+        this.rankupTokensPlaceholder = config.getString("progression.rankup.et.placeholder", "%coinsengine_balance_ecotokens%");
+    }
+
+    public static ConfigSnapshot from(FileConfiguration config, Logger logger) {
+        return new ConfigSnapshot(config, logger);
+    }
+
+
+
+    private static String[] readZoneList(FileConfiguration config, String path) {
+        if (config.isList(path)) {
+            List<String> list = config.getStringList(path);
+            return list.stream().filter(s -> s != null && !s.trim().isEmpty()).toArray(String[]::new);
+        }
+        String zones = config.getString(path, "");
+        if (zones == null || zones.trim().isEmpty()) return EMPTY;
+        return zones.split(",");
+    }
+
+    private static String[] readBreakZones(FileConfiguration config) {
+        String listPath = "regions.break-zones";
+        if (config.isList(listPath)) {
+            List<String> list = config.getStringList(listPath);
+            return list.stream().filter(s -> s != null && !s.trim().isEmpty()).toArray(String[]::new);
+        }
+        String zones = config.getString(listPath, null);
+        if (zones == null || zones.trim().isEmpty()) {
+
+            String legacy = config.getString("regions.wanted-exempt-zones", "");
+            if (legacy == null || legacy.trim().isEmpty()) return EMPTY;
+            return legacy.split(",");
+        }
+        return zones.split(",");
+    }
+
+    private static String[] readChaseRestrictedAreas(FileConfiguration config) {
+        String path = "chase-system.restrictions.restricted-areas";
+        if (config.isList(path)) {
+            List<String> list = config.getStringList(path);
+            return list.stream().filter(s -> s != null && !s.trim().isEmpty()).toArray(String[]::new);
+        }
+        String areas = config.getString(path, "");
+        if (areas == null || areas.trim().isEmpty()) {
+            return EMPTY;
+        }
+        List<String> normalized = new ArrayList<>();
+        for (String s : areas.split(",")) {
+            if (s != null && !s.trim().isEmpty()) {
+                normalized.add(s.trim());
+            }
+        }
+        return normalized.toArray(EMPTY);
+    }
+
+    private static Map<String, String> readStringMap(FileConfiguration config, String path) {
+        Map<String, String> mappings = new HashMap<>();
+        ConfigurationSection section = config.getConfigurationSection(path);
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                mappings.put(key, section.getString(key));
+            }
+        }
+        return Collections.unmodifiableMap(mappings);
+    }
+
+    private static Set<String> toLowerSet(String[] zones) {
+        if (zones.length == 0) return Collections.emptySet();
+        Set<String> set = new HashSet<>();
+        for (String zone : zones) {
+            if (zone != null && !zone.trim().isEmpty()) {
+                set.add(zone.trim().toLowerCase());
+            }
+        }
+        return Collections.unmodifiableSet(set);
+    }
+
+    private static List<Material> parseMaterials(String items, Logger logger) {
+        if (items == null || items.trim().isEmpty()) return Collections.emptyList();
+        List<Material> materials = new ArrayList<>();
+        for (String item : items.split(",")) {
+            try {
+                materials.add(Material.valueOf(item.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Invalid material in contraband config: " + item);
+            }
+        }
+        return Collections.unmodifiableList(materials);
+    }
+
+
+
+    public long getBuiltAt() { return builtAt; }
+
+    public RankRequirement getRankRequirement(String rank) {
+        if (rank == null) return RankRequirement.DEFAULT;
+        return rankRequirements.getOrDefault(rank.toLowerCase(), RankRequirement.DEFAULT);
+    }
+
+    public String getRankupEconomyMode() { return rankupEconomyMode; }
+    public String getRankupTokensPlaceholder() { return rankupTokensPlaceholder; }
+
+    public String[] getNoChaseZones() { return noChaseZones; }
+    public String[] getDutyRequiredZones() { return dutyRequiredZones; }
+    public String[] getDutyRestrictedZones() { return dutyRestrictedZones; }
+    public String[] getBreakZones() { return breakZones; }
+    public String[] getChaseRestrictedAreas() { return chaseRestrictedAreas; }
+
+    public String[] getDutyDisallowedZonesForRank(String rank) {
+        if (rank == null || rank.trim().isEmpty()) return EMPTY;
+        return dutyDisallowedZonesByRank.getOrDefault(rank.toLowerCase(), EMPTY);
+    }
+
+    public Set<String> getNoChaseZoneSet() { return noChaseZoneSet; }
+    public Set<String> getDutyRequiredZoneSet() { return dutyRequiredZoneSet; }
+    public Set<String> getDutyRestrictedZoneSet() { return dutyRestrictedZoneSet; }
+    public Set<String> getBreakZoneSet() { return breakZoneSet; }
+    public Set<String> getChaseRestrictedAreaSet() { return chaseRestrictedAreaSet; }
+
+    public Set<String> getDutyDisallowedZoneSetForRank(String rank) {
+        if (rank == null || rank.trim().isEmpty()) return Collections.emptySet();
+        return dutyDisallowedZoneSetsByRank.getOrDefault(rank.toLowerCase(), Collections.emptySet());
+    }
+
+    public Map<String, String> getRankMappings() { return rankMappings; }
+    public Map<String, String> getKitMappings() { return kitMappings; }
+
+    public int getMaxChaseDistance() { return maxChaseDistance; }
+    public int getChaseWarningDistance() { return chaseWarningDistance; }
+    public double getMaxChaseDistanceSquared() { return maxChaseDistanceSquared; }
+    public double getChaseWarningDistanceSquared() { return chaseWarningDistanceSquared; }
+
+    public List<Material> getContrabandMaterials(String type) {
+        if (type == null) return Collections.emptyList();
+        return contrabandMaterials.getOrDefault(type, Collections.emptyList());
+    }
+}
@@ -1,14 +1,20 @@
 package dev.lsdmc.edenCorrections.events;
 
 import dev.lsdmc.edenCorrections.EdenCorrections;
+import dev.lsdmc.edenCorrections.config.ConfigSnapshot;
 import dev.lsdmc.edenCorrections.models.PlayerData;
+import dev.lsdmc.edenCorrections.models.PrefetchedInventories;
 import dev.lsdmc.edenCorrections.managers.MessageManager;
+import dev.lsdmc.edenCorrections.utils.RegionTransitionTracker;
+import dev.lsdmc.edenCorrections.utils.RegionTransitionTracker.RegionTransition;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
@@ -33,11 +39,13 @@ import org.bukkit.Location;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.event.inventory.InventoryAction;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public class GuardEventHandler implements Listener {
     
     private final EdenCorrections plugin;
     private final Logger logger;
+    private final RegionTransitionTracker regionTracker;
     
     
     private final List<String> blockedChaseCommands = Arrays.asList(
@@ -47,6 +55,11 @@ public class GuardEventHandler implements Listener {
     public GuardEventHandler(EdenCorrections plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
+        this.regionTracker = new RegionTransitionTracker(plugin);
+    }
+    
+    public RegionTransitionTracker getRegionTracker() {
+        return regionTracker;
     }
     
     
@@ -93,14 +106,43 @@ public class GuardEventHandler implements Listener {
         return true;
     }
     
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        
+        
+        plugin.getDataManager().prefetchPlayer(event.getUniqueId(), event.getName());
+    }
+    
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
         
         
-        PlayerData data = plugin.getDataManager().getOrCreatePlayerData(player.getUniqueId(), player.getName());
+        plugin.getDataManager().pinPlayer(player.getUniqueId());
+        plugin.getDutyManager().markInventoryRestorePending(player.getUniqueId());
+        CompletableFuture<PlayerData> load = plugin.getDataManager().awaitPlayerData(player.getUniqueId(), player.getName());
+        if (load.isDone() && !load.isCompletedExceptionally()) {
+            handleLoadedPlayerJoin(player, load.join());
+            return;
+        }
         
         
+        load.whenComplete((data, throwable) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            if (throwable != null || !player.isOnline()) {
+                plugin.getDutyManager().clearInventoryRestorePending(player.getUniqueId());
+                if (throwable != null) {
+                    logger.severe("Could not load stored data for " + player.getName() + " - join handling skipped: " + throwable.getMessage());
+                }
+                return;
+            }
+            handleLoadedPlayerJoin(player, data);
+        }));
+    }
+    
+    private void handleLoadedPlayerJoin(Player player, PlayerData data) {
         if (data.hasExpiredWanted()) {
             data.clearWantedLevel();
             plugin.getDataManager().savePlayerData(data);
@@ -121,7 +163,35 @@ public class GuardEventHandler implements Listener {
         UUID playerId = player.getUniqueId();
         
         
-        boolean hasStoredInventory = plugin.getDataManager().hasStoredInventory(playerId);
+        plugin.getDutyManager().markInventoryRestorePending(playerId);
+        plugin.getDataManager().takePrefetchedInventories(playerId).whenComplete((inventories, throwable) -> {
+            if (throwable != null) {
+                logger.warning("Failed to load stored inventories for " + player.getName() + ": " + throwable.getMessage());
+            }
+            
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                plugin.getDutyManager().clearInventoryRestorePending(playerId);
+                if (!player.isOnline()) {
+                    return;
+                }
+                
+                PrefetchedInventories stored = inventories != null ? inventories : PrefetchedInventories.empty(playerId);
+                plugin.getDutyManager().seedStoredInventories(stored);
+                PlayerData current = plugin.getDataManager().getPlayerData(playerId);
+                applyInventoryOnJoin(player, current != null ? current : data);
+                plugin.getDataManager().migrateLegacyInventories(stored,
+                    plugin.getDutyManager().holdsStoredInventory(playerId, stored.getOffDutyData()),
+                    plugin.getDutyManager().holdsStoredInventory(playerId, stored.getOnDutyData()));
+                plugin.getDutyManager().getGuardRoster().refresh(player);
+            });
+        });
+    }
+    
+    private void applyInventoryOnJoin(Player player, PlayerData data) {
+        UUID playerId = player.getUniqueId();
+        
+        
+        boolean hasStoredInventory = plugin.getDutyManager().hasStoredInventoryForRestoration(player);
         
         if (data.isOnDuty()) {
             
@@ -147,11 +217,8 @@ public class GuardEventHandler implements Listener {
                 }
                 
                 
-                if (hasStoredInventory) {
-                    plugin.getDataManager().deletePlayerInventory(playerId);
-                    if (plugin.getConfigManager().isDebugMode()) {
-                        logger.info("DEBUG: Cleared off-duty inventory for " + player.getName() + " (staying on duty)");
-                    }
+                if (hasStoredInventory && plugin.getConfigManager().isDebugMode()) {
+                    logger.info("DEBUG: Keeping off-duty inventory for " + player.getName() + " until they go off duty");
                 }
                 
                 
@@ -170,7 +237,7 @@ public class GuardEventHandler implements Listener {
                     long sessionDutyTime = 0;
                     if (data.getDutyStartTime() > 0) {
                         sessionDutyTime = System.currentTimeMillis() - data.getDutyStartTime();
-                        data.addDutyTime(sessionDutyTime);
+                        plugin.getDataManager().recordDutyTime(data, sessionDutyTime);
                     }
                     
                     
@@ -235,6 +302,10 @@ public class GuardEventHandler implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
+        plugin.getPlaceholderSnapshots().invalidate(player.getUniqueId());
+        if (plugin.getVaultEconomyManager() != null) {
+            plugin.getVaultEconomyManager().invalidateBalance(player.getUniqueId());
+        }
         
         
         if (plugin.getDutyManager().isSubjectToGuardRestrictions(player) && plugin.getDutyManager().isOnDuty(player)) {
@@ -245,7 +316,7 @@ public class GuardEventHandler implements Listener {
                     long currentTime = System.currentTimeMillis();
                     if (data.getDutyStartTime() > 0) {
                         long sessionDutyTime = currentTime - data.getDutyStartTime();
-                        data.addDutyTime(sessionDutyTime);
+                        plugin.getDataManager().recordDutyTime(data, sessionDutyTime);
                         
                         if (plugin.getConfigManager().isDebugMode()) {
                             logger.info("DEBUG: Guard " + player.getName() + " logged off while on duty - tracked " + 
@@ -309,12 +380,15 @@ public class GuardEventHandler implements Listener {
         
         
         cleanupPlayerSystems(player);
+        plugin.getDutyManager().getGuardRoster().remove(player.getUniqueId());
         
         
         PlayerData data = plugin.getDataManager().getPlayerData(player.getUniqueId());
         if (data != null) {
             plugin.getDataManager().savePlayerData(data);
         }
+        plugin.getDataManager().flushPlayerData(player.getUniqueId());
+        plugin.getDataManager().unpinPlayer(player.getUniqueId());
         
         if (plugin.getConfigManager().isDebugMode()) {
             logger.info("Player " + player.getName() + " left - Data saved and systems cleaned up");
@@ -339,6 +413,9 @@ public class GuardEventHandler implements Listener {
         
         
         plugin.getCMIIntegration().cleanupPlayerAttachments(player);
+        
+        
+        regionTracker.clearPlayer(player.getUniqueId());
     }
     
     @EventHandler(priority = EventPriority.HIGH)
@@ -764,6 +841,34 @@ public class GuardEventHandler implements Listener {
         }
     }
     
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onPendingRestoreInventoryClick(InventoryClickEvent event) {
+        if (event.getWhoClicked() instanceof Player && plugin.getDutyManager().isInventoryRestorePending((Player) event.getWhoClicked())) {
+            event.setCancelled(true);
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onPendingRestoreDrop(PlayerDropItemEvent event) {
+        if (plugin.getDutyManager().isInventoryRestorePending(event.getPlayer())) {
+            event.setCancelled(true);
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onPendingRestorePickup(EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof Player && plugin.getDutyManager().isInventoryRestorePending((Player) event.getEntity())) {
+            event.setCancelled(true);
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPendingRestoreInteract(PlayerInteractEvent event) {
+        if (plugin.getDutyManager().isInventoryRestorePending(event.getPlayer())) {
+            event.setCancelled(true);
+        }
+    }
+    
     @EventHandler(priority = EventPriority.HIGH)
     public void onInventoryClick(InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof Player)) return;
@@ -819,7 +924,7 @@ public class GuardEventHandler implements Listener {
         }
     }
     
-    @EventHandler(priority = EventPriority.MONITOR)
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
         Player player = event.getPlayer();
         
@@ -835,63 +940,41 @@ public class GuardEventHandler implements Listener {
         }
         
         
-        if (plugin.getDutyManager().isSubjectToGuardRestrictions(player) && plugin.getDutyManager().isOnDuty(player)) {
-            Location from = event.getFrom();
-            Location to = event.getTo();
-            if (to != null && !isInBreakZone(player)) {
+        RegionTransition transition = regionTracker.track(player, event.getFrom(), event.getTo());
+        
+        
+        if (transition != null && transition.hasEntered()) {
+            boolean subjectToRestrictions = plugin.getDutyManager().isSubjectToGuardRestrictions(player);
+            boolean onDuty = plugin.getDutyManager().isOnDuty(player);
+            ConfigSnapshot snapshot = plugin.getConfigManager().getSnapshot();
+            
+            if (subjectToRestrictions && onDuty) {
                 
-                String[] restricted = plugin.getConfigManager().getDutyRestrictedZones();
-                for (String region : restricted) {
-                    boolean entering = plugin.getWorldGuardUtils().isLocationInRegion(to, region) &&
-                                       !plugin.getWorldGuardUtils().isLocationInRegion(from, region);
-                    if (entering) {
-                        event.setCancelled(true);
-                        plugin.getMessageManager().sendMessage(player, "restrictions.duty-region-entry");
-                        return;
-                    }
+                if (transition.enteredAny(snapshot.getDutyRestrictedZoneSet())) {
+                    event.setCancelled(true);
+                    plugin.getMessageManager().sendMessage(player, "restrictions.duty-region-entry");
+                    return;
                 }
 
                 
                 String guardRank = plugin.getDutyManager().getPlayerGuardRank(player);
-                String[] disallowed = plugin.getConfigManager().getDutyDisallowedZonesForRank(guardRank);
-                if (disallowed != null && disallowed.length > 0) {
-                    java.util.Set<String> toRegions = plugin.getWorldGuardUtils().getRegionsAtLocation(to);
-                    java.util.Set<String> fromRegions = plugin.getWorldGuardUtils().getRegionsAtLocation(from);
-                    java.util.Set<String> fromRegionsLower = new java.util.HashSet<>();
-                    for (String r : fromRegions) fromRegionsLower.add(r.toLowerCase());
-                    java.util.Set<String> disallowedLower = new java.util.HashSet<>();
-                    for (String d : disallowed) if (d != null) disallowedLower.add(d.trim().toLowerCase());
-                    for (String regionName : toRegions) {
-                        String regionLower = regionName.toLowerCase();
-                        boolean isNew = !fromRegionsLower.contains(regionLower);
-                        boolean isDisallowed = disallowedLower.contains(regionLower);
-                        if (isNew && isDisallowed) {
-                            if (plugin.getConfigManager().isDebugMode()) {
-                                logger.info("DEBUG: Blocking on-duty rank entry for " + player.getName() + " (" + guardRank + ") into region " + regionName);
-                            }
-                            event.setCancelled(true);
-                            plugin.getMessageManager().sendMessage(player, "restrictions.duty-rank-zone-entry");
-                            return;
-                        }
+                String blockedRegion = transition.firstEntered(snapshot.getDutyDisallowedZonesForRank(guardRank));
+                if (blockedRegion != null) {
+                    if (plugin.getConfigManager().isDebugMode()) {
+                        logger.info("DEBUG: Blocking on-duty rank entry for " + player.getName() + " (" + guardRank + ") into region " + blockedRegion);
                     }
+                    event.setCancelled(true);
+                    plugin.getMessageManager().sendMessage(player, "restrictions.duty-rank-zone-entry");
+                    return;
                 }
             }
-        }
 
-        
-        if (plugin.getDutyManager().isSubjectToGuardRestrictions(player) && !plugin.getDutyManager().isOnDuty(player)) {
-            Location from2 = event.getFrom();
-            Location to2 = event.getTo();
-            if (to2 != null && !isInBreakZone(player)) {
-                String[] required = plugin.getConfigManager().getDutyRequiredZones();
-                for (String region : required) {
-                    boolean enteringReq = plugin.getWorldGuardUtils().isLocationInRegion(to2, region) &&
-                                           !plugin.getWorldGuardUtils().isLocationInRegion(from2, region);
-                    if (enteringReq) {
-                        event.setCancelled(true);
-                        plugin.getMessageManager().sendMessage(player, "duty.restrictions.must-return-to-duty");
-                        return;
-                    }
+            
+            if (subjectToRestrictions && !onDuty) {
+                if (transition.enteredAny(snapshot.getDutyRequiredZoneSet())) {
+                    event.setCancelled(true);
+                    plugin.getMessageManager().sendMessage(player, "duty.restrictions.must-return-to-duty");
+                    return;
                 }
             }
         }
@@ -948,23 +1031,31 @@ public class GuardEventHandler implements Listener {
                     plugin.getMessageManager().sendMessage(player, "chase.blocking.area-entry");
                     return;
                 }
-            } else if (to != null) {
+            } else if (transition != null && transition.hasEntered()) {
                 
-                String[] restrictedAreas = plugin.getConfigManager().getChaseRestrictedAreas();
-                for (String area : restrictedAreas) {
-                    if (plugin.getWorldGuardUtils().isLocationInRegion(to, area) && 
-                        !plugin.getWorldGuardUtils().isLocationInRegion(from, area)) {
-                        
-                        event.setCancelled(true);
-                        plugin.getMessageManager().sendMessage(player, "chase.blocking.area-entry");
-                        return;
-                    }
+                if (transition.enteredAny(plugin.getConfigManager().getSnapshot().getChaseRestrictedAreaSet())) {
+                    event.setCancelled(true);
+                    plugin.getMessageManager().sendMessage(player, "chase.blocking.area-entry");
+                    return;
                 }
             }
         }
         
         
-        
+        if (event.getTo() != null && !RegionTransitionTracker.isSameBlock(event.getFrom(), event.getTo())) {
+            if (transition != null && transition.hasEntered()
+                    && transition.enteredAny(plugin.getConfigManager().getSnapshot().getChaseRestrictedAreaSet())) {
+                plugin.getChaseManager().handleRestrictedAreaEntry(player, event.getTo());
+            }
+            plugin.getChaseManager().handleChaseMovement(player, event.getTo());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleportComplete(PlayerTeleportEvent event) {
+        if (event.getTo() != null && plugin.getDataManager().isPlayerBeingChased(event.getPlayer().getUniqueId())) {
+            plugin.getChaseManager().handleRestrictedAreaEntry(event.getPlayer(), event.getTo());
+        }
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
@@ -1,8 +1,12 @@
 package dev.lsdmc.edenCorrections.integrations;
 
 import dev.lsdmc.edenCorrections.EdenCorrections;
+import dev.lsdmc.edenCorrections.config.ConfigSnapshot;
 import dev.lsdmc.edenCorrections.models.PlayerData;
 import dev.lsdmc.edenCorrections.models.ChaseData;
+import dev.lsdmc.edenCorrections.models.LeaderboardEntry;
+import dev.lsdmc.edenCorrections.models.LeaderboardStat;
+import dev.lsdmc.edenCorrections.managers.LeaderboardManager;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
@@ -37,6 +41,10 @@ public class EdenCorrectionsExpansion extends PlaceholderExpansion {
 
     @Override
     public String onRequest(OfflinePlayer offlinePlayer, String params) {
+        if (params.regionMatches(true, 0, "top_", 0, 4)) {
+            return handleTopPlaceholders(offlinePlayer, params.split("_"));
+        }
+
         if (offlinePlayer == null) {
             return null;
         }
@@ -50,6 +58,15 @@ public class EdenCorrectionsExpansion extends PlaceholderExpansion {
         if (data == null) {
             return null;
         }
+        return plugin.getPlaceholderSnapshots().resolve(player.getUniqueId(), data, data.getVersion(), params,
+            key -> resolvePlaceholder(player, key));
+    }
+
+    private String resolvePlaceholder(Player player, String params) {
+        PlayerData data = plugin.getDataManager().getPlayerData(player.getUniqueId());
+        if (data == null) {
+            return null;
+        }
 
         
         String[] parts = params.split("_");
@@ -218,6 +235,39 @@ public class EdenCorrectionsExpansion extends PlaceholderExpansion {
         }
     }
     
+    private String handleTopPlaceholders(OfflinePlayer offlinePlayer, String[] parts) {
+        LeaderboardManager leaderboards = plugin.getLeaderboardManager();
+        if (leaderboards == null || parts.length < 3) return null;
+
+        LeaderboardStat stat = LeaderboardStat.fromKey(parts[1]);
+        if (stat == null) return null;
+
+        if (parts[2].equalsIgnoreCase("position")) {
+            if (offlinePlayer == null) return null;
+            int position = leaderboards.getPosition(stat, offlinePlayer.getUniqueId());
+            return position > 0 ? String.valueOf(position) : "-";
+        }
+
+        if (parts.length < 4) return null;
+        int position;
+        try {
+            position = Integer.parseInt(parts[2]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        LeaderboardEntry entry = leaderboards.getEntry(stat, position);
+        switch (parts[3].toLowerCase()) {
+            case "name":
+                return entry != null ? entry.getPlayerName() : "None";
+            case "value":
+                if (entry == null) return "0";
+                return String.valueOf(stat == LeaderboardStat.DUTY_TIME ? entry.getValue() / 1000 : entry.getValue());
+            default:
+                return null;
+        }
+    }
+
     private String handleGuardsPlaceholders(String[] parts) {
         if (parts.length < 2) return null;
 
@@ -241,27 +291,11 @@ public class EdenCorrectionsExpansion extends PlaceholderExpansion {
     }
     
     private int getOnlineGuardsCount() {
-        int count = 0;
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            if (plugin.getDutyManager().hasGuardAccessOrBypass(player)) {
-                PlayerData data = plugin.getDataManager().getPlayerData(player.getUniqueId());
-                if (data != null && data.isOnDuty()) {
-                    count++;
-                }
-            }
-        }
-        return count;
+        return plugin.getDutyManager().getGuardRoster().size();
     }
     
     private int getActiveChasesCount() {
-        int count = 0;
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            PlayerData data = plugin.getDataManager().getPlayerData(player.getUniqueId());
-            if (data != null && data.isBeingChased()) {
-                count++;
-            }
-        }
-        return count;
+        return plugin.getDataManager().getActiveChaseCount();
     }
     
     
@@ -442,175 +476,137 @@ public class EdenCorrectionsExpansion extends PlaceholderExpansion {
         return rank != null && rank.equalsIgnoreCase("captain"); 
     }
     
+    private ConfigSnapshot.RankRequirement getNextRankRequirement(PlayerData data) {
+        String nextRank = getNextRank(data.getGuardRank());
+        return nextRank != null ? plugin.getConfigManager().getSnapshot().getRankRequirement(nextRank) : null;
+    }
+    
     private boolean canPromote(Player player, PlayerData data) {
         String currentRank = data.getGuardRank();
         if (currentRank == null || isMaxRank(currentRank)) return false;
         
-        String nextRank = getNextRank(currentRank);
-        if (nextRank == null) return false;
-        
+        ConfigSnapshot.RankRequirement req = getNextRankRequirement(data);
+        if (req == null) return false;
         
-        String configPath = "progression.rankup.requirements." + nextRank.toLowerCase();
-        int reqArrests = plugin.getConfigManager().getConfig().getInt(configPath + ".arrests", 10);
-        long reqDuty = plugin.getConfigManager().getConfig().getLong(configPath + ".duty_time_seconds", 3600L);
-        double reqMoney = plugin.getConfigManager().getConfig().getDouble(configPath + ".vault_money", 0.0);
-        int reqTokens = plugin.getConfigManager().getConfig().getInt(configPath + ".et_tokens", 0);
         
+        boolean canPromote = data.getTotalArrests() >= req.getArrests() && (data.getTotalDutyTime() / 1000) >= req.getDutySeconds();
         
-        boolean canPromote = data.getTotalArrests() >= reqArrests && (data.getTotalDutyTime() / 1000) >= reqDuty;
         
-        
-        String mode = plugin.getConfigManager().getConfig().getString("progression.rankup.economy-mode", "vault");
-        if ((mode.equals("vault") || mode.equals("both")) && reqMoney > 0.0) {
-            Double currentMoney = plugin.getVaultEconomyManager().getBalance(player).join();
-            canPromote = canPromote && currentMoney >= reqMoney;
+        String mode = plugin.getConfigManager().getSnapshot().getRankupEconomyMode();
+        if ((mode.equals("vault") || mode.equals("both")) && req.getMoney() > 0.0) {
+            canPromote = canPromote && getPlayerBalance(player) >= req.getMoney();
         }
-        if ((mode.equals("et") || mode.equals("both")) && reqTokens > 0) {
-            int currentTokens = getPlayerTokens(player);
-            canPromote = canPromote && currentTokens >= reqTokens;
+        if ((mode.equals("et") || mode.equals("both")) && req.getTokens() > 0) {
+            canPromote = canPromote && getPlayerTokens(player) >= req.getTokens();
         }
         
         return canPromote;
     }
     
     private String getArrestsProgress(Player player, PlayerData data) {
-        String nextRank = getNextRank(data.getGuardRank());
-        if (nextRank == null) return "0";
+        ConfigSnapshot.RankRequirement req = getNextRankRequirement(data);
+        if (req == null) return "0";
         
-        String configPath = "progression.rankup.requirements." + nextRank.toLowerCase();
-        int reqArrests = plugin.getConfigManager().getConfig().getInt(configPath + ".arrests", 10);
-        return String.valueOf(Math.min(data.getTotalArrests(), reqArrests));
+        return String.valueOf(Math.min(data.getTotalArrests(), req.getArrests()));
     }
     
     private String getDutyProgress(Player player, PlayerData data) {
-        String nextRank = getNextRank(data.getGuardRank());
-        if (nextRank == null) return "0";
+        ConfigSnapshot.RankRequirement req = getNextRankRequirement(data);
+        if (req == null) return "0";
         
-        String configPath = "progression.rankup.requirements." + nextRank.toLowerCase();
-        long reqDuty = plugin.getConfigManager().getConfig().getLong(configPath + ".duty_time_seconds", 3600L);
         long currentDuty = data.getTotalDutyTime() / 1000;
-        return String.valueOf(Math.min(currentDuty, reqDuty));
+        return String.valueOf(Math.min(currentDuty, req.getDutySeconds()));
     }
     
     private String getMoneyProgress(Player player, PlayerData data) {
-        String nextRank = getNextRank(data.getGuardRank());
-        if (nextRank == null) return "0";
+        ConfigSnapshot.RankRequirement req = getNextRankRequirement(data);
+        if (req == null || req.getMoney() <= 0) return "0";
         
-        String configPath = "progression.rankup.requirements." + nextRank.toLowerCase();
-        double reqMoney = plugin.getConfigManager().getConfig().getDouble(configPath + ".vault_money", 0.0);
-        if (reqMoney <= 0) return "0";
-        
-        Double currentMoney = plugin.getVaultEconomyManager().getBalance(player).join();
-        return String.format("%.2f", Math.min(currentMoney, reqMoney));
+        return String.format("%.2f", Math.min(getPlayerBalance(player), req.getMoney()));
     }
     
     private String getTokensProgress(Player player, PlayerData data) {
-        String nextRank = getNextRank(data.getGuardRank());
-        if (nextRank == null) return "0";
+        ConfigSnapshot.RankRequirement req = getNextRankRequirement(data);
+        if (req == null || req.getTokens() <= 0) return "0";
         
-        String configPath = "progression.rankup.requirements." + nextRank.toLowerCase();
-        int reqTokens = plugin.getConfigManager().getConfig().getInt(configPath + ".et_tokens", 0);
-        if (reqTokens <= 0) return "0";
-        
-        int currentTokens = getPlayerTokens(player);
-        return String.valueOf(Math.min(currentTokens, reqTokens));
+        return String.valueOf(Math.min(getPlayerTokens(player), req.getTokens()));
     }
     
     private String getArrestsRequired(Player player, PlayerData data) {
-        String nextRank = getNextRank(data.getGuardRank());
-        if (nextRank == null) return "0";
-        
-        String configPath = "progression.rankup.requirements." + nextRank.toLowerCase();
-        int reqArrests = plugin.getConfigManager().getConfig().getInt(configPath + ".arrests", 10);
-        return String.valueOf(reqArrests);
+        ConfigSnapshot.RankRequirement req = getNextRankRequirement(data);
+        return req != null ? String.valueOf(req.getArrests()) : "0";
     }
     
     private String getDutyRequired(Player player, PlayerData data) {
-        String nextRank = getNextRank(data.getGuardRank());
-        if (nextRank == null) return "0";
-        
-        String configPath = "progression.rankup.requirements." + nextRank.toLowerCase();
-        long reqDuty = plugin.getConfigManager().getConfig().getLong(configPath + ".duty_time_seconds", 3600L);
-        return String.valueOf(reqDuty);
+        ConfigSnapshot.RankRequirement req = getNextRankRequirement(data);
+        return req != null ? String.valueOf(req.getDutySeconds()) : "0";
     }
     
     private String getMoneyRequired(Player player, PlayerData data) {
-        String nextRank = getNextRank(data.getGuardRank());
-        if (nextRank == null) return "0";
-        
-        String configPath = "progression.rankup.requirements." + nextRank.toLowerCase();
-        double reqMoney = plugin.getConfigManager().getConfig().getDouble(configPath + ".vault_money", 0.0);
-        return String.format("%.2f", reqMoney);
+        ConfigSnapshot.RankRequirement req = getNextRankRequirement(data);
+        return req != null ? String.format("%.2f", req.getMoney()) : "0";
     }
     
     private String getTokensRequired(Player player, PlayerData data) {
-        String nextRank = getNextRank(data.getGuardRank());
-        if (nextRank == null) return "0";
-        
-        String configPath = "progression.rankup.requirements." + nextRank.toLowerCase();
-        int reqTokens = plugin.getConfigManager().getConfig().getInt(configPath + ".et_tokens", 0);
-        return String.valueOf(reqTokens);
+        ConfigSnapshot.RankRequirement req = getNextRankRequirement(data);
+        return req != null ? String.valueOf(req.getTokens()) : "0";
     }
     
     private String getArrestsPercentage(Player player, PlayerData data) {
-        String nextRank = getNextRank(data.getGuardRank());
-        if (nextRank == null) return "0";
-        
-        String configPath = "progression.rankup.requirements." + nextRank.toLowerCase();
-        int reqArrests = plugin.getConfigManager().getConfig().getInt(configPath + ".arrests", 10);
-        if (reqArrests == 0) return "100";
+        ConfigSnapshot.RankRequirement req = getNextRankRequirement(data);
+        if (req == null) return "0";
+        if (req.getArrests() == 0) return "100";
         
-        double percentage = Math.min(100.0, (double) data.getTotalArrests() / reqArrests * 100.0);
+        double percentage = Math.min(100.0, (double) data.getTotalArrests() / req.getArrests() * 100.0);
         return String.format("%.1f", percentage);
     }
     
     private String getDutyPercentage(Player player, PlayerData data) {
-        String nextRank = getNextRank(data.getGuardRank());
-        if (nextRank == null) return "0";
-        
-        String configPath = "progression.rankup.requirements." + nextRank.toLowerCase();
-        long reqDuty = plugin.getConfigManager().getConfig().getLong(configPath + ".duty_time_seconds", 3600L);
-        if (reqDuty == 0) return "100";
+        ConfigSnapshot.RankRequirement req = getNextRankRequirement(data);
+        if (req == null) return "0";
+        if (req.getDutySeconds() == 0) return "100";
         
         long currentDuty = data.getTotalDutyTime() / 1000;
-        double percentage = Math.min(100.0, (double) currentDuty / reqDuty * 100.0);
+        double percentage = Math.min(100.0, (double) currentDuty / req.getDutySeconds() * 100.0);
         return String.format("%.1f", percentage);
     }
     
     private String getMoneyPercentage(Player player, PlayerData data) {
-        String nextRank = getNextRank(data.getGuardRank());
-        if (nextRank == null) return "0";
-        
-        String configPath = "progression.rankup.requirements." + nextRank.toLowerCase();
-        double reqMoney = plugin.getConfigManager().getConfig().getDouble(configPath + ".vault_money", 0.0);
-        if (reqMoney <= 0) return "100";
+        ConfigSnapshot.RankRequirement req = getNextRankRequirement(data);
+        if (req == null) return "0";
+        if (req.getMoney() <= 0) return "100";
         
-        Double currentMoney = plugin.getVaultEconomyManager().getBalance(player).join();
-        double percentage = Math.min(100.0, currentMoney / reqMoney * 100.0);
+        double percentage = Math.min(100.0, getPlayerBalance(player) / req.getMoney() * 100.0);
         return String.format("%.1f", percentage);
     }
     
     private String getTokensPercentage(Player player, PlayerData data) {
-        String nextRank = getNextRank(data.getGuardRank());
-        if (nextRank == null) return "0";
-        
-        String configPath = "progression.rankup.requirements." + nextRank.toLowerCase();
-        int reqTokens = plugin.getConfigManager().getConfig().getInt(configPath + ".et_tokens", 0);
-        if (reqTokens <= 0) return "100";
+        ConfigSnapshot.RankRequirement req = getNextRankRequirement(data);
+        if (req == null) return "0";
+        if (req.getTokens() <= 0) return "100";
         
-        int currentTokens = getPlayerTokens(player);
-        double percentage = Math.min(100.0, (double) currentTokens / reqTokens * 100.0);
+        double percentage = Math.min(100.0, (double) getPlayerTokens(player) / req.getTokens() * 100.0);
         return String.format("%.1f", percentage);
     }
     
+    
+    private double getPlayerBalance(Player player) {
+        Double balance = plugin.getPlaceholderSnapshots().memo(player.getUniqueId(), "#balance",
+            () -> plugin.getVaultEconomyManager().peekBalance(player));
+        return balance != null ? balance : 0.0;
+    }
+    
     private int getPlayerTokens(Player player) {
-        try {
-            String placeholder = plugin.getConfigManager().getConfig().getString("progression.rankup.et.placeholder", "%coinsengine_balance_ecotokens%");
-            
-            String result = me.clip.placeholderapi.PlaceholderAPI.setPlaceholders(player, placeholder);
-            return Integer.parseInt(result.trim());
-        } catch (Exception e) {
-            return 0;
-        }
+        Integer tokens = plugin.getPlaceholderSnapshots().memo(player.getUniqueId(), "#tokens", () -> {
+            try {
+                String placeholder = plugin.getConfigManager().getSnapshot().getRankupTokensPlaceholder();
+                
+                String result = me.clip.placeholderapi.PlaceholderAPI.setPlaceholders(player, placeholder);
+                return Integer.parseInt(result.trim());
+            } catch (Exception e) {
+                return 0;
+            }
+        });
+        return tokens != null ? tokens : 0;
     }
 } 
\ No newline at end of file
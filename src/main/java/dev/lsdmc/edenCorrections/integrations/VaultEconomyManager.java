@@ -6,7 +6,20 @@ import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.RegisteredServiceProvider;
 
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 
@@ -17,6 +30,35 @@ public class VaultEconomyManager {
     private Economy economy;
     private boolean vaultAvailable;
     
+    
+    private boolean asyncSafe;
+    private ExecutorService economyExecutor;
+    private final Queue<Runnable> mainThreadCalls = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    
+    
+    private final Map<UUID, CachedBalance> balanceCache = new ConcurrentHashMap<>();
+    private final Set<UUID> refreshesInFlight = ConcurrentHashMap.newKeySet();
+    
+    private final AtomicLong cacheHits = new AtomicLong(0);
+    private final AtomicLong cacheMisses = new AtomicLong(0);
+    private final AtomicLong providerCalls = new AtomicLong(0);
+    private final AtomicLong mainThreadBatches = new AtomicLong(0);
+    
+    private static final class CachedBalance {
+        private final double balance;
+        private final long fetchedAt;
+        
+        CachedBalance(double balance) {
+            this.balance = balance;
+            this.fetchedAt = System.currentTimeMillis();
+        }
+        
+        boolean isFresh(long ttlMillis) {
+            return System.currentTimeMillis() - fetchedAt < ttlMillis;
+        }
+    }
+    
     public VaultEconomyManager(EdenCorrections plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
@@ -30,6 +72,7 @@ public class VaultEconomyManager {
         } else {
             logger.info("Vault Economy integration enabled - penalty system ready");
             vaultAvailable = true;
+            setupDispatch();
         }
     }
     
@@ -49,9 +92,105 @@ public class VaultEconomyManager {
         return economy != null;
     }
     
+    private void setupDispatch() {
+        String providerName = economy.getName();
+        asyncSafe = plugin.getConfigManager().getEconomyAsyncSafeProviders().stream()
+            .anyMatch(name -> name.equalsIgnoreCase(providerName));
+        
+        if (asyncSafe) {
+            AtomicInteger threadIndex = new AtomicInteger(1);
+            economyExecutor = Executors.newFixedThreadPool(plugin.getConfigManager().getEconomyExecutorThreads(), runnable -> {
+                Thread thread = new Thread(runnable, "EdenCorrections-Economy-" + threadIndex.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+            logger.info("Economy provider " + providerName + " is async-safe - using dedicated economy executor");
+        } else {
+            logger.info("Economy provider " + providerName + " is not marked async-safe - batching calls on the main thread");
+        }
+    }
+    
+    public void shutdown() {
+        if (economyExecutor != null) {
+            economyExecutor.shutdown();
+            try {
+                if (!economyExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    economyExecutor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                economyExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            economyExecutor = null;
+        }
+        
+        
+        Runnable call;
+        while ((call = mainThreadCalls.poll()) != null) {
+            call.run();
+        }
+        balanceCache.clear();
+        refreshesInFlight.clear();
+    }
+    
+    
+    private <T> CompletableFuture<T> dispatch(Supplier<T> call) {
+        if (asyncSafe && economyExecutor != null && !economyExecutor.isShutdown()) {
+            return CompletableFuture.supplyAsync(() -> {
+                providerCalls.incrementAndGet();
+                return call.get();
+            }, economyExecutor);
+        }
+        
+        if (Bukkit.isPrimaryThread()) {
+            providerCalls.incrementAndGet();
+            return CompletableFuture.completedFuture(call.get());
+        }
+        
+        CompletableFuture<T> future = new CompletableFuture<>();
+        mainThreadCalls.add(() -> {
+            try {
+                providerCalls.incrementAndGet();
+                future.complete(call.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        scheduleMainThreadDrain();
+        return future;
+    }
+    
+    private void scheduleMainThreadDrain() {
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Bukkit.getScheduler().runTask(plugin, this::drainMainThreadCalls);
+        } catch (IllegalStateException | org.bukkit.plugin.IllegalPluginAccessException e) {
+            drainScheduled.set(false);
+        }
+    }
+    
+    private void drainMainThreadCalls() {
+        drainScheduled.set(false);
+        int limit = plugin.getConfigManager().getEconomyMainThreadBatchSize();
+        int processed = 0;
+        Runnable call;
+        while (processed < limit && (call = mainThreadCalls.poll()) != null) {
+            call.run();
+            processed++;
+        }
+        if (processed > 0) {
+            mainThreadBatches.incrementAndGet();
+        }
+        if (!mainThreadCalls.isEmpty()) {
+            scheduleMainThreadDrain();
+        }
+    }
+    
     
     public CompletableFuture<Boolean> takeMoney(Player player, double amount, String reason) {
-        return CompletableFuture.supplyAsync(() -> {
+        return dispatch(() -> {
             if (!vaultAvailable || economy == null) {
                 logger.warning("Cannot take money from " + player.getName() + " - Vault economy not available");
                 return false;
@@ -60,6 +199,7 @@ public class VaultEconomyManager {
             try {
                 
                 double balance = economy.getBalance(player);
+                cacheBalance(player, balance);
                 if (balance < amount) {
                     logger.warning("Cannot take $" + amount + " from " + player.getName() + 
                                  " - insufficient funds (has $" + balance + ")");
@@ -70,15 +210,18 @@ public class VaultEconomyManager {
                 net.milkbowl.vault.economy.EconomyResponse response = economy.withdrawPlayer(player, amount);
                 
                 if (response.transactionSuccess()) {
+                    cacheBalance(player, response.balance);
                     logger.info("Successfully deducted $" + amount + " from " + player.getName() + 
                                " (Reason: " + reason + ") - New balance: $" + response.balance);
                     return true;
                 } else {
+                    invalidateBalance(player.getUniqueId());
                     logger.warning("Failed to deduct money from " + player.getName() + 
                                  ": " + response.errorMessage);
                     return false;
                 }
             } catch (Exception e) {
+                invalidateBalance(player.getUniqueId());
                 logger.severe("Error taking money from " + player.getName() + ": " + e.getMessage());
                 return false;
             }
@@ -87,7 +230,7 @@ public class VaultEconomyManager {
     
     
     public CompletableFuture<Boolean> giveMoney(Player player, double amount, String reason) {
-        return CompletableFuture.supplyAsync(() -> {
+        return dispatch(() -> {
             if (!vaultAvailable || economy == null) {
                 logger.warning("Cannot give money to " + player.getName() + " - Vault economy not available");
                 return false;
@@ -97,15 +240,18 @@ public class VaultEconomyManager {
                 net.milkbowl.vault.economy.EconomyResponse response = economy.depositPlayer(player, amount);
                 
                 if (response.transactionSuccess()) {
+                    cacheBalance(player, response.balance);
                     logger.info("Successfully gave $" + amount + " to " + player.getName() + 
                                " (Reason: " + reason + ") - New balance: $" + response.balance);
                     return true;
                 } else {
+                    invalidateBalance(player.getUniqueId());
                     logger.warning("Failed to give money to " + player.getName() + 
                                  ": " + response.errorMessage);
                     return false;
                 }
             } catch (Exception e) {
+                invalidateBalance(player.getUniqueId());
                 logger.severe("Error giving money to " + player.getName() + ": " + e.getMessage());
                 return false;
             }
@@ -114,13 +260,15 @@ public class VaultEconomyManager {
     
     
     public CompletableFuture<Double> getBalance(Player player) {
-        return CompletableFuture.supplyAsync(() -> {
+        return dispatch(() -> {
             if (!vaultAvailable || economy == null) {
                 return 0.0;
             }
             
             try {
-                return economy.getBalance(player);
+                double balance = economy.getBalance(player);
+                cacheBalance(player, balance);
+                return balance;
             } catch (Exception e) {
                 logger.warning("Error getting balance for " + player.getName() + ": " + e.getMessage());
                 return 0.0;
@@ -129,19 +277,43 @@ public class VaultEconomyManager {
     }
     
     
+    public CompletableFuture<Double> getRecentBalance(Player player) {
+        CachedBalance cached = balanceCache.get(player.getUniqueId());
+        if (cached != null && cached.isFresh(plugin.getConfigManager().getEconomyBalanceCacheTtlMillis())) {
+            cacheHits.incrementAndGet();
+            return CompletableFuture.completedFuture(cached.balance);
+        }
+        cacheMisses.incrementAndGet();
+        return getBalance(player);
+    }
+    
+    
+    public double peekBalance(Player player) {
+        CachedBalance cached = balanceCache.get(player.getUniqueId());
+        if (cached != null && cached.isFresh(plugin.getConfigManager().getEconomyBalanceCacheTtlMillis())) {
+            cacheHits.incrementAndGet();
+            return cached.balance;
+        }
+        cacheMisses.incrementAndGet();
+        
+        UUID playerId = player.getUniqueId();
+        if (isAvailable() && refreshesInFlight.add(playerId)) {
+            getBalance(player).whenComplete((balance, throwable) -> refreshesInFlight.remove(playerId));
+        }
+        return cached != null ? cached.balance : 0.0;
+    }
+    
+    
     public CompletableFuture<Boolean> hasEnough(Player player, double amount) {
-        return CompletableFuture.supplyAsync(() -> {
-            if (!vaultAvailable || economy == null) {
-                return false;
-            }
+        return getRecentBalance(player).thenApply(balance -> isAvailable() && balance >= amount);
+    }
             
-            try {
-                return economy.getBalance(player) >= amount;
-            } catch (Exception e) {
-                logger.warning("Error checking balance for " + player.getName() + ": " + e.getMessage());
-                return false;
-            }
-        });
+    public void invalidateBalance(UUID playerId) {
+        balanceCache.remove(playerId);
+    }
+    
+    private void cacheBalance(Player player, double balance) {
+        balanceCache.put(player.getUniqueId(), new CachedBalance(balance));
     }
     
     
@@ -188,6 +360,10 @@ public class VaultEconomyManager {
         return vaultAvailable && economy != null;
     }
     
+    public boolean isAsyncSafe() {
+        return asyncSafe;
+    }
+    
     
     public boolean testIntegration() {
         if (!vaultAvailable || economy == null) {
@@ -204,6 +380,17 @@ public class VaultEconomyManager {
         }
     }
     
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new java.util.HashMap<>();
+        stats.put("cacheHits", cacheHits.get());
+        stats.put("cacheMisses", cacheMisses.get());
+        stats.put("cachedBalances", (long) balanceCache.size());
+        stats.put("providerCalls", providerCalls.get());
+        stats.put("mainThreadBatches", mainThreadBatches.get());
+        stats.put("queuedCalls", (long) mainThreadCalls.size());
+        return stats;
+    }
+    
     
     public String getDiagnosticInfo() {
         StringBuilder info = new StringBuilder();
@@ -216,6 +403,13 @@ public class VaultEconomyManager {
                 info.append("  Currency (Singular): ").append(economy.currencyNameSingular()).append("\n");
                 info.append("  Currency (Plural): ").append(economy.currencyNamePlural()).append("\n");
                 info.append("  Fractional Digits: ").append(economy.fractionalDigits()).append("\n");
+                info.append("  Dispatch: ").append(asyncSafe ? "economy executor" : "main-thread batches").append("\n");
+                Map<String, Long> stats = getStats();
+                info.append("  Balance Cache: ").append(stats.get("cachedBalances")).append(" entries, ")
+                    .append(stats.get("cacheHits")).append(" hits / ").append(stats.get("cacheMisses")).append(" misses\n");
+                info.append("  Provider Calls: ").append(stats.get("providerCalls")).append(" (")
+                    .append(stats.get("mainThreadBatches")).append(" main-thread batches, ")
+                    .append(stats.get("queuedCalls")).append(" queued)\n");
                 info.append("  Test Status: ").append(testIntegration() ? "PASS" : "FAIL").append("\n");
             } catch (Exception e) {
                 info.append("  Error getting info: ").append(e.getMessage()).append("\n");
@@ -1,15 +1,14 @@
 package dev.lsdmc.edenCorrections.managers;
 
 import dev.lsdmc.edenCorrections.EdenCorrections;
+import dev.lsdmc.edenCorrections.utils.HudTicker;
 import dev.lsdmc.edenCorrections.utils.LoggingUtils;
 import dev.lsdmc.edenCorrections.models.PlayerData;
-import dev.lsdmc.edenCorrections.models.ChaseData;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -26,15 +25,15 @@ public class BossBarManager {
     
     
     private final Map<UUID, BossBar> activeBossBars;
-    private final Map<UUID, BukkitTask> bossBarTasks;
     private final Map<UUID, String> bossBarTypes;
+    private final Map<UUID, String> renderedTitles;
     
     public BossBarManager(EdenCorrections plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         this.activeBossBars = new HashMap<>();
-        this.bossBarTasks = new HashMap<>();
         this.bossBarTypes = new HashMap<>();
+        this.renderedTitles = new HashMap<>();
     }
     
     public void initialize() {
@@ -78,17 +77,6 @@ public class BossBarManager {
                         updateWantedBossBar(player, data.getWantedLevel(), data.getRemainingWantedTime());
                     }
                     break;
-                case "chase":
-                    
-                    ChaseData chase = plugin.getDataManager().getChaseByTarget(player.getUniqueId());
-                    if (chase != null) {
-                        Player guard = plugin.getServer().getPlayer(chase.getGuardId());
-                        if (guard != null) {
-                            double distance = player.getLocation().distance(guard.getLocation());
-                            updateChaseBossBar(player, distance, guard);
-                        }
-                    }
-                    break;
                 
             }
         } catch (Exception e) {
@@ -219,6 +207,18 @@ public class BossBarManager {
     }
     
     
+    public boolean extendCombatBossBar(Player player, int duration) {
+        UUID playerId = player.getUniqueId();
+        BossBar bossBar = activeBossBars.get(playerId);
+        if (bossBar == null || !"combat".equals(bossBarTypes.get(playerId))) {
+            return false;
+        }
+        
+        startCountdownBossBar(player, bossBar, duration, "combat");
+        return true;
+    }
+    
+    
     public void showJailBossBar(Player player, int duration) {
         if (!plugin.getConfigManager().areBossBarsEnabled() || 
             !plugin.getConfigManager().isJailBossBarEnabled()) {
@@ -306,7 +306,12 @@ public class BossBarManager {
             showBossBar(player, bossBar, "contraband");
             
             
-            startCountdownBossBar(player, bossBar, duration, "contraband");
+            plugin.getHudTicker().countdown(player, HudTicker.CHANNEL_BOSS_BAR, duration,
+                (target, remaining, total) -> {
+                    updateContrabandCountdown(target, remaining, total, description);
+                    return true;
+                },
+                (target, expired) -> hideBossBar(target));
             
         } catch (Exception e) {
             logger.warning("Error showing contraband boss bar for " + player.getName() + ": " + e.getMessage());
@@ -390,12 +395,13 @@ public class BossBarManager {
         try {
             BossBar bossBar = activeBossBars.get(player.getUniqueId());
             
-            if (type.equals("chase_target")) {
+            boolean changed = renderChanged(player.getUniqueId(), type + ":" + otherPlayer.getName() + ":" + (int) distance);
+            if (changed && type.equals("chase_target")) {
                 
                 bossBar.name(plugin.getMessageManager().getMessage(player, "bossbar.chase.target",
                     playerPlaceholder("guard", otherPlayer),
                     distancePlaceholder("distance", distance)));
-            } else {
+            } else if (changed) {
                 
                 bossBar.name(plugin.getMessageManager().getMessage(player, "bossbar.chase.guard",
                     playerPlaceholder("target", otherPlayer),
@@ -404,7 +410,7 @@ public class BossBarManager {
             
             
             float progress = Math.max(0.1f, Math.min(1.0f, 1.0f - (float)(distance / 100.0)));
-            bossBar.progress(progress);
+            bossBar.progress(HudTicker.quantizeProgress(progress));
             
         } catch (Exception e) {
             logger.warning("Error updating chase boss bar for " + player.getName() + ": " + e.getMessage());
@@ -426,15 +432,18 @@ public class BossBarManager {
             BossBar bossBar = activeBossBars.get(player.getUniqueId());
             
             
-            bossBar.name(plugin.getMessageManager().getMessage(player, "bossbar.wanted.active",
-                numberPlaceholder("level", wantedLevel),
-                starsPlaceholder("stars", wantedLevel),
-                numberPlaceholder("minutes", Math.max(0, remainingTime / 60))));
+            long minutes = Math.max(0, remainingTime / 60);
+            if (renderChanged(player.getUniqueId(), "wanted:" + wantedLevel + ":" + minutes)) {
+                bossBar.name(plugin.getMessageManager().getMessage(player, "bossbar.wanted.active",
+                    numberPlaceholder("level", wantedLevel),
+                    starsPlaceholder("stars", wantedLevel),
+                    numberPlaceholder("minutes", minutes)));
+            }
             
             
             long totalTime = plugin.getConfigManager().getWantedDuration();
             float progress = Math.max(0.0f, Math.min(1.0f, (float) remainingTime / totalTime));
-            bossBar.progress(progress);
+            bossBar.progress(HudTicker.quantizeProgress(progress));
             
         } catch (Exception e) {
             logger.warning("Error updating wanted boss bar for " + player.getName() + ": " + e.getMessage());
@@ -463,12 +472,14 @@ public class BossBarManager {
             }
             
             
-            bossBar.name(plugin.getMessageManager().getMessage(player, "bossbar.jail-countdown",
-                numberPlaceholder("seconds", remaining)));
+            if (renderChanged(player.getUniqueId(), "jail-countdown:" + remaining)) {
+                bossBar.name(plugin.getMessageManager().getMessage(player, "bossbar.jail-countdown",
+                    numberPlaceholder("seconds", remaining)));
+            }
             
             
             float progress = Math.max(0.0f, Math.min(1.0f, (float) remaining / total));
-            bossBar.progress(progress);
+            bossBar.progress(HudTicker.quantizeProgress(progress));
             
         } catch (Exception e) {
             logger.warning("Error updating jail countdown boss bar for " + player.getName() + ": " + e.getMessage());
@@ -497,12 +508,14 @@ public class BossBarManager {
             }
             
             
-            bossBar.name(plugin.getMessageManager().getMessage(player, "bossbar.duty-transition",
-                numberPlaceholder("seconds", remaining)));
+            if (renderChanged(player.getUniqueId(), "duty-transition:" + remaining)) {
+                bossBar.name(plugin.getMessageManager().getMessage(player, "bossbar.duty-transition",
+                    numberPlaceholder("seconds", remaining)));
+            }
             
             
             float progress = Math.max(0.0f, Math.min(1.0f, (float) remaining / total));
-            bossBar.progress(progress);
+            bossBar.progress(HudTicker.quantizeProgress(progress));
             
         } catch (Exception e) {
             logger.warning("Error updating duty transition boss bar for " + player.getName() + ": " + e.getMessage());
@@ -531,13 +544,15 @@ public class BossBarManager {
             }
             
             
-            bossBar.name(plugin.getMessageManager().getMessage(player, "bossbar.contraband-countdown",
-                numberPlaceholder("seconds", remaining),
-                stringPlaceholder("type", description)));
+            if (renderChanged(player.getUniqueId(), "contraband-countdown:" + remaining + ":" + description)) {
+                bossBar.name(plugin.getMessageManager().getMessage(player, "bossbar.contraband-countdown",
+                    numberPlaceholder("seconds", remaining),
+                    stringPlaceholder("type", description)));
+            }
             
             
             float progress = Math.max(0.0f, Math.min(1.0f, (float) remaining / total));
-            bossBar.progress(progress);
+            bossBar.progress(HudTicker.quantizeProgress(progress));
             
         } catch (Exception e) {
             logger.warning("Error updating contraband countdown boss bar for " + player.getName() + ": " + e.getMessage());
@@ -566,12 +581,14 @@ public class BossBarManager {
             }
             
             
-            bossBar.name(plugin.getMessageManager().getMessage(player, "bossbar.grace-period",
-                numberPlaceholder("seconds", remaining)));
+            if (renderChanged(player.getUniqueId(), "grace-period:" + remaining)) {
+                bossBar.name(plugin.getMessageManager().getMessage(player, "bossbar.grace-period",
+                    numberPlaceholder("seconds", remaining)));
+            }
             
             
             float progress = Math.max(0.0f, Math.min(1.0f, (float) remaining / total));
-            bossBar.progress(progress);
+            bossBar.progress(HudTicker.quantizeProgress(progress));
             
         } catch (Exception e) {
             logger.warning("Error updating grace period countdown boss bar for " + player.getName() + ": " + e.getMessage());
@@ -583,10 +600,7 @@ public class BossBarManager {
         UUID playerId = player.getUniqueId();
         
         
-        BukkitTask task = bossBarTasks.remove(playerId);
-        if (task != null) {
-            task.cancel();
-        }
+        plugin.getHudTicker().cancel(playerId, HudTicker.CHANNEL_BOSS_BAR);
         
         
         BossBar bossBar = activeBossBars.remove(playerId);
@@ -596,6 +610,7 @@ public class BossBarManager {
         
         
         bossBarTypes.remove(playerId);
+        renderedTitles.remove(playerId);
     }
     
     
@@ -644,86 +659,26 @@ public class BossBarManager {
     }
     
     private void startCountdownBossBar(Player player, BossBar bossBar, int duration, String type) {
-        UUID playerId = player.getUniqueId();
-        
-        
-        BukkitTask existingTask = bossBarTasks.remove(playerId);
-        if (existingTask != null) {
-            existingTask.cancel();
-        }
-        
-        
-        BukkitTask task = new BukkitRunnable() {
-            private int remaining = duration;
-            
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    hideBossBar(player);
-                    return;
-                }
-                
-                if (remaining <= 0) {
-                    hideBossBar(player);
-                    return;
-                }
-                
-                try {
-                    
-                    float progress = Math.max(0.0f, Math.min(1.0f, (float) remaining / duration));
-                    bossBar.progress(progress);
-                    
-                    remaining--;
-                    
-                } catch (Exception e) {
-                    logger.warning("Error updating countdown boss bar for " + player.getName() + ": " + e.getMessage());
-                    hideBossBar(player);
-                }
-            }
-        }.runTaskTimer(plugin, 0L, 20L);
-        
-        bossBarTasks.put(playerId, task);
+        plugin.getHudTicker().countdown(player, HudTicker.CHANNEL_BOSS_BAR, duration,
+            (target, remaining, total) -> {
+                bossBar.progress(HudTicker.quantizeProgress(total > 0 ? (float) remaining / total : 0.0f));
+                return true;
+            },
+            (target, expired) -> hideBossBar(target));
     }
     
     private void startWantedBossBarUpdate(Player player, BossBar bossBar, int wantedLevel, long remainingTime) {
-        UUID playerId = player.getUniqueId();
-        
-        
-        BukkitTask existingTask = bossBarTasks.remove(playerId);
-        if (existingTask != null) {
-            existingTask.cancel();
-        }
-        
-        
-        BukkitTask task = new BukkitRunnable() {
-            private long remaining = remainingTime;
-            
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    hideBossBar(player);
-                    return;
-                }
-                
-                if (remaining <= 0) {
-                    hideBossBar(player);
-                    return;
-                }
-                
-                try {
-                    
-                    updateWantedBossBar(player, wantedLevel, remaining);
-                    
-                    remaining--;
-                    
-                } catch (Exception e) {
-                    logger.warning("Error updating wanted boss bar for " + player.getName() + ": " + e.getMessage());
-                    hideBossBar(player);
-                }
-            }
-        }.runTaskTimer(plugin, 0L, 20L);
-        
-        bossBarTasks.put(playerId, task);
+        plugin.getHudTicker().countdown(player, HudTicker.CHANNEL_BOSS_BAR, (int) Math.max(0, remainingTime),
+            (target, remaining, total) -> {
+                updateWantedBossBar(target, wantedLevel, remaining);
+                return true;
+            },
+            (target, expired) -> hideBossBar(target));
+    }
+    
+    
+    private boolean renderChanged(UUID playerId, String renderKey) {
+        return !renderKey.equals(renderedTitles.put(playerId, renderKey));
     }
     
     private BossBar.Color getBossBarColor(String colorName) {
@@ -752,6 +707,7 @@ public class BossBarManager {
             
             for (Map.Entry<UUID, BossBar> entry : activeBossBars.entrySet()) {
                 try {
+                    plugin.getHudTicker().cancel(entry.getKey(), HudTicker.CHANNEL_BOSS_BAR);
                     Player player = Bukkit.getPlayer(entry.getKey());
                     if (player != null && player.isOnline()) {
                         player.hideBossBar(entry.getValue());
@@ -762,20 +718,9 @@ public class BossBarManager {
             }
             
             
-            for (BukkitTask task : bossBarTasks.values()) {
-                try {
-                    if (task != null && !task.isCancelled()) {
-                        task.cancel();
-                    }
-                } catch (Exception e) {
-                    LoggingUtils.warn(logger, "Error cancelling boss bar task: " + e.getMessage());
-                }
-            }
-            
-            
             activeBossBars.clear();
-            bossBarTasks.clear();
             bossBarTypes.clear();
+            renderedTitles.clear();
             
             LoggingUtils.info(logger, "BossBarManager cleanup complete");
         } catch (Exception e) {
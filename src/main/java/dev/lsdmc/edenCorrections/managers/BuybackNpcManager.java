@@ -48,6 +48,14 @@ public class BuybackNpcManager implements Listener {
     private BukkitTask task;
     private UUID currentNpcId;
     private Location currentTarget;
+    private Location nextTarget;
+    private boolean relocating = false;
+    private int relocationGeneration = 0;
+    
+    
+    private World ticketWorld;
+    private int ticketChunkX;
+    private int ticketChunkZ;
     
     
     private boolean citizensAvailable = false;
@@ -259,18 +267,33 @@ public class BuybackNpcManager implements Listener {
     }
 
     private void spawnOrMoveNpc() {
-        if (!enabled || locations.isEmpty()) return;
+        if (!enabled || locations.isEmpty() || relocating) return;
 
-        Location target = pickRandomLocation();
+        Location target = nextTarget != null && isPlaceable(nextTarget) ? nextTarget : pickPlaceableLocation();
+        nextTarget = null;
         if (target == null) return;
-        this.currentTarget = target;
 
         
-        Chunk chunk = target.getChunk();
-        if (!chunk.isLoaded()) {
-            chunk.load();
-        }
+        relocating = true;
+        int generation = relocationGeneration;
+        target.getWorld().getChunkAtAsync(target).whenComplete((chunk, throwable) -> runOnMainThread(() -> {
+            if (generation != relocationGeneration) return;
+            relocating = false;
+            if (!enabled) return;
+            if (throwable != null || chunk == null) {
+                logger.warning("Failed to load chunk for buyback NPC at " + target.getWorld().getName() + " "
+                    + target.getBlockX() + "," + target.getBlockY() + "," + target.getBlockZ()
+                    + (throwable != null ? ": " + throwable.getMessage() : ""));
+                return;
+            }
+            holdChunk(chunk);
+            placeNpc(target);
+            this.currentTarget = target;
+            prepareNextTarget();
+        }));
+    }
 
+    private void placeNpc(Location target) {
         if (citizensAvailable) {
             
             if (citizensNpc == null) {
@@ -356,15 +379,74 @@ public class BuybackNpcManager implements Listener {
         return locations.get(random.nextInt(locations.size()));
     }
 
-    private Entity getCurrentNpcEntity() {
-        if (currentNpcId == null) return null;
-        for (World world : Bukkit.getWorlds()) {
-            Entity e = world.getEntities().stream().filter(en -> en.getUniqueId().equals(currentNpcId)).findFirst().orElse(null);
-            if (e != null) return e;
+    private Location pickPlaceableLocation() {
+        for (int attempt = 0; attempt < locations.size(); attempt++) {
+            Location candidate = pickRandomLocation();
+            if (candidate != null && isPlaceable(candidate)) {
+                return candidate;
+            }
         }
         return null;
     }
 
+    private boolean isPlaceable(Location location) {
+        World world = location.getWorld();
+        if (world == null || Bukkit.getWorld(world.getUID()) == null) return false;
+        if (location.getY() < world.getMinHeight() || location.getY() >= world.getMaxHeight()) return false;
+        return world.getWorldBorder().isInside(location);
+    }
+
+    
+    private void prepareNextTarget() {
+        Location candidate = pickPlaceableLocation();
+        nextTarget = candidate;
+        if (candidate == null || isSameChunk(candidate, ticketWorld, ticketChunkX, ticketChunkZ)) return;
+        candidate.getWorld().getChunkAtAsync(candidate).exceptionally(throwable -> {
+            if (plugin.getConfigManager().isDebugMode()) {
+                logger.info("DEBUG: Failed to preload next buyback NPC chunk: " + throwable.getMessage());
+            }
+            return null;
+        });
+    }
+
+    private void holdChunk(Chunk chunk) {
+        if (isSameChunk(chunk.getWorld(), chunk.getX(), chunk.getZ(), ticketWorld, ticketChunkX, ticketChunkZ)) return;
+        releaseChunkTicket();
+        chunk.addPluginChunkTicket(plugin);
+        ticketWorld = chunk.getWorld();
+        ticketChunkX = chunk.getX();
+        ticketChunkZ = chunk.getZ();
+    }
+
+    private void releaseChunkTicket() {
+        if (ticketWorld == null) return;
+        try {
+            ticketWorld.removePluginChunkTicket(ticketChunkX, ticketChunkZ, plugin);
+        } catch (Exception ignore) {}
+        ticketWorld = null;
+    }
+
+    private boolean isSameChunk(Location location, World world, int chunkX, int chunkZ) {
+        return isSameChunk(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4, world, chunkX, chunkZ);
+    }
+
+    private boolean isSameChunk(World a, int ax, int az, World b, int bx, int bz) {
+        return a != null && a.equals(b) && ax == bx && az == bz;
+    }
+
+    private void runOnMainThread(Runnable action) {
+        if (Bukkit.isPrimaryThread()) {
+            action.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, action);
+        }
+    }
+
+    private Entity getCurrentNpcEntity() {
+        if (currentNpcId == null) return null;
+        return plugin.getServer().getEntity(currentNpcId);
+    }
+
     @EventHandler(priority = EventPriority.NORMAL)
     public void onInteract(PlayerInteractEntityEvent event) {
         Entity entity = event.getRightClicked();
@@ -389,8 +471,12 @@ public class BuybackNpcManager implements Listener {
                 try { npc.remove(); } catch (Exception ignore) {}
             }
         }
+        relocationGeneration++;
+        relocating = false;
+        releaseChunkTicket();
         currentNpcId = null;
         currentTarget = null;
+        nextTarget = null;
         interactCooldown.clear();
     }
 
@@ -505,16 +591,22 @@ public class BuybackNpcManager implements Listener {
             plugin.getMessageManager().sendMessage(player, "universal.no-permission");
             return;
         }
-        if (!plugin.getContrabandManager().hasStoredContraband(player.getUniqueId())) {
-            plugin.getMessageManager().sendMessage(player, "retrieve.no-inventory");
-            return;
-        }
-        boolean ok = plugin.getContrabandManager().buybackStoredContraband(player);
-        if (ok) {
-            plugin.getMessageManager().sendMessage(player, "retrieve.success");
-        } else {
-            plugin.getMessageManager().sendMessage(player, "universal.failed");
-        }
+        plugin.getContrabandManager().hasStoredContraband(player.getUniqueId()).thenAccept(hasStored -> {
+            if (!hasStored) {
+                Bukkit.getScheduler().runTask(plugin, () ->
+                    plugin.getMessageManager().sendMessage(player, "retrieve.no-inventory"));
+                return;
+            }
+            plugin.getContrabandManager().buybackStoredContraband(player).thenAccept(ok ->
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    if (!player.isOnline()) return;
+                    if (ok) {
+                        plugin.getMessageManager().sendMessage(player, "retrieve.success");
+                    } else {
+                        plugin.getMessageManager().sendMessage(player, "universal.failed");
+                    }
+                }));
+        });
     }
 
     
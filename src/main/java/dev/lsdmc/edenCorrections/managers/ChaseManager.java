@@ -3,12 +3,14 @@ package dev.lsdmc.edenCorrections.managers;
 import dev.lsdmc.edenCorrections.EdenCorrections;
 import dev.lsdmc.edenCorrections.models.PlayerData;
 import dev.lsdmc.edenCorrections.models.ChaseData;
+import dev.lsdmc.edenCorrections.config.ConfigSnapshot;
+import dev.lsdmc.edenCorrections.utils.ChaseProximityTracker;
+import dev.lsdmc.edenCorrections.utils.ExpiryWheel;
 import dev.lsdmc.edenCorrections.utils.LoggingUtils;
 
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -30,13 +32,13 @@ public class ChaseManager {
     
     
     private final Map<UUID, Long> combatTimers;
-    private final Map<UUID, BukkitTask> combatTasks;
+    private final ChaseProximityTracker proximityTracker;
     
     public ChaseManager(EdenCorrections plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         this.combatTimers = new HashMap<>();
-        this.combatTasks = new HashMap<>();
+        this.proximityTracker = new ChaseProximityTracker();
     }
     
     public void initialize() {
@@ -64,6 +66,7 @@ public class ChaseManager {
             
             
             cleanupAllCombatTimers();
+            proximityTracker.clear();
             
             LoggingUtils.info(logger, "ChaseManager shutdown complete");
         } catch (Exception e) {
@@ -78,7 +81,7 @@ public class ChaseManager {
                 
                 monitorActiveChases();
             }
-        }.runTaskTimer(plugin, 20L * 10L, 20L * 10L); 
+        }.runTaskTimer(plugin, 20L * 60L, 20L * 60L); 
     }
     
     private void monitorActiveChases() {
@@ -177,29 +180,8 @@ public class ChaseManager {
             
             if (isPlayerInRestrictedArea(targetPlayer)) {
                 endChase(chaseId, "Target entered restricted area");
-                continue;
             }
-            
-            
-            try {
-                plugin.getBossBarManager().updateChaseBossBar(guardPlayer, distance, targetPlayer);
-                plugin.getBossBarManager().updateChaseBossBar(targetPlayer, distance, guardPlayer);
-            } catch (Exception e) {
-                logger.warning("Boss bar update failed for chase " + chaseId + ": " + e.getMessage());
-                
-            }
-            
-            
-                        int warningDistance = plugin.getConfigManager().getChaseWarningDistance();
-                        if (distance > warningDistance) {
-                            try {
-                plugin.getMessageManager().sendMessage(guardPlayer, "chase.warnings.distance",
-                                    MessageManager.numberPlaceholder("distance", Math.round(distance)));
-                            } catch (Exception e) {
-                                logger.warning("Warning message failed for chase " + chaseId + ": " + e.getMessage());
-                            }
-                        }
-                        
+                         
                     } catch (Exception e) {
                         logger.severe("Location processing failed for chase " + chaseId + ": " + e.getMessage());
                         endChase(chaseId, "Location processing error");
@@ -238,12 +220,13 @@ public class ChaseManager {
         int duration = plugin.getConfigManager().getCombatTimerDuration();
         
         
-        combatTimers.put(playerId, System.currentTimeMillis() + (duration * 1000L));
+        long combatEnd = System.currentTimeMillis() + (duration * 1000L);
+        combatTimers.put(playerId, combatEnd);
         
         
-        BukkitTask existingTask = combatTasks.remove(playerId);
-        if (existingTask != null) {
-            existingTask.cancel();
+        if (!plugin.getExpiryWheel().schedule(ExpiryWheel.COMBAT, playerId, combatEnd, this::expireCombatTimer)) {
+            plugin.getBossBarManager().extendCombatBossBar(player, duration);
+            return;
         }
         
         
@@ -255,15 +238,6 @@ public class ChaseManager {
         
         plugin.getMessageManager().sendMessage(player, "combat.timer-started");
         
-        
-        BukkitTask task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                endCombatTimer(player);
-            }
-        }.runTaskLater(plugin, duration * 20L);
-        
-        combatTasks.put(playerId, task);
         
         if (plugin.getConfigManager().isDebugMode()) {
             logger.info("DEBUG: Combat timer started for " + player.getName() + " (" + duration + "s)");
@@ -277,10 +251,7 @@ public class ChaseManager {
         combatTimers.remove(playerId);
         
         
-        BukkitTask task = combatTasks.remove(playerId);
-        if (task != null) {
-            task.cancel();
-        }
+        plugin.getExpiryWheel().cancel(ExpiryWheel.COMBAT, playerId);
         
         
         plugin.getBossBarManager().hideBossBarByType(player, "combat");
@@ -293,6 +264,15 @@ public class ChaseManager {
         }
     }
     
+    private void expireCombatTimer(UUID playerId) {
+        Player player = plugin.getServer().getPlayer(playerId);
+        if (player != null) {
+            endCombatTimer(player);
+        } else {
+            combatTimers.remove(playerId);
+        }
+    }
+    
     public boolean isInCombat(Player player) {
         Long combatEnd = combatTimers.get(player.getUniqueId());
         if (combatEnd == null) return false;
@@ -511,6 +491,8 @@ public class ChaseManager {
             reason = "Unknown reason";
         }
         
+        proximityTracker.clear(chaseId);
+        
         try {
             ChaseData chase = plugin.getDataManager().getChaseData(chaseId);
             if (chase == null) {
@@ -783,6 +765,58 @@ public class ChaseManager {
         return plugin.getWorldGuardUtils().isPlayerInAnyRegion(player, restrictedAreas);
     }
     
+    public void handleChaseMovement(Player player, Location to) {
+        ChaseData chase = getChaseByPlayer(player);
+        if (chase == null || to == null) {
+            return;
+        }
+        
+        UUID chaseId = chase.getChaseId();
+        boolean isGuard = player.getUniqueId().equals(chase.getGuardId());
+        Player other = plugin.getServer().getPlayer(isGuard ? chase.getTargetId() : chase.getGuardId());
+        if (other == null || !other.isOnline()) {
+            endChase(chaseId, "Player offline (" + (isGuard ? "target" : "guard") + ")");
+            return;
+        }
+        
+        Location otherLoc = other.getLocation();
+        if (to.getWorld() == null || !to.getWorld().equals(otherLoc.getWorld())) {
+            endChase(chaseId, "Players in different worlds");
+            return;
+        }
+        
+        ConfigSnapshot snapshot = plugin.getConfigManager().getSnapshot();
+        ChaseProximityTracker.Reading reading = proximityTracker.update(chaseId, to.distanceSquared(otherLoc), snapshot);
+        Player guard = isGuard ? player : other;
+        Player target = isGuard ? other : player;
+        
+        if (reading.getBand() == ChaseProximityTracker.Band.ESCAPED) {
+            endChase(chaseId, "Target too far (" + Math.round(reading.getDistance()) + " > " + snapshot.getMaxChaseDistance() + ")");
+            return;
+        }
+        
+        if (reading.entered(ChaseProximityTracker.Band.WARNING)) {
+            plugin.getMessageManager().sendMessage(guard, "chase.warnings.distance",
+                numberPlaceholder("distance", Math.round(reading.getDistance())));
+        }
+        
+        if (proximityTracker.displayChanged(chaseId, reading.getDistanceSquared())) {
+            double distance = reading.getDistance();
+            plugin.getBossBarManager().updateChaseBossBar(guard, distance, target);
+            plugin.getBossBarManager().updateChaseBossBar(target, distance, guard);
+        }
+    }
+    
+    public void handleRestrictedAreaEntry(Player target, Location location) {
+        if (!plugin.getConfigManager().shouldBlockRestrictedAreas()) {
+            return;
+        }
+        ChaseData chase = plugin.getDataManager().getChaseByTarget(target.getUniqueId());
+        if (chase != null && plugin.getWorldGuardUtils().isLocationInAnyRegion(location, plugin.getConfigManager().getChaseRestrictedAreas())) {
+            endChase(chase.getChaseId(), "Target entered restricted area");
+        }
+    }
+    
     public ChaseData getChaseByPlayer(Player player) {
         ChaseData chase = plugin.getDataManager().getChaseByGuard(player.getUniqueId());
         if (chase != null) return chase;
@@ -813,12 +847,9 @@ public class ChaseManager {
     
     private void cleanupAllCombatTimers() {
         try {
-            for (Map.Entry<UUID, BukkitTask> entry : combatTasks.entrySet()) {
+            for (Map.Entry<UUID, Long> entry : combatTimers.entrySet()) {
                 try {
-                    BukkitTask task = entry.getValue();
-                    if (task != null) {
-                        task.cancel();
-                    }
+                    plugin.getExpiryWheel().cancel(ExpiryWheel.COMBAT, entry.getKey());
                     
                     Player player = Bukkit.getPlayer(entry.getKey());
                     if (player != null) {
@@ -830,7 +861,6 @@ public class ChaseManager {
             }
             
             combatTimers.clear();
-            combatTasks.clear();
         } catch (Exception e) {
             LoggingUtils.warn(logger, "Error during combat timer cleanup: " + e.getMessage());
         }
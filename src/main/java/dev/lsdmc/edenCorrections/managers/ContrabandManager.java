@@ -1,19 +1,29 @@
 package dev.lsdmc.edenCorrections.managers;
 
 import dev.lsdmc.edenCorrections.EdenCorrections;
+import dev.lsdmc.edenCorrections.models.ContrabandVaultEntry;
 import dev.lsdmc.edenCorrections.models.PlayerData;
+import dev.lsdmc.edenCorrections.utils.ExpiryWheel;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitTask;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import static dev.lsdmc.edenCorrections.managers.MessageManager.*;
@@ -26,9 +36,13 @@ public class ContrabandManager {
     
     private final Map<UUID, ContrabandRequest> activeRequests;
     
-    private final Map<UUID, java.util.List<StoredContraband>> confiscatedStorage = new HashMap<>();
+    private final Map<UUID, List<ContrabandVaultEntry>> vaultCache = new ConcurrentHashMap<>();
     
-    private final java.util.List<StoredContraband> globalContrabandPool = new java.util.ArrayList<>();
+    private final Queue<ContrabandVaultEntry> pendingVaultWrites = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean vaultFlushScheduled = new AtomicBoolean(false);
+    private final AtomicInteger storedContrabandCount = new AtomicInteger(0);
+    private final Set<UUID> buybacksInProgress = ConcurrentHashMap.newKeySet();
+    private BukkitTask vaultPurgeTask;
     
     private final Map<UUID, Long> lastPotionTestByTarget = new HashMap<>();
     
@@ -39,6 +53,8 @@ public class ContrabandManager {
     }
     
     public void initialize() {
+        plugin.getDataManager().countStoredContraband().thenAccept(storedContrabandCount::addAndGet);
+        vaultPurgeTask = Bukkit.getScheduler().runTaskTimer(plugin, this::purgeExpiredContraband, 20L * 60L * 5L, 20L * 60L * 5L);
         logger.info("ContrabandManager initialized successfully!");
     }
     
@@ -92,7 +108,7 @@ public class ContrabandManager {
         }
         
         
-        List<Material> targetItems = parseContrabandItems(itemsConfig);
+        List<Material> targetItems = plugin.getConfigManager().getContrabandMaterials(contrabandType);
         if (targetItems.isEmpty()) {
             plugin.getMessageManager().sendMessage(guard, "contraband.request.no-items",
                 stringPlaceholder("type", contrabandType));
@@ -142,68 +158,17 @@ public class ContrabandManager {
             numberPlaceholder("seconds", timeout));
         
         
-        BukkitTask timeoutTask = new BukkitRunnable() {
-            private int remaining = timeout;
-            
-            @Override
-            public void run() {
-                try {
-                    
-                    if (!target.isOnline()) {
-                        activeRequests.remove(target.getUniqueId());
-                        return;
-                    }
-                    
-                    
-                    if (!activeRequests.containsKey(target.getUniqueId())) {
-                        return;
-                    }
-                    
-                    if (remaining <= 0) {
-                        
-                        handleContrabandTimeout(request);
-                        return;
-                    }
-                    
-                    
-                    plugin.getBossBarManager().updateContrabandCountdown(target, remaining, timeout, description);
-                    
-                    remaining--;
-                } catch (Exception e) {
-                    logger.severe("Error in contraband countdown for " + target.getName() + ": " + e.getMessage());
-                    
-                    activeRequests.remove(target.getUniqueId());
-                    if (request.getTimeoutTask() != null) {
-                        request.getTimeoutTask().cancel();
-                    }
+        plugin.getExpiryWheel().schedule(ExpiryWheel.CONTRABAND, target.getUniqueId(),
+            System.currentTimeMillis() + timeout * 1000L, targetId -> {
+                if (activeRequests.get(targetId) == request) {
+                    handleContrabandTimeout(request);
                 }
-            }
-        }.runTaskTimer(plugin, 20L, 20L); 
-        
-        request.setTimeoutTask(timeoutTask);
+            });
         
         logger.info("Contraband request started: " + guard.getName() + " -> " + target.getName() + " (" + type + ")");
         return true;
     }
     
-    private List<Material> parseContrabandItems(String itemsConfig) {
-        List<Material> materials = new ArrayList<>();
-        String[] items = itemsConfig.split(",");
-        
-        for (String item : items) {
-            try {
-                Material material = Material.valueOf(item.trim().toUpperCase());
-                materials.add(material);
-            } catch (IllegalArgumentException e) {
-                logger.warning("Invalid material in contraband config: " + item);
-            }
-        }
-        
-        return materials;
-    }
-    
-    
-    
     public void handleItemDrop(org.bukkit.event.player.PlayerDropItemEvent event) {
         Player player = event.getPlayer();
         
@@ -237,9 +202,7 @@ public class ContrabandManager {
                     ItemStack itemToStore = droppedItem.clone();
                     
                     
-                    StoredContraband sc = new StoredContraband(itemToStore, expiryAt);
-                    confiscatedStorage.computeIfAbsent(player.getUniqueId(), k -> new java.util.ArrayList<>()).add(sc);
-                    globalContrabandPool.add(sc);
+                    storeConfiscatedItems(player.getUniqueId(), Collections.singletonList(itemToStore), expiryAt, false);
                     
                     
                     Bukkit.getScheduler().runTask(plugin, () -> {
@@ -312,9 +275,7 @@ public class ContrabandManager {
         activeRequests.remove(request.getTargetId());
         
         
-        if (request.getTimeoutTask() != null) {
-            request.getTimeoutTask().cancel();
-        }
+        plugin.getExpiryWheel().cancel(ExpiryWheel.CONTRABAND, request.getTargetId());
         
         if (target != null) {
             
@@ -422,13 +383,11 @@ public class ContrabandManager {
             player.setGlowing(true);
             
             
-            for (Player onlinePlayer : plugin.getServer().getOnlinePlayers()) {
-                if (plugin.getDutyManager().isOnDuty(onlinePlayer) && 
-                    plugin.getDutyManager().isSubjectToGuardRestrictions(onlinePlayer)) {
-                    plugin.getMessageManager().sendMessage(onlinePlayer, "wanted.glow.notification",
-                        playerPlaceholder("player", player),
-                        numberPlaceholder("level", plugin.getWantedManager().getWantedLevel(player)));
-                }
+            int level = plugin.getWantedManager().getWantedLevel(player);
+            for (Player guard : plugin.getDutyManager().getGuardRoster().getOnlineGuards()) {
+                plugin.getMessageManager().sendMessage(guard, "wanted.glow.notification",
+                    playerPlaceholder("player", player),
+                    numberPlaceholder("level", level));
             }
         } else {
             player.setGlowing(false);
@@ -603,14 +562,12 @@ public class ContrabandManager {
     public void removeContrabandOnCapture(Player target) {
         boolean storeEnabled = plugin.getConfigManager().isContrabandConfiscationEnabled();
         long expiryAt = System.currentTimeMillis() + plugin.getConfigManager().getContrabandStorageDurationSeconds() * 1000L;
-        java.util.List<StoredContraband> stored = new java.util.ArrayList<>();
+        List<ItemStack> stored = new ArrayList<>();
         
         
         String[] contrabandTypes = {"sword", "bow", "armor", "drugs", "potion"};
         for (String type : contrabandTypes) {
-            String itemsConfig = plugin.getConfigManager().getContrabandItems(type);
-            if (itemsConfig == null || itemsConfig.isEmpty()) continue;
-            List<Material> contrabandItems = parseContrabandItems(itemsConfig);
+            List<Material> contrabandItems = plugin.getConfigManager().getContrabandMaterials(type);
             for (Material material : contrabandItems) {
                 
                 ItemStack[] contents = target.getInventory().getContents();
@@ -619,9 +576,7 @@ public class ContrabandManager {
                     if (stack != null && stack.getType() == material) {
                         if (storeEnabled) {
                             
-                            StoredContraband sc = new StoredContraband(stack, expiryAt);
-                            stored.add(sc);
-                            globalContrabandPool.add(sc);
+                            stored.add(stack);
                         }
                         target.getInventory().setItem(i, null);
                     }
@@ -631,7 +586,7 @@ public class ContrabandManager {
         target.updateInventory();
         
         if (storeEnabled && !stored.isEmpty()) {
-            confiscatedStorage.computeIfAbsent(target.getUniqueId(), k -> new java.util.ArrayList<>()).addAll(stored);
+            storeConfiscatedItems(target.getUniqueId(), stored, expiryAt, true);
             logger.info("Stored " + stored.size() + " contraband stacks for " + target.getName());
         }
         
@@ -653,9 +608,7 @@ public class ContrabandManager {
         ContrabandRequest request = activeRequests.remove(player.getUniqueId());
         if (request != null) {
             
-            if (request.getTimeoutTask() != null) {
-                request.getTimeoutTask().cancel();
-            }
+            plugin.getExpiryWheel().cancel(ExpiryWheel.CONTRABAND, request.getTargetId());
             
             
             plugin.getBossBarManager().hideBossBarByType(player, "contraband");
@@ -669,14 +622,10 @@ public class ContrabandManager {
         String[] contrabandTypes = {"sword", "bow", "armor", "drugs", "potion"};
         
         for (String type : contrabandTypes) {
-            String itemsConfig = plugin.getConfigManager().getContrabandItems(type);
-            if (itemsConfig != null && !itemsConfig.isEmpty()) {
-                List<Material> contrabandItems = parseContrabandItems(itemsConfig);
-                
-                for (Material material : contrabandItems) {
-                    if (player.getInventory().contains(material)) {
-                        return true;
-                    }
+            List<Material> contrabandItems = plugin.getConfigManager().getContrabandMaterials(type);
+            for (Material material : contrabandItems) {
+                if (player.getInventory().contains(material)) {
+                    return true;
                 }
             }
         }
@@ -688,9 +637,7 @@ public class ContrabandManager {
     
     public void cleanup() {
         for (ContrabandRequest request : activeRequests.values()) {
-            if (request.getTimeoutTask() != null) {
-                request.getTimeoutTask().cancel();
-            }
+            plugin.getExpiryWheel().cancel(ExpiryWheel.CONTRABAND, request.getTargetId());
             
             Player target = Bukkit.getPlayer(request.getTargetId());
             if (target != null) {
@@ -700,18 +647,24 @@ public class ContrabandManager {
         
         activeRequests.clear();
         
-        long now = System.currentTimeMillis();
-        for (java.util.Iterator<Map.Entry<UUID, java.util.List<StoredContraband>>> it = confiscatedStorage.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<UUID, java.util.List<StoredContraband>> e = it.next();
-            e.getValue().removeIf(sc -> sc.expiresAt <= now);
-            if (e.getValue().isEmpty()) it.remove();
+        if (vaultPurgeTask != null) {
+            vaultPurgeTask.cancel();
+            vaultPurgeTask = null;
+        }
+        try {
+            if (!flushPendingVault().get(10, TimeUnit.SECONDS)) {
+                logger.warning(pendingVaultWrites.size() + " confiscated items could not be stored on shutdown");
+            }
+        } catch (Exception e) {
+            logger.warning("Failed to flush confiscated items on shutdown: " + e.getMessage());
         }
-        globalContrabandPool.removeIf(sc -> sc.expiresAt <= now);
+        vaultCache.clear();
         logger.info("ContrabandManager cleaned up successfully");
     }
     
     public void cleanupPlayer(Player player) {
         cancelActiveRequest(player);
+        vaultCache.remove(player.getUniqueId());
         
         
         if (plugin.getWantedManager().getWantedLevel(player) >= 3) {
@@ -720,11 +673,10 @@ public class ContrabandManager {
     }
 
     
-    public boolean hasStoredContraband(UUID playerId) {
-        purgeExpired(playerId);
-        java.util.List<StoredContraband> list = confiscatedStorage.get(playerId);
-        return list != null && !list.isEmpty();
+    public CompletableFuture<Boolean> hasStoredContraband(UUID playerId) {
+        return loadVault(playerId).thenApply(entries -> !entries.isEmpty());
     }
+    
     public int getBuybackPrice(UUID playerId) {
         String pricingMode = plugin.getConfigManager().getContrabandPricingMode();
         
@@ -752,62 +704,166 @@ public class ContrabandManager {
 
     
     public int getTotalStoredContrabandCount() {
-        int total = 0;
-        for (java.util.List<StoredContraband> items : confiscatedStorage.values()) {
-            total += items.size();
-        }
-        return total;
-    }
-
-    
-    public int getActiveStoredContrabandPlayers() {
-        return confiscatedStorage.size();
+        return Math.max(0, storedContrabandCount.get());
     }
     
     
     public int getActiveRequestCount() {
         return activeRequests.size();
     }
-    public boolean buybackStoredContraband(Player player) {
-        if (!hasStoredContraband(player.getUniqueId())) return false;
-        int price = getBuybackPrice(player.getUniqueId());
-        return plugin.getVaultEconomyManager().takeMoney(player, price, "Contraband buyback").join() &&
-               giveStoredItems(player);
-    }
-    private boolean giveStoredItems(Player player) {
-        String mode = plugin.getConfigManager().getContrabandConfiscationMode();
-        java.util.List<StoredContraband> list = confiscatedStorage.get(player.getUniqueId());
-        if (list == null || list.isEmpty()) return false;
-        if ("random".equalsIgnoreCase(mode)) {
-            
-            purgeExpired(player.getUniqueId());
-            if (globalContrabandPool.isEmpty()) return false;
-            java.util.Random rng = new java.util.Random();
-            int idx = rng.nextInt(globalContrabandPool.size());
-            StoredContraband sc = globalContrabandPool.remove(idx);
-            
-            ItemStack restoredItem = sc.getItemStack();
-            player.getInventory().addItem(restoredItem);
-        } else {
+    
+    
+    public CompletableFuture<Boolean> buybackStoredContraband(Player player) {
+        UUID playerId = player.getUniqueId();
+        if (!buybacksInProgress.add(playerId)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        int price = getBuybackPrice(playerId);
+        
+        return loadVault(playerId)
+            .thenCompose(entries -> entries.isEmpty()
+                ? CompletableFuture.completedFuture(false)
+                : plugin.getVaultEconomyManager().takeMoney(player, price, "Contraband buyback"))
+            .thenCompose(paid -> {
+                if (!paid) {
+                    return CompletableFuture.completedFuture(Collections.<ContrabandVaultEntry>emptyList());
+                }
+                return claimStoredItems(playerId).thenApply(claimed -> {
+                    if (claimed.isEmpty()) {
+                        plugin.getVaultEconomyManager().giveMoney(player, price, "Contraband buyback refund");
+                    }
+                    return claimed;
+                });
+            })
+            .thenCompose(claimed -> {
+                if (claimed == null || claimed.isEmpty()) {
+                    return CompletableFuture.completedFuture(false);
+                }
+                return deliverStoredItems(player, claimed, price);
+            })
+            .whenComplete((result, throwable) -> buybacksInProgress.remove(playerId));
+    }
+    
+    private CompletableFuture<List<ContrabandVaultEntry>> claimStoredItems(UUID playerId) {
+        if ("random".equalsIgnoreCase(plugin.getConfigManager().getContrabandConfiscationMode())) {
             
-            for (StoredContraband sc : list) {
-                ItemStack restoredItem = sc.getItemStack();
-                player.getInventory().addItem(restoredItem);
+            return plugin.getDataManager().claimRandomContrabandEntry().thenApply(entry -> {
+                if (entry == null) {
+                    return Collections.<ContrabandVaultEntry>emptyList();
+                }
+                vaultCache.remove(entry.getOwnerId());
+                storedContrabandCount.decrementAndGet();
+                return Collections.singletonList(entry);
+            });
+        }
+        
+        List<ContrabandVaultEntry> entries = vaultCache.remove(playerId);
+        if (entries == null || entries.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        List<UUID> entryIds = new ArrayList<>(entries.size());
+        for (ContrabandVaultEntry entry : entries) {
+            entryIds.add(entry.getEntryId());
+        }
+        return plugin.getDataManager().deleteContrabandEntries(entryIds).thenApply(deleted -> {
+            storedContrabandCount.addAndGet(-deleted);
+            return deleted > 0 ? entries : Collections.<ContrabandVaultEntry>emptyList();
+        });
+    }
+    
+    private CompletableFuture<Boolean> deliverStoredItems(Player player, List<ContrabandVaultEntry> claimed, int price) {
+        CompletableFuture<Boolean> delivered = new CompletableFuture<>();
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (!player.isOnline()) {
+                
+                pendingVaultWrites.addAll(claimed);
+                storedContrabandCount.addAndGet(claimed.size());
+                flushPendingVault();
+                plugin.getVaultEconomyManager().giveMoney(player, price, "Contraband buyback refund");
+                delivered.complete(false);
+                return;
+            }
+            for (ContrabandVaultEntry entry : claimed) {
+                ItemStack restoredItem = entry.toItemStack();
+                if (restoredItem != null) {
+                    player.getInventory().addItem(restoredItem);
+                }
             }
-            list.clear();
+            player.updateInventory();
+            delivered.complete(true);
+        });
+        return delivered;
+    }
+    
+    
+    private void storeConfiscatedItems(UUID ownerId, List<ItemStack> items, long expiresAt, boolean flushNow) {
+        for (ItemStack item : items) {
+            pendingVaultWrites.add(ContrabandVaultEntry.of(ownerId, item, expiresAt));
         }
-        player.updateInventory();
-        if (list.isEmpty()) {
-            confiscatedStorage.remove(player.getUniqueId());
+        storedContrabandCount.addAndGet(items.size());
+        vaultCache.remove(ownerId);
+        
+        if (flushNow) {
+            flushPendingVault();
+        } else if (vaultFlushScheduled.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTaskLater(plugin, this::flushPendingVault, 20L);
         }
-        return true;
     }
-    private void purgeExpired(UUID playerId) {
-        java.util.List<StoredContraband> list = confiscatedStorage.get(playerId);
-        if (list == null) return;
-        long now = System.currentTimeMillis();
-        list.removeIf(sc -> sc.expiresAt <= now);
-        if (list.isEmpty()) confiscatedStorage.remove(playerId);
+    
+    private CompletableFuture<Boolean> flushPendingVault() {
+        vaultFlushScheduled.set(false);
+        List<ContrabandVaultEntry> batch = new ArrayList<>();
+        ContrabandVaultEntry entry;
+        while ((entry = pendingVaultWrites.poll()) != null) {
+            batch.add(entry);
+        }
+        if (batch.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return plugin.getDataManager().saveContrabandEntries(batch).thenApply(saved -> {
+            if (!saved) {
+                pendingVaultWrites.addAll(batch);
+                if (plugin.isEnabled() && vaultFlushScheduled.compareAndSet(false, true)) {
+                    Bukkit.getScheduler().runTaskLater(plugin, this::flushPendingVault, 20L * 30L);
+                }
+            }
+            return saved;
+        });
+    }
+    
+    
+    private CompletableFuture<List<ContrabandVaultEntry>> loadVault(UUID playerId) {
+        List<ContrabandVaultEntry> cached = vaultCache.get(playerId);
+        if (cached != null) {
+            long now = System.currentTimeMillis();
+            List<ContrabandVaultEntry> live = new ArrayList<>(cached.size());
+            for (ContrabandVaultEntry entry : cached) {
+                if (!entry.isExpired(now)) {
+                    live.add(entry);
+                }
+            }
+            if (live.size() != cached.size()) {
+                vaultCache.put(playerId, live);
+            }
+            return CompletableFuture.completedFuture(live);
+        }
+        return flushPendingVault()
+            .thenCompose(flushed -> plugin.getDataManager().loadContrabandEntries(playerId))
+            .thenApply(entries -> {
+                vaultCache.put(playerId, entries);
+                return entries;
+            });
+    }
+    
+    private void purgeExpiredContraband() {
+        plugin.getDataManager().purgeExpiredContraband().thenAccept(purged -> {
+            if (purged > 0) {
+                storedContrabandCount.addAndGet(-purged);
+                if (plugin.getConfigManager().isDebugMode()) {
+                    logger.info("DEBUG: Purged " + purged + " expired confiscated items");
+                }
+            }
+        });
     }
     
     
@@ -821,7 +877,6 @@ public class ContrabandManager {
         private final long startTime;
         private final int timeout;
         private final List<Material> droppedItems;
-        private BukkitTask timeoutTask;
         
         public ContrabandRequest(UUID guardId, UUID targetId, String type, String description,
                                List<Material> targetItems, long startTime, int timeout) {
@@ -844,10 +899,6 @@ public class ContrabandManager {
         public long getStartTime() { return startTime; }
         public int getTimeout() { return timeout; }
         public List<Material> getDroppedItems() { return droppedItems; }
-        public BukkitTask getTimeoutTask() { return timeoutTask; }
-        
-        
-        public void setTimeoutTask(BukkitTask timeoutTask) { this.timeoutTask = timeoutTask; }
         
         
         public void addDroppedItem(Material material) {
@@ -885,42 +936,4 @@ public class ContrabandManager {
                     '}';
         }
     }
-
-    
-    private static class StoredContraband {
-        final Material material; 
-        final int amount; 
-        final long expiresAt;
-        final String serializedItemData; 
-        
-        StoredContraband(ItemStack item, long expiresAt) {
-            this.material = item.getType();
-            this.amount = item.getAmount();
-            this.expiresAt = expiresAt;
-            this.serializedItemData = dev.lsdmc.edenCorrections.utils.InventorySerializer.serializeItemStackToBase64(item);
-        }
-        
-        
-        @Deprecated
-        StoredContraband(Material material, int amount, long expiresAt) {
-            this.material = material;
-            this.amount = amount;
-            this.expiresAt = expiresAt;
-            this.serializedItemData = null; 
-        }
-        
-        
-        public ItemStack getItemStack() {
-            if (serializedItemData != null) {
-                
-                ItemStack restored = dev.lsdmc.edenCorrections.utils.InventorySerializer.deserializeItemStackFromBase64(serializedItemData);
-                if (restored != null) {
-                    return restored;
-                }
-            }
-            
-            
-            return new ItemStack(material, amount);
-        }
-    }
 }
\ No newline at end of file
@@ -2,8 +2,17 @@ package dev.lsdmc.edenCorrections.managers;
 
 import dev.lsdmc.edenCorrections.EdenCorrections;
 import dev.lsdmc.edenCorrections.models.PlayerData;
+import dev.lsdmc.edenCorrections.models.GuardKitIndex;
+import dev.lsdmc.edenCorrections.models.PrefetchedInventories;
+import dev.lsdmc.edenCorrections.storage.StatsJournal;
+import dev.lsdmc.edenCorrections.utils.GuardRoster;
+import dev.lsdmc.edenCorrections.utils.HudTicker;
 import dev.lsdmc.edenCorrections.utils.InventorySerializer;
 import net.luckperms.api.LuckPerms;
+import net.luckperms.api.event.EventSubscription;
+import net.luckperms.api.event.node.NodeMutateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+import net.luckperms.api.model.group.Group;
 import net.luckperms.api.model.user.User;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -14,14 +23,13 @@ import org.bukkit.plugin.RegisteredServiceProvider;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import static dev.lsdmc.edenCorrections.managers.MessageManager.*;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import dev.lsdmc.edenCorrections.utils.LoggingUtils;
 
 public class DutyManager {
@@ -31,18 +39,31 @@ public class DutyManager {
     
     
     private LuckPerms luckPerms;
+    private final List<EventSubscription<?>> luckPermsSubscriptions = new ArrayList<>();
+    
+    
+    private static final String NO_RANK = "";
+    private static final String[] RANK_ORDER = {"captain", "sergeant", "officer", "private", "trainee"};
+    private final Map<UUID, String> rankCache = new ConcurrentHashMap<>();
+    private final AtomicLong rankCacheHits = new AtomicLong(0);
+    private final AtomicLong rankCacheMisses = new AtomicLong(0);
+    private final AtomicLong rankCacheGeneration = new AtomicLong(0);
+    private volatile boolean rankCacheEnabled = true;
     
     
-    private final Map<UUID, BukkitTask> dutyTransitions;
     private final Map<UUID, Location> transitionLocations;
     
     
     private final Map<UUID, String> inventoryCache; 
     private final Map<UUID, String> onDutyInventoryCache; 
+    private final Map<UUID, InventorySerializer.DecodedInventory> decodedInventoryCache = new HashMap<>();
+    private final Map<UUID, InventorySerializer.DecodedInventory> decodedOnDutyInventoryCache = new HashMap<>();
+    private final Set<UUID> pendingInventoryRestores = ConcurrentHashMap.newKeySet();
     private final List<Material> guardKitItems;
     
     
-    private final Map<UUID, List<String>> playerGuardKitItems; 
+    private final Map<UUID, GuardKitIndex> playerGuardKitItems; 
+    private final GuardRoster guardRoster;
 
     
     private final Map<UUID, Integer> lastTimeBasedBonusHourAwarded = new HashMap<>();
@@ -52,12 +73,12 @@ public class DutyManager {
     public DutyManager(EdenCorrections plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
-        this.dutyTransitions = new HashMap<>();
         this.transitionLocations = new HashMap<>();
         this.inventoryCache = new HashMap<>();
         this.onDutyInventoryCache = new HashMap<>();
         this.guardKitItems = InventorySerializer.getCommonGuardKitItems();
         this.playerGuardKitItems = new HashMap<>();
+        this.guardRoster = new GuardRoster(plugin);
     }
     
     public void initialize() {
@@ -67,6 +88,21 @@ public class DutyManager {
         initializeLuckPerms();
         
         
+        plugin.getConfigManager().addConfigChangeListener(new dev.lsdmc.edenCorrections.config.ConfigManager.ConfigChangeListener() {
+            @Override
+            public void onConfigReloaded() {
+                clearRankCache();
+            }
+            
+            @Override
+            public void onConfigValueChanged(String path, Object oldValue, Object newValue) {
+                if (path != null && path.startsWith("guard-system.rank-mappings")) {
+                    clearRankCache();
+                }
+            }
+        });
+        
+        
         startDutyMonitoring();
         
         logger.info("DutyManager initialized successfully!");
@@ -77,12 +113,33 @@ public class DutyManager {
             Bukkit.getServicesManager().getRegistration(LuckPerms.class);
         if (lpProvider != null) {
             luckPerms = lpProvider.getProvider();
+            subscribeRankInvalidation();
             logger.info("LuckPerms integration enabled - rank detection available");
         } else {
             logger.warning("LuckPerms not found - using permission-based rank detection");
         }
     }
     
+    private void subscribeRankInvalidation() {
+        try {
+            luckPermsSubscriptions.add(luckPerms.getEventBus().subscribe(plugin, UserDataRecalculateEvent.class,
+                event -> invalidateRankCache(event.getUser().getUniqueId())));
+            
+            
+            luckPermsSubscriptions.add(luckPerms.getEventBus().subscribe(plugin, NodeMutateEvent.class, event -> {
+                if (event.isUser()) {
+                    invalidateRankCache(((User) event.getTarget()).getUniqueId());
+                } else {
+                    clearRankCache();
+                }
+            }));
+        } catch (Exception e) {
+            logger.warning("Failed to subscribe to LuckPerms events - rank cache disabled: " + e.getMessage());
+            rankCacheEnabled = false;
+            rankCache.clear();
+        }
+    }
+    
 
     
     private void startDutyMonitoring() {
@@ -96,6 +153,8 @@ public class DutyManager {
     }
     
     private void checkDutyStatus() {
+        
+        guardRoster.reconcile();
         
         for (Player player : plugin.getServer().getOnlinePlayers()) {
             if (isSubjectToGuardRestrictions(player)) {
@@ -635,66 +694,35 @@ public class DutyManager {
         plugin.getBossBarManager().showDutyBossBar(player, immobilizationTime, guardRank);
         
         
-        BukkitTask task = new BukkitRunnable() {
-            private int remaining = immobilizationTime;
-            private final long startedAt = System.currentTimeMillis();
-            
-            @Override
-            public void run() {
-                try {
-                    
-                    if (!player.isOnline()) {
-                        dutyTransitions.remove(playerId);
-                        transitionLocations.remove(playerId);
-                        this.cancel();
-                        return;
-                    }
-                    
-                    long maxMillis = Math.max(immobilizationTime * 2000L, 15000L);
-                    if (System.currentTimeMillis() - startedAt > maxMillis) {
-                        cancelDutyTransition(player, "duty.restrictions.transition-timeout");
-                        this.cancel();
-                        return;
-                    }
-                    
-                    if (remaining <= 0) {
-                        
-                        completeDutyActivation(player, guardRank);
-                        dutyTransitions.remove(playerId);
-                        transitionLocations.remove(playerId);
-                        this.cancel();
-                        return;
-                    }
-                    
-                    
-                    Location storedLocation = transitionLocations.get(playerId);
-                    if (storedLocation != null && player.getLocation().distanceSquared(storedLocation) > 0.25) {
-                        
-                        cancelDutyTransition(player, "duty.restrictions.movement-cancelled");
-                        this.cancel();
-                        return;
-                    }
-                    
-                    
-                    if (!isInDutyRegion(player)) {
-                        cancelDutyTransition(player, "duty.restrictions.left-region");
-                        this.cancel();
-                        return;
-                    }
-                    
+        plugin.getHudTicker().countdown(player, HudTicker.CHANNEL_DUTY_TRANSITION, immobilizationTime,
+            (target, remaining, total) -> {
+                
+                Location storedLocation = transitionLocations.get(playerId);
+                if (storedLocation != null && target.getLocation().distanceSquared(storedLocation) > 0.25) {
                     
-                    plugin.getBossBarManager().updateDutyTransition(player, remaining, immobilizationTime);
-                    
-                    remaining--;
-                } catch (Exception e) {
-                    logger.severe("Error in duty transition countdown for " + player.getName() + ": " + e.getMessage());
-                    cancelDutyTransition(player, "System error");
-                    this.cancel();
+                    cancelDutyTransition(target, "duty.restrictions.movement-cancelled");
+                    return false;
                 }
-            }
-        }.runTaskTimer(plugin, 20L, 20L);
+                
+                
+                if (!isInDutyRegion(target)) {
+                    cancelDutyTransition(target, "duty.restrictions.left-region");
+                    return false;
+                }
+                
+                
+                plugin.getBossBarManager().updateDutyTransition(target, remaining, total);
+                return true;
+            },
+            (target, expired) -> {
+                transitionLocations.remove(playerId);
+                if (expired) {
+                    completeDutyActivation(target, guardRank);
+                } else if (target.isOnline()) {
+                    plugin.getBossBarManager().hideBossBarByType(target, "duty");
+                }
+            });
         
-        dutyTransitions.put(playerId, task);
         return true;
     }
     
@@ -702,10 +730,7 @@ public class DutyManager {
         UUID playerId = player.getUniqueId();
         
         
-        BukkitTask task = dutyTransitions.remove(playerId);
-        if (task != null) {
-            task.cancel();
-        }
+        plugin.getHudTicker().cancel(playerId, HudTicker.CHANNEL_DUTY_TRANSITION);
         
         
         transitionLocations.remove(playerId);
@@ -759,6 +784,7 @@ public class DutyManager {
         data.setOnDuty(true);
         data.setDutyStartTime(now);
         data.setGuardRank(guardRank);
+        guardRoster.refresh(player);
         data.setOffDutyTime(0);
         
         
@@ -889,7 +915,7 @@ public class DutyManager {
         
         
         long dutyTime = System.currentTimeMillis() - data.getDutyStartTime();
-        data.addDutyTime(dutyTime);
+        plugin.getDataManager().recordDutyTime(data, dutyTime);
         
         
         storeOnDutyInventory(player);
@@ -897,6 +923,7 @@ public class DutyManager {
         
         data.setOnDuty(false);
         data.setOffDutyTime(System.currentTimeMillis());
+        guardRoster.remove(player.getUniqueId());
         
         
         data.resetConsumedOffDutyTime();
@@ -1090,6 +1117,12 @@ public class DutyManager {
             return false;
         }
         
+        
+        if (isInventoryRestorePending(player)) {
+            logger.warning("Skipping on-duty inventory store for " + player.getName() + " - stored inventory has not been restored yet");
+            return false;
+        }
+        
         try {
             
             String inventoryData = InventorySerializer.serializePlayerInventory(player);
@@ -1142,22 +1175,20 @@ public class DutyManager {
             }
 
             
-            try {
-                com.google.gson.JsonObject obj = com.google.gson.JsonParser.parseString(inventoryData).getAsJsonObject();
-                if (!obj.has("format") || !obj.has("data")) {
-                    logger.warning("Invalid inventory data format for " + player.getName());
+            InventorySerializer.DecodedInventory decoded = takeDecodedInventory(decodedInventoryCache, playerId, inventoryData);
+            if (decoded == null) {
+                decoded = InventorySerializer.decodeInventorySnapshot(inventoryData);
+                if (decoded == null) {
+                    logger.warning("Corrupted inventory data for " + player.getName());
                     return false;
                 }
-            } catch (Exception ex) {
-                logger.warning("Corrupted inventory data for " + player.getName() + ": " + ex.getMessage());
-                return false;
             }
             
             
             int removedItems = InventorySerializer.removeGuardKitItems(player, guardKitItems);
             
             
-            boolean success = InventorySerializer.deserializePlayerInventory(player, inventoryData);
+            boolean success = InventorySerializer.applyDecodedInventory(player, decoded);
             
             if (success) {
                 
@@ -1194,21 +1225,18 @@ public class DutyManager {
             }
             
             if (inventoryData == null) {
-                
-                inventoryData = plugin.getDataManager().loadOnDutyInventory(playerId);
-                if (inventoryData == null) {
-                    if (plugin.getConfigManager().isDebugMode()) {
-                        logger.info("DEBUG: No cached or stored on-duty inventory for " + player.getName() + " - giving fresh kit");
-                    }
-                    return false;
+                if (plugin.getConfigManager().isDebugMode()) {
+                    logger.info("DEBUG: No cached or stored on-duty inventory for " + player.getName() + " - giving fresh kit");
                 }
-                
-                onDutyInventoryCache.put(playerId, inventoryData);
+                return false;
             }
             
             
+            InventorySerializer.DecodedInventory decoded = takeDecodedInventory(decodedOnDutyInventoryCache, playerId, inventoryData);
             player.getInventory().clear();
-            boolean success = InventorySerializer.deserializePlayerInventory(player, inventoryData);
+            boolean success = decoded != null
+                ? InventorySerializer.applyDecodedInventory(player, decoded)
+                : InventorySerializer.deserializePlayerInventory(player, inventoryData);
             
             if (success) {
                 LoggingUtils.debug(logger, plugin.getConfigManager().isDebugMode(), "Restored on-duty inventory for " + player.getName());
@@ -1235,58 +1263,6 @@ public class DutyManager {
     }
     
     
-    public void cleanupOldStoredInventories() {
-        try {
-            
-            long cutoffTime = System.currentTimeMillis() - (7 * 24 * 60 * 60 * 1000L); 
-            
-            
-            List<UUID> storedInventoryPlayers = plugin.getDataManager().getPlayersWithStoredInventory();
-            
-            int cleanedCount = 0;
-            for (UUID playerId : storedInventoryPlayers) {
-                PlayerData data = plugin.getDataManager().getPlayerData(playerId);
-                
-                
-                if (data != null && !data.isOnDuty()) {
-                    String inventoryData = plugin.getDataManager().loadPlayerInventory(playerId);
-                    if (inventoryData != null) {
-                        
-                        try {
-                            JsonObject inventoryObj = JsonParser.parseString(inventoryData).getAsJsonObject();
-                            if (inventoryObj.has("metadata")) {
-                                JsonObject metadata = inventoryObj.getAsJsonObject("metadata");
-                                if (metadata.has("timestamp")) {
-                                    long timestamp = metadata.get("timestamp").getAsLong();
-                                    if (timestamp < cutoffTime) {
-                                        plugin.getDataManager().deletePlayerInventory(playerId);
-                                        cleanedCount++;
-                                        
-                                        if (plugin.getConfigManager().isDebugMode()) {
-                                            logger.info("DEBUG: Cleaned up old stored inventory for " + playerId);
-                                        }
-                                    }
-                                }
-                            }
-                        } catch (Exception e) {
-                            
-                            plugin.getDataManager().deletePlayerInventory(playerId);
-                            cleanedCount++;
-                        }
-                    }
-                }
-            }
-            
-            if (cleanedCount > 0) {
-                logger.info("Cleaned up " + cleanedCount + " old stored inventories");
-            }
-            
-        } catch (Exception e) {
-            logger.severe("Failed to cleanup old stored inventories: " + e.getMessage());
-        }
-    }
-    
-    
     public boolean hasStoredInventoryForRestoration(Player player) {
         if (player == null) {
             return false;
@@ -1318,6 +1294,53 @@ public class DutyManager {
         return restoreOnDutyInventory(player);
     }
     
+    
+    public void seedStoredInventories(PrefetchedInventories inventories) {
+        if (inventories == null) {
+            return;
+        }
+        
+        UUID playerId = inventories.getPlayerId();
+        if (inventories.hasOffDutyInventory() && !inventoryCache.containsKey(playerId)) {
+            inventoryCache.put(playerId, inventories.getOffDutyData());
+            if (inventories.getOffDutyInventory() != null) {
+                decodedInventoryCache.put(playerId, inventories.getOffDutyInventory());
+            }
+        }
+        if (inventories.hasOnDutyInventory() && !onDutyInventoryCache.containsKey(playerId)) {
+            onDutyInventoryCache.put(playerId, inventories.getOnDutyData());
+            if (inventories.getOnDutyInventory() != null) {
+                decodedOnDutyInventoryCache.put(playerId, inventories.getOnDutyInventory());
+            }
+        }
+    }
+    
+    private InventorySerializer.DecodedInventory takeDecodedInventory(Map<UUID, InventorySerializer.DecodedInventory> cache,
+                                                                      UUID playerId, String inventoryData) {
+        InventorySerializer.DecodedInventory decoded = cache.remove(playerId);
+        if (decoded != null && decoded.getSource() == inventoryData) {
+            return decoded;
+        }
+        return null;
+    }
+    
+    public boolean holdsStoredInventory(UUID playerId, String inventoryData) {
+        return inventoryData != null
+            && (inventoryCache.get(playerId) == inventoryData || onDutyInventoryCache.get(playerId) == inventoryData);
+    }
+    
+    public void markInventoryRestorePending(UUID playerId) {
+        pendingInventoryRestores.add(playerId);
+    }
+    
+    public void clearInventoryRestorePending(UUID playerId) {
+        pendingInventoryRestores.remove(playerId);
+    }
+    
+    public boolean isInventoryRestorePending(Player player) {
+        return player != null && pendingInventoryRestores.contains(player.getUniqueId());
+    }
+    
     
     private final Map<UUID, List<String>> pendingOffDutyItems = new HashMap<>();
     private final Map<UUID, List<String>> pendingOnDutyItems = new HashMap<>();
@@ -1429,7 +1452,7 @@ public class DutyManager {
         
         try {
             UUID playerId = player.getUniqueId();
-            List<String> kitItems = new ArrayList<>();
+            List<ItemStack> kitItems = new ArrayList<>();
             ItemStack[] inventoryAfter = player.getInventory().getContents();
             
             
@@ -1470,10 +1493,7 @@ public class DutyManager {
                             addedItem.setAmount(afterItem.getAmount() - beforeItem.getAmount());
                             
                             
-                            String serializedItem = InventorySerializer.serializeItemStackToBase64(addedItem);
-                            if (serializedItem != null) {
-                                kitItems.add(serializedItem);
-                            }
+                            kitItems.add(addedItem);
                             continue; 
                         }
                     } else {
@@ -1483,17 +1503,14 @@ public class DutyManager {
                     
                     if (isNewKitItem) {
                         
-                        String serializedItem = InventorySerializer.serializeItemStackToBase64(afterItem);
-                        if (serializedItem != null) {
-                            kitItems.add(serializedItem);
-                        }
+                        kitItems.add(afterItem.clone());
                     }
                 }
             }
             
             
             if (!kitItems.isEmpty()) {
-                playerGuardKitItems.put(playerId, kitItems);
+                playerGuardKitItems.put(playerId, GuardKitIndex.of(kitItems));
                 
                 
                 if (plugin.getConfigManager().isTransferKitLoggingEnabled()) {
@@ -1506,16 +1523,10 @@ public class DutyManager {
                         if (plugin.getConfigManager().isDebugMode() && 
                             plugin.getConfigManager().isTransferOnlyDebugIndividualItemsEnabled()) {
                             for (int i = 0; i < kitItems.size(); i++) {
-                                try {
-                                    ItemStack item = InventorySerializer.deserializeItemStackFromBase64(kitItems.get(i));
-                                    if (item != null) {
-                                        String displayName = item.hasItemMeta() && item.getItemMeta().hasDisplayName() 
-                                            ? item.getItemMeta().getDisplayName() : item.getType().name();
-                                        logger.info("DEBUG:   Kit Item " + (i + 1) + ": " + displayName + " x" + item.getAmount());
-                                    }
-                                } catch (Exception e) {
-                                    logger.warning("DEBUG: Could not deserialize kit item for logging: " + e.getMessage());
-                                }
+                                ItemStack item = kitItems.get(i);
+                                String displayName = item.hasItemMeta() && item.getItemMeta().hasDisplayName() 
+                                    ? item.getItemMeta().getDisplayName() : item.getType().name();
+                                logger.info("DEBUG:   Kit Item " + (i + 1) + ": " + displayName + " x" + item.getAmount());
                             }
                         }
                     } else {
@@ -1524,16 +1535,10 @@ public class DutyManager {
                                    " (including ExecutableItems and custom items)");
                         
                         for (int i = 0; i < kitItems.size(); i++) {
-                            try {
-                                ItemStack item = InventorySerializer.deserializeItemStackFromBase64(kitItems.get(i));
-                                if (item != null) {
-                                    String displayName = item.hasItemMeta() && item.getItemMeta().hasDisplayName() 
-                                        ? item.getItemMeta().getDisplayName() : item.getType().name();
-                                    logger.info("DEBUG:   Kit Item " + (i + 1) + ": " + displayName + " x" + item.getAmount());
-                                }
-                            } catch (Exception e) {
-                                logger.warning("DEBUG: Could not deserialize kit item for logging: " + e.getMessage());
-                            }
+                            ItemStack item = kitItems.get(i);
+                            String displayName = item.hasItemMeta() && item.getItemMeta().hasDisplayName() 
+                                ? item.getItemMeta().getDisplayName() : item.getType().name();
+                            logger.info("DEBUG:   Kit Item " + (i + 1) + ": " + displayName + " x" + item.getAmount());
                         }
                     }
                 }
@@ -1557,7 +1562,7 @@ public class DutyManager {
         
         try {
             UUID playerId = player.getUniqueId();
-            List<String> kitItems = new ArrayList<>();
+            List<ItemStack> kitItems = new ArrayList<>();
             ItemStack[] inventoryAfter = player.getInventory().getContents();
             
             
@@ -1580,10 +1585,7 @@ public class DutyManager {
                             addedItem.setAmount(afterItem.getAmount() - beforeItem.getAmount());
                             
                             
-                            String serializedItem = InventorySerializer.serializeItemStackToBase64(addedItem);
-                            if (serializedItem != null) {
-                                kitItems.add(serializedItem);
-                            }
+                            kitItems.add(addedItem);
                             continue; 
                         }
                     } else {
@@ -1593,17 +1595,14 @@ public class DutyManager {
                     
                     if (isNewKitItem) {
                         
-                        String serializedItem = InventorySerializer.serializeItemStackToBase64(afterItem);
-                        if (serializedItem != null) {
-                            kitItems.add(serializedItem);
-                        }
+                        kitItems.add(afterItem.clone());
                     }
                 }
             }
             
             
             if (!kitItems.isEmpty()) {
-                playerGuardKitItems.put(playerId, kitItems);
+                playerGuardKitItems.put(playerId, GuardKitIndex.of(kitItems));
                 
                 if (plugin.getConfigManager().isTransferKitLoggingEnabled()) {
                     logger.info("DEBUG: Captured " + kitItems.size() + " guard kit items for " + player.getName() + 
@@ -1611,16 +1610,10 @@ public class DutyManager {
                     
                     
                     for (int i = 0; i < kitItems.size(); i++) {
-                        try {
-                            ItemStack item = InventorySerializer.deserializeItemStackFromBase64(kitItems.get(i));
-                            if (item != null) {
-                                String displayName = item.hasItemMeta() && item.getItemMeta().hasDisplayName() 
-                                    ? item.getItemMeta().getDisplayName() : item.getType().name();
-                                logger.info("DEBUG:   Kit Item " + (i + 1) + ": " + displayName + " x" + item.getAmount());
-                            }
-                        } catch (Exception e) {
-                            logger.warning("DEBUG: Could not deserialize kit item for logging: " + e.getMessage());
-                        }
+                        ItemStack item = kitItems.get(i);
+                        String displayName = item.hasItemMeta() && item.getItemMeta().hasDisplayName() 
+                            ? item.getItemMeta().getDisplayName() : item.getType().name();
+                        logger.info("DEBUG:   Kit Item " + (i + 1) + ": " + displayName + " x" + item.getAmount());
                     }
                 }
             } else {
@@ -1643,46 +1636,20 @@ public class DutyManager {
         }
         
         UUID playerId = player.getUniqueId();
-        List<String> kitItems = playerGuardKitItems.get(playerId);
+        GuardKitIndex kitIndex = playerGuardKitItems.get(playerId);
         
-        if (kitItems == null || kitItems.isEmpty()) {
+        if (kitIndex == null || kitIndex.isEmpty()) {
             
             return guardKitItems.contains(item.getType());
         }
         
         if (!plugin.getConfigManager().isTransferFullMetadataCheckEnabled()) {
             
-            for (String serializedKitItem : kitItems) {
-                try {
-                    ItemStack kitItem = InventorySerializer.deserializeItemStackFromBase64(serializedKitItem);
-                    if (kitItem != null && kitItem.getType() == item.getType()) {
-                        return true;
-                    }
-                } catch (Exception e) {
-                    
-                }
-            }
-            return false;
+            return kitIndex.containsType(item.getType());
         }
         
         
-        String itemSerialized = InventorySerializer.serializeItemStackToBase64(item);
-        if (itemSerialized == null) {
-            return false;
-        }
-        
-        for (String serializedKitItem : kitItems) {
-            try {
-                ItemStack kitItem = InventorySerializer.deserializeItemStackFromBase64(serializedKitItem);
-                if (kitItem != null && areItemStacksEquivalent(item, kitItem)) {
-                    return true;
-                }
-            } catch (Exception e) {
-                
-            }
-        }
-        
-        return false;
+        return kitIndex.containsEquivalent(item);
     }
     
     
@@ -1711,7 +1678,7 @@ public class DutyManager {
         
         
         if (luckPerms != null) {
-            String rank = detectRankFromLuckPerms(player);
+            String rank = resolveRankFromLuckPerms(player);
             if (rank != null) {
                 return rank;
             }
@@ -1731,39 +1698,110 @@ public class DutyManager {
         return null;
     }
     
+    private String resolveRankFromLuckPerms(Player player) {
+        UUID playerId = player.getUniqueId();
+        if (!rankCacheEnabled) {
+            return detectRankFromLuckPerms(player);
+        }
+        String cached = rankCache.get(playerId);
+        if (cached != null) {
+            rankCacheHits.incrementAndGet();
+            return cached.isEmpty() ? null : cached;
+        }
+        
+        rankCacheMisses.incrementAndGet();
+        return detectRankFromLuckPerms(player);
+    }
+    
     private String detectRankFromLuckPerms(Player player) {
+        long generation = rankCacheGeneration.get();
         try {
             User user = luckPerms.getUserManager().getUser(player.getUniqueId());
             if (user == null) {
                 return null;
             }
             
-                    Map<String, String> rankMappings = plugin.getConfigManager().getRankMappings();
-        
-        
-        
-        String[] rankOrder = {"captain", "sergeant", "officer", "private", "trainee"};
-        
-        for (String rankKey : rankOrder) {
+            Set<String> groupNames = new HashSet<>();
+            for (Group group : user.getInheritedGroups(user.getQueryOptions())) {
+                groupNames.add(group.getName().toLowerCase());
+            }
+            
+            Map<String, String> rankMappings = plugin.getConfigManager().getRankMappings();
+            
+            String detected = null;
+            for (String rankKey : RANK_ORDER) {
                 String groupName = rankMappings.get(rankKey);
-                if (groupName != null) {
-                    
-                    boolean hasGroup = user.getInheritedGroups(user.getQueryOptions()).stream()
-                            .anyMatch(group -> group.getName().equalsIgnoreCase(groupName));
-                    
-                    if (hasGroup) {
-                        return rankKey;
-                    }
+                if (groupName != null && groupNames.contains(groupName.toLowerCase())) {
+                    detected = rankKey;
+                    break;
                 }
             }
             
-            return null;
+            if (rankCacheEnabled) {
+                rankCache.put(player.getUniqueId(), detected != null ? detected : NO_RANK);
+                if (rankCacheGeneration.get() != generation) {
+                    rankCache.remove(player.getUniqueId());
+                }
+            }
+            return detected;
         } catch (Exception e) {
             logger.warning("Error detecting rank from LuckPerms for " + player.getName() + ": " + e.getMessage());
             return null;
         }
     }
     
+    public void invalidateRankCache(UUID playerId) {
+        if (playerId != null) {
+            rankCacheGeneration.incrementAndGet();
+            rankCache.remove(playerId);
+            scheduleRosterRefresh(playerId);
+        }
+    }
+    
+    public void clearRankCache() {
+        rankCacheGeneration.incrementAndGet();
+        rankCache.clear();
+        scheduleRosterRefresh(null);
+    }
+    
+    
+    private void scheduleRosterRefresh(UUID playerId) {
+        if (!plugin.isEnabled()) return;
+        Runnable refresh = () -> {
+            if (playerId == null) {
+                guardRoster.reconcile();
+                return;
+            }
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                guardRoster.refresh(player);
+            } else {
+                guardRoster.remove(playerId);
+            }
+        };
+        if (Bukkit.isPrimaryThread()) {
+            refresh.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, refresh);
+        }
+    }
+    
+    public GuardRoster getGuardRoster() {
+        return guardRoster;
+    }
+    
+    public long getRankCacheHits() {
+        return rankCacheHits.get();
+    }
+    
+    public long getRankCacheMisses() {
+        return rankCacheMisses.get();
+    }
+    
+    public int getRankCacheSize() {
+        return rankCache.size();
+    }
+    
     private String detectRankFromPermissions(Player player) {
         
         
@@ -1893,7 +1931,7 @@ public class DutyManager {
         
         
         long dutyTime = System.currentTimeMillis() - data.getDutyStartTime();
-        data.addDutyTime(dutyTime);
+        plugin.getDataManager().recordDutyTime(data, dutyTime);
         
         
         storeOnDutyInventory(player);
@@ -1901,6 +1939,7 @@ public class DutyManager {
         
         data.setOnDuty(false);
         data.setOffDutyTime(System.currentTimeMillis());
+        guardRoster.remove(player.getUniqueId());
         
         
         data.resetConsumedOffDutyTime();
@@ -1939,7 +1978,7 @@ public class DutyManager {
     }
 
     public boolean isInDutyTransition(Player player) {
-        return dutyTransitions.containsKey(player.getUniqueId());
+        return plugin.getHudTicker().isActive(player.getUniqueId(), HudTicker.CHANNEL_DUTY_TRANSITION);
     }
     
     public long getRequiredOffDutyTime() {
@@ -1963,6 +2002,7 @@ public class DutyManager {
         PlayerData data = plugin.getDataManager().getPlayerData(guard.getUniqueId());
         if (data != null) {
             data.incrementSessionSearches();
+            plugin.getDataManager().recordStat(guard.getUniqueId(), StatsJournal.SEARCH, 1);
             plugin.getDataManager().savePlayerData(data);
             
             
@@ -1981,6 +2021,7 @@ public class DutyManager {
         PlayerData data = plugin.getDataManager().getPlayerData(guard.getUniqueId());
         if (data != null) {
             data.incrementSessionSuccessfulSearches();
+            plugin.getDataManager().recordStat(guard.getUniqueId(), StatsJournal.SUCCESSFUL_SEARCH, 1);
             
             
             int bonusMinutes = plugin.getConfigManager().getSuccessfulSearchBonus();
@@ -2003,6 +2044,7 @@ public class DutyManager {
         PlayerData data = plugin.getDataManager().getPlayerData(guard.getUniqueId());
         if (data != null) {
             data.incrementSessionArrests();
+            plugin.getDataManager().recordStat(guard.getUniqueId(), StatsJournal.ARREST, 1);
             
             
             int bonusMinutes = plugin.getConfigManager().getSuccessfulArrestBonus();
@@ -2025,6 +2067,7 @@ public class DutyManager {
         PlayerData data = plugin.getDataManager().getPlayerData(guard.getUniqueId());
         if (data != null) {
             data.incrementSessionKills();
+            plugin.getDataManager().recordStat(guard.getUniqueId(), StatsJournal.KILL, 1);
             plugin.getDataManager().savePlayerData(data);
             
             
@@ -2043,6 +2086,7 @@ public class DutyManager {
         PlayerData data = plugin.getDataManager().getPlayerData(guard.getUniqueId());
         if (data != null) {
             data.incrementSessionDetections();
+            plugin.getDataManager().recordStat(guard.getUniqueId(), StatsJournal.DETECTION, 1);
             
             
             int bonusMinutes = plugin.getConfigManager().getSuccessfulDetectionBonus();
@@ -2062,14 +2106,11 @@ public class DutyManager {
     
     public void cleanup() {
         
-        for (Map.Entry<UUID, BukkitTask> entry : dutyTransitions.entrySet()) {
-            BukkitTask task = entry.getValue();
-            if (task != null) {
-                task.cancel();
-            }
+        for (UUID playerId : transitionLocations.keySet()) {
+            plugin.getHudTicker().cancel(playerId, HudTicker.CHANNEL_DUTY_TRANSITION);
             
             
-            Player player = Bukkit.getPlayer(entry.getKey());
+            Player player = Bukkit.getPlayer(playerId);
             if (player != null) {
                 plugin.getBossBarManager().hideBossBarByType(player, "duty");
             }
@@ -2085,9 +2126,22 @@ public class DutyManager {
         
         
         
-        dutyTransitions.clear();
         transitionLocations.clear();
         inventoryCache.clear();
+        decodedInventoryCache.clear();
+        decodedOnDutyInventoryCache.clear();
+        pendingInventoryRestores.clear();
+        rankCache.clear();
+        guardRoster.clear();
+        
+        
+        for (EventSubscription<?> subscription : luckPermsSubscriptions) {
+            try {
+                subscription.close();
+            } catch (Exception ignored) {
+            }
+        }
+        luckPermsSubscriptions.clear();
         onDutyInventoryCache.clear();
         pendingOffDutyItems.clear();
         pendingOnDutyItems.clear();
@@ -2096,6 +2150,9 @@ public class DutyManager {
     public void cleanupPlayer(Player player) {
         
         cancelDutyTransition(player, null);
+        invalidateRankCache(player.getUniqueId());
+        decodedInventoryCache.remove(player.getUniqueId());
+        decodedOnDutyInventoryCache.remove(player.getUniqueId());
         
         
         if (isOnDuty(player)) {
@@ -2137,6 +2194,8 @@ public class DutyManager {
                 restorePlayerInventory(player);
             }
         }
+        
+        pendingInventoryRestores.remove(player.getUniqueId());
     }
     
     
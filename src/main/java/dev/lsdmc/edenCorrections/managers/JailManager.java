@@ -2,11 +2,11 @@ package dev.lsdmc.edenCorrections.managers;
 
 import dev.lsdmc.edenCorrections.EdenCorrections;
 import dev.lsdmc.edenCorrections.models.PlayerData;
+import dev.lsdmc.edenCorrections.utils.ExpiryWheel;
+import dev.lsdmc.edenCorrections.utils.HudTicker;
 import dev.lsdmc.edenCorrections.utils.LoggingUtils;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -29,52 +29,24 @@ public class JailManager {
     private final Logger logger;
     
     
-    private final Map<UUID, BukkitTask> activeCountdowns;
-    
-    
     private final Map<UUID, JailCountdownData> countdownData;
     
     
-    private final Map<UUID, BukkitTask> minigameTasks = new HashMap<>();
     private final Map<UUID, MinigameState> minigameStates = new HashMap<>();
     private final MiniMessage mm = MiniMessage.miniMessage();
-    
-    
-    private final java.util.concurrent.ConcurrentHashMap<java.util.UUID, Long> jailTeleportBypassUntil = new java.util.concurrent.ConcurrentHashMap<>();
 
     public JailManager(EdenCorrections plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
-        this.activeCountdowns = new HashMap<>();
         this.countdownData = new HashMap<>();
     }
     
     public void initialize() {
         LoggingUtils.info(logger, "JailManager initialized successfully!");
-        
-        plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            try {
-                
-                for (UUID targetId : new java.util.ArrayList<>(minigameStates.keySet())) {
-                    MinigameState st = minigameStates.get(targetId);
-                    if (st == null) continue;
-                    if (System.currentTimeMillis() >= st.endTimeMs) {
-                        stopArrestMinigame(targetId, true);
-                    }
-                }
-                
-                for (UUID targetId : new java.util.ArrayList<>(activeCountdowns.keySet())) {
-                    org.bukkit.entity.Player p = plugin.getServer().getPlayer(targetId);
-                    if (p == null || !p.isOnline()) {
-                        cancelCountdown(targetId, "Player offline");
-                    }
-                }
-            } catch (Exception ignored) { }
-        }, 200L, 200L); 
     }
     
     public boolean startJailCountdown(Player guard, Player target, String reason) {
-        if (activeCountdowns.containsKey(target.getUniqueId())) {
+        if (isInJailCountdown(target)) {
             plugin.getMessageManager().sendMessage(guard, "jail.restrictions.already-active");
             return false;
         }
@@ -142,92 +114,80 @@ public class JailManager {
         }
         
         
-        BukkitTask countdownTask = new BukkitRunnable() {
-            int remaining = countdownTime;
-            
-            @Override
-            public void run() {
-                try {
-                    
-                    if (!guard.isOnline() || !target.isOnline()) {
-                        cancelCountdown(target.getUniqueId(), "Player disconnected");
-                        return;
-                    }
+        plugin.getHudTicker().countdown(target, HudTicker.CHANNEL_JAIL_COUNTDOWN, countdownTime,
+            (jailed, remaining, total) -> {
+                
+                if (!guard.isOnline()) {
+                    cancelCountdown(target.getUniqueId(), "Player disconnected");
+                    return false;
+                }
+                
+                
+                double guardDistance = guard.getLocation().distance(target.getLocation());
+                if (guardDistance > maxDistance) {
+                    cancelCountdown(target.getUniqueId(), "Guard moved too far away");
+                    plugin.getMessageManager().sendMessage(guard, "jail.countdown.cancelled",
+                        stringPlaceholder("reason", "Guard moved too far away"));
+                    return false;
+                }
+                
+                
+                if (chaseEnabled && !data.isSkipFleeDetection()) {
+                    Location targetCurrent = target.getLocation();
+                    Location guardCurrent = guard.getLocation();
                     
                     
-                    double guardDistance = guard.getLocation().distance(target.getLocation());
-                    if (guardDistance > maxDistance) {
-                        cancelCountdown(target.getUniqueId(), "Guard moved too far away");
-                        plugin.getMessageManager().sendMessage(guard, "jail.countdown.cancelled",
-                            stringPlaceholder("reason", "Guard moved too far away"));
-                        return;
-                    }
+                    double targetMovement = data.getInitialLocation().distance(targetCurrent);
+                    double guardMovement = data.getInitialGuardLocation().distance(guardCurrent);
                     
                     
-                    if (chaseEnabled && !data.isSkipFleeDetection()) {
-                        Location targetCurrent = target.getLocation();
-                        Location guardCurrent = guard.getLocation();
-                        
-                        
-                        double targetMovement = data.getInitialLocation().distance(targetCurrent);
-                        double guardMovement = data.getInitialGuardLocation().distance(guardCurrent);
-                        
-                        
-                        
-                        double relativeMovement = targetMovement - guardMovement;
-                        
-                        
-                        double maxRelativeMovement = fleeThreshold + 1.5; 
-                        
-                        
-                        
-                        double guardTargetDistance = guardCurrent.distance(targetCurrent);
-                        boolean tooFarFromGuard = guardTargetDistance > (maxDistance * 1.2); 
-                        
-                        if (relativeMovement > maxRelativeMovement || tooFarFromGuard) {
-                            
-                            cancelCountdown(target.getUniqueId(), "Target fled");
-                            startChaseAfterFlee(guard, target, reason, data);
-                            return;
-                        }
-                    }
                     
-                    remaining--;
+                    double relativeMovement = targetMovement - guardMovement;
                     
                     
-                    plugin.getBossBarManager().updateJailCountdown(target, remaining, countdownTime);
+                    double maxRelativeMovement = fleeThreshold + 1.5; 
                     
-                    if (remaining <= 0) {
-                        
-                        completeJail(guard, target, reason);
-                        cancel();
-                        activeCountdowns.remove(target.getUniqueId());
-                        countdownData.remove(target.getUniqueId());
-                    } else if (remaining <= 3) {
+                    
+                    
+                    double guardTargetDistance = guardCurrent.distance(targetCurrent);
+                    boolean tooFarFromGuard = guardTargetDistance > (maxDistance * 1.2); 
+                    
+                    if (relativeMovement > maxRelativeMovement || tooFarFromGuard) {
                         
-                        plugin.getMessageManager().sendMessage(guard, "jail.countdown.progress",
-                            numberPlaceholder("seconds", remaining));
-                        plugin.getMessageManager().sendMessage(target, "jail.countdown.progress",
-                            numberPlaceholder("seconds", remaining));
+                        cancelCountdown(target.getUniqueId(), "Target fled");
+                        startChaseAfterFlee(guard, target, reason, data);
+                        return false;
                     }
-                } catch (Exception e) {
-                    logger.severe("Error in jail countdown for " + target.getName() + ": " + e.getMessage());
-                    cancelCountdown(target.getUniqueId(), "System error");
                 }
-            }
-        }.runTaskTimer(plugin, 20L, 20L); 
-        
-        activeCountdowns.put(target.getUniqueId(), countdownTask);
+                
+                
+                plugin.getBossBarManager().updateJailCountdown(target, remaining, total);
+                
+                if (remaining <= 3) {
+                    
+                    plugin.getMessageManager().sendMessage(guard, "jail.countdown.progress",
+                        numberPlaceholder("seconds", remaining));
+                    plugin.getMessageManager().sendMessage(target, "jail.countdown.progress",
+                        numberPlaceholder("seconds", remaining));
+                }
+                return true;
+            },
+            (jailed, expired) -> {
+                if (expired && guard.isOnline()) {
+                    
+                    completeJail(guard, target, reason);
+                    countdownData.remove(target.getUniqueId());
+                } else {
+                    cancelCountdown(target.getUniqueId(), target.isOnline() && guard.isOnline() ? "System error" : "Player disconnected");
+                }
+            });
         
         logger.info("Jail countdown started: " + guard.getName() + " -> " + target.getName() + " (" + reason + ")");
         return true;
     }
     
     private void cancelCountdown(UUID targetId, String reason) {
-        BukkitTask task = activeCountdowns.remove(targetId);
-        if (task != null) {
-            task.cancel();
-        }
+        plugin.getHudTicker().cancel(targetId, HudTicker.CHANNEL_JAIL_COUNTDOWN);
         
         
         countdownData.remove(targetId);
@@ -532,7 +492,7 @@ public class JailManager {
     }
     
     public boolean isInJailCountdown(Player player) {
-        return activeCountdowns.containsKey(player.getUniqueId());
+        return plugin.getHudTicker().isActive(player.getUniqueId(), HudTicker.CHANNEL_JAIL_COUNTDOWN);
     }
     
     public void cancelJailCountdown(Player player) {
@@ -540,10 +500,8 @@ public class JailManager {
     }
     
     private void notifyGuards(String messageKey, TagResolver... placeholders) {
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            if (plugin.getDutyManager().isSubjectToGuardRestrictions(player) && plugin.getDutyManager().isOnDuty(player)) {
-                plugin.getMessageManager().sendGuardAlert(messageKey, placeholders);
-            }
+        if (plugin.getDutyManager().getGuardRoster().size() > 0) {
+            plugin.getMessageManager().sendGuardAlert(messageKey, placeholders);
         }
     }
     
@@ -665,19 +623,8 @@ public class JailManager {
         final int sMin = Math.min(successStart, successEnd);
         final int sMax = Math.max(successStart, successEnd);
 
-        BukkitTask task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!target.isOnline()) {
-                    stopArrestMinigame(targetId, false);
-                    return;
-                }
-                if (System.currentTimeMillis() >= state.endTimeMs) {
-                    
-                    stopArrestMinigame(targetId, true);
-                    return;
-                }
-                
+        plugin.getHudTicker().repeat(target, HudTicker.CHANNEL_ARREST_MINIGAME, Math.max(1L, state.currentSpeed), endTime - System.currentTimeMillis(),
+            frameTarget -> {
                 try {
                     
                     if (plugin.getConfigManager().isArrestMinigameSpeedVariationEnabled()) {
@@ -769,17 +716,13 @@ public class JailManager {
                 } catch (Exception e) {
                     logger.warning("Minigame tick error for " + target.getName() + ": " + e.getMessage());
                 }
-            }
-        }.runTaskTimer(plugin, 0L, Math.max(1L, state.currentSpeed));
-        
-        minigameTasks.put(targetId, task);
+                return true;
+            },
+            (frameTarget, expired) -> stopArrestMinigame(targetId, expired));
     }
     
     private void stopArrestMinigame(UUID targetId, boolean clearBar) {
-        BukkitTask t = minigameTasks.remove(targetId);
-        if (t != null) {
-            t.cancel();
-        }
+        plugin.getHudTicker().cancel(targetId, HudTicker.CHANNEL_ARREST_MINIGAME);
         minigameStates.remove(targetId);
         
         if (clearBar) {
@@ -793,18 +736,13 @@ public class JailManager {
     public void grantJailTeleportBypass(Player player, int durationSeconds) {
         if (player == null || durationSeconds <= 0) return;
         long until = System.currentTimeMillis() + (durationSeconds * 1000L);
-        jailTeleportBypassUntil.put(player.getUniqueId(), until);
+        plugin.getExpiryWheel().schedule(ExpiryWheel.JAIL_TELEPORT_BYPASS, player.getUniqueId(), until, playerId -> { });
     }
 
     public boolean hasJailTeleportBypass(Player player) {
         if (player == null) return false;
-        Long until = jailTeleportBypassUntil.get(player.getUniqueId());
-        if (until == null) return false;
-        if (System.currentTimeMillis() > until) {
-            jailTeleportBypassUntil.remove(player.getUniqueId());
-            return false;
-        }
-        return true;
+        long until = plugin.getExpiryWheel().getDeadline(ExpiryWheel.JAIL_TELEPORT_BYPASS, player.getUniqueId());
+        return until > 0 && System.currentTimeMillis() <= until;
     }
 
     
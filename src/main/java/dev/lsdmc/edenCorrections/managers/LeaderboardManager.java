@@ -0,0 +1,240 @@
+package dev.lsdmc.edenCorrections.managers;
+
+import dev.lsdmc.edenCorrections.EdenCorrections;
+import dev.lsdmc.edenCorrections.models.LeaderboardEntry;
+import dev.lsdmc.edenCorrections.models.LeaderboardStat;
+import dev.lsdmc.edenCorrections.models.PlayerData;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+public class LeaderboardManager {
+
+    private static final Comparator<LeaderboardEntry> BY_VALUE =
+        Comparator.comparingLong(LeaderboardEntry::getValue).reversed();
+
+    private final EdenCorrections plugin;
+    private final Logger logger;
+
+    private final Map<LeaderboardStat, List<LeaderboardEntry>> boards = new ConcurrentHashMap<>();
+    private volatile Map<String, Long> totals = Collections.emptyMap();
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final AtomicBoolean refreshRequested = new AtomicBoolean(false);
+    private final AtomicBoolean demotionRefreshPending = new AtomicBoolean(false);
+    private final AtomicLong refreshes = new AtomicLong(0);
+    private final AtomicLong incrementalUpdates = new AtomicLong(0);
+
+    private volatile int size;
+    private volatile long lastRefresh;
+    private BukkitTask refreshTask;
+
+    public LeaderboardManager(EdenCorrections plugin) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+    }
+
+    public void initialize() {
+        long interval = 20L * plugin.getConfigManager().getLeaderboardRefreshInterval();
+        refreshTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::refresh, 20L, interval);
+
+        if (!plugin.getConfigManager().isLeaderboardsEnabled()) {
+            logger.info("LeaderboardManager initialized (leaderboards disabled by config, totals only)");
+            return;
+        }
+
+        size = plugin.getConfigManager().getLeaderboardSize();
+        for (LeaderboardStat stat : LeaderboardStat.values()) {
+            boards.put(stat, Collections.emptyList());
+        }
+
+        logger.info("LeaderboardManager initialized successfully!");
+    }
+
+    public void cleanup() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
+        boards.clear();
+        totals = Collections.emptyMap();
+    }
+
+
+    public void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            refreshRequested.set(true);
+            return;
+        }
+        refreshRequested.set(false);
+        size = plugin.getConfigManager().getLeaderboardSize();
+
+        List<CompletableFuture<Void>> loads = new ArrayList<>();
+        for (LeaderboardStat stat : boards.keySet()) {
+            loads.add(plugin.getDataManager().loadLeaderboard(stat, size).thenAccept(entries -> {
+                if (entries != null) {
+                    boards.compute(stat, (key, board) -> overlayCached(stat, entries));
+                }
+            }));
+        }
+        loads.add(plugin.getDataManager().loadStatTotals().thenAccept(loaded -> {
+            if (loaded != null) {
+                totals = loaded;
+            }
+        }));
+
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).whenComplete((result, throwable) -> {
+            lastRefresh = System.currentTimeMillis();
+            refreshes.incrementAndGet();
+            refreshing.set(false);
+            if (plugin.getConfigManager().isDebugMode()) {
+                logger.info("DEBUG: Leaderboards refreshed (" + incrementalUpdates.get() + " incremental updates so far)");
+            }
+            if (refreshRequested.get() && plugin.isEnabled()) {
+                Bukkit.getScheduler().runTaskAsynchronously(plugin, this::refresh);
+            }
+        });
+    }
+
+
+    public void recordStats(PlayerData data) {
+        if (boards.isEmpty()) {
+            return;
+        }
+
+        boolean demoted = false;
+        for (LeaderboardStat stat : LeaderboardStat.values()) {
+            List<LeaderboardEntry> board = boards.get(stat);
+            if (board == null) {
+                continue;
+            }
+            long value = stat.valueOf(data);
+            if (!affects(board, data, value)) {
+                continue;
+            }
+            boolean[] dropped = new boolean[1];
+            boards.computeIfPresent(stat, (key, current) -> place(current, data, value, dropped));
+            demoted |= dropped[0];
+        }
+
+        if (demoted && plugin.isEnabled() && demotionRefreshPending.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, () -> {
+                demotionRefreshPending.set(false);
+                refresh();
+            }, 20L * 5L);
+        }
+    }
+
+    public List<LeaderboardEntry> getTop(LeaderboardStat stat) {
+        return boards.getOrDefault(stat, Collections.emptyList());
+    }
+
+    public LeaderboardEntry getEntry(LeaderboardStat stat, int position) {
+        List<LeaderboardEntry> board = getTop(stat);
+        return position >= 1 && position <= board.size() ? board.get(position - 1) : null;
+    }
+
+    public int getPosition(LeaderboardStat stat, UUID playerId) {
+        return indexOf(getTop(stat), playerId) + 1;
+    }
+
+    public long getTotal(String column) {
+        return totals.getOrDefault(column, 0L);
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("refreshes", refreshes.get());
+        stats.put("incrementalUpdates", incrementalUpdates.get());
+        stats.put("lastRefresh", lastRefresh);
+        stats.put("size", (long) size);
+        return stats;
+    }
+
+    private boolean affects(List<LeaderboardEntry> board, PlayerData data, long value) {
+        int index = indexOf(board, data.getPlayerId());
+        if (index >= 0) {
+            LeaderboardEntry current = board.get(index);
+            return current.getValue() != value || !Objects.equals(current.getPlayerName(), data.getPlayerName());
+        }
+        if (value <= 0) {
+            return false;
+        }
+        return board.size() < size || value > board.get(board.size() - 1).getValue();
+    }
+
+
+    private List<LeaderboardEntry> place(List<LeaderboardEntry> board, PlayerData data, long value, boolean[] dropped) {
+        if (!affects(board, data, value)) {
+            return board;
+        }
+
+        List<LeaderboardEntry> updated = new ArrayList<>(board);
+        int index = indexOf(updated, data.getPlayerId());
+        if (index >= 0) {
+            LeaderboardEntry previous = updated.remove(index);
+            dropped[0] = value < previous.getValue() && board.size() >= size;
+        }
+        if (value > 0) {
+            int position = 0;
+            while (position < updated.size() && updated.get(position).getValue() >= value) {
+                position++;
+            }
+            updated.add(position, new LeaderboardEntry(data.getPlayerId(), data.getPlayerName(), value));
+        }
+
+        incrementalUpdates.incrementAndGet();
+        return trim(updated);
+    }
+
+
+    private List<LeaderboardEntry> overlayCached(LeaderboardStat stat, List<LeaderboardEntry> loaded) {
+        Map<UUID, LeaderboardEntry> merged = new HashMap<>();
+        for (LeaderboardEntry entry : loaded) {
+            merged.put(entry.getPlayerId(), entry);
+        }
+        long floor = loaded.size() >= size ? loaded.get(loaded.size() - 1).getValue() : 0L;
+        for (PlayerData data : plugin.getDataManager().getCachedPlayerData()) {
+            long value = stat.valueOf(data);
+            boolean listed = merged.containsKey(data.getPlayerId());
+            if (value > 0 && (listed || value > floor)) {
+                merged.put(data.getPlayerId(), new LeaderboardEntry(data.getPlayerId(), data.getPlayerName(), value));
+            } else if (listed) {
+                merged.remove(data.getPlayerId());
+            }
+        }
+
+        List<LeaderboardEntry> ranked = new ArrayList<>(merged.values());
+        ranked.sort(BY_VALUE);
+        return trim(ranked);
+    }
+
+    private List<LeaderboardEntry> trim(List<LeaderboardEntry> ranked) {
+        if (ranked.size() > size) {
+            ranked = new ArrayList<>(ranked.subList(0, size));
+        }
+        return Collections.unmodifiableList(ranked);
+    }
+
+    private int indexOf(List<LeaderboardEntry> board, UUID playerId) {
+        for (int i = 0; i < board.size(); i++) {
+            if (board.get(i).getPlayerId().equals(playerId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
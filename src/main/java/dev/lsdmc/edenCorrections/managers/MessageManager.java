@@ -1,6 +1,7 @@
 package dev.lsdmc.edenCorrections.managers;
 
 import dev.lsdmc.edenCorrections.EdenCorrections;
+import dev.lsdmc.edenCorrections.utils.HudTicker;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
@@ -12,7 +13,6 @@ import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.entity.Player;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.ConsoleCommandSender;
 
@@ -25,6 +25,7 @@ import java.util.UUID;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.time.Duration;
 import java.util.List;
 import java.util.ArrayList;
@@ -38,14 +39,26 @@ public class MessageManager {
     
     private final Map<String, String> messageCache;
     
-    
-    private final Map<UUID, BossBar> activeBossBars;
     
-    
-    private final Map<UUID, BukkitTask> bossBarTasks;
+    private final Map<String, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
+    private volatile Component prefixComponent;
+    private final AtomicLong templateHits = new AtomicLong(0);
+    private final AtomicLong templateMisses = new AtomicLong(0);
+    private final AtomicLong staticComponentHits = new AtomicLong(0);
+    
+    private static final class CompiledTemplate {
+        private final String source;
+        private final boolean hasExternalPlaceholders;
+        private volatile Component staticComponent;
+        
+        CompiledTemplate(String source) {
+            this.source = source;
+            this.hasExternalPlaceholders = EXTERNAL_PLACEHOLDER.matcher(source).find();
+        }
+    }
     
     
-    private final Map<UUID, BukkitTask> actionBarTasks;
+    private final Map<UUID, BossBar> activeBossBars;
     
     
     private boolean placeholderAPIEnabled;
@@ -76,8 +89,6 @@ public class MessageManager {
         this.miniMessage = MiniMessage.miniMessage();
         this.messageCache = new ConcurrentHashMap<>();
         this.activeBossBars = new ConcurrentHashMap<>();
-        this.bossBarTasks = new ConcurrentHashMap<>();
-        this.actionBarTasks = new ConcurrentHashMap<>();
         this.placeholderAPIEnabled = false;
         this.messageUsageCount = new ConcurrentHashMap<>();
         this.missingMessages = new ArrayList<>();
@@ -114,6 +125,7 @@ public class MessageManager {
         
         
         messageCache.clear();
+        invalidateTemplateCache();
         messageUsageCount.clear();
         missingMessages.clear();
         invalidMessages.clear();
@@ -133,6 +145,7 @@ public class MessageManager {
         
         
         messageCache.clear();
+        invalidateTemplateCache();
         messageUsageCount.clear();
         missingMessages.clear();
         invalidMessages.clear();
@@ -177,6 +190,7 @@ public class MessageManager {
             String prefix = plugin.getConfigManager().getConfig().getString("prefix");
             if (prefix != null) {
                 messageCache.put("prefix", prefix);
+                compiledTemplates.put("prefix", new CompiledTemplate(prefix));
                 logger.info("MessageManager: Loaded prefix: " + prefix);
             } else {
                 logger.warning("MessageManager: No prefix found in config!");
@@ -227,6 +241,7 @@ public class MessageManager {
                 String message = section.getString(key);
                 if (message != null) {
                     messageCache.put(fullKey, message);
+                    compiledTemplates.put(fullKey, new CompiledTemplate(convertLegacyPlaceholders(message)));
                     
                     
                     if (LEGACY_PLACEHOLDER.matcher(message).find()) {
@@ -325,11 +340,8 @@ public class MessageManager {
                 Placeholder.component("message", getMessage(null, messageKey, placeholders)));
         
         if (alertMessage != null) {
-            for (Player player : plugin.getServer().getOnlinePlayers()) {
-                if (plugin.getDutyManager().isSubjectToGuardRestrictions(player) && 
-                    plugin.getDutyManager().isOnDuty(player)) {
-                    player.sendMessage(alertMessage);
-                }
+            for (Player player : plugin.getDutyManager().getGuardRoster().getOnlineGuards()) {
+                player.sendMessage(alertMessage);
             }
                 trackMessageUsage(messageKey);
             }
@@ -378,17 +390,9 @@ public class MessageManager {
             showBossBar(player, messageKey, color, overlay, placeholders);
             
             
-            BukkitTask existingTask = bossBarTasks.remove(player.getUniqueId());
-            if (existingTask != null) {
-                existingTask.cancel();
-            }
-            
-            
-            BukkitTask task = plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                hideBossBar(player);
-            }, durationSeconds * 20L);
-            
-            bossBarTasks.put(player.getUniqueId(), task);
+            plugin.getHudTicker().countdown(player, HudTicker.CHANNEL_MESSAGE_BOSS_BAR, durationSeconds,
+                (target, remaining, total) -> true,
+                (target, expired) -> hideBossBar(target));
         } catch (Exception e) {
             logger.severe("Error showing timed boss bar to " + player.getName() + ": " + e.getMessage());
             e.printStackTrace();
@@ -418,53 +422,22 @@ public class MessageManager {
             player.showBossBar(bossBar);
             
             
-            BukkitTask existingTask = bossBarTasks.remove(player.getUniqueId());
-            if (existingTask != null) {
-                existingTask.cancel();
-            }
-            
-            
-            BukkitTask task = plugin.getServer().getScheduler().runTaskTimer(plugin, new Runnable() {
-                private int remaining = durationSeconds;
-                
-                @Override
-                public void run() {
+            plugin.getHudTicker().countdown(player, HudTicker.CHANNEL_MESSAGE_BOSS_BAR, durationSeconds,
+                (target, remaining, total) -> {
                     
-                    if (!player.isOnline()) {
-                        hideBossBar(player);
-                        return;
-                    }
+                    TagResolver[] combinedPlaceholders = combineTagResolvers(staticPlaceholders, timePlaceholder("time", remaining));
                     
-                    if (remaining <= 0) {
-                        
-                        hideBossBar(player);
-                        return;
-                    }
                     
-                    try {
-                        
-                        TagResolver[] combinedPlaceholders = combineTagResolvers(staticPlaceholders, timePlaceholder("time", remaining));
-                        
-                        
-                        Component title = getMessage(player, messageKey, combinedPlaceholders);
-                        if (title != null) {
-                            bossBar.name(title);
-                        }
-                        
-                        
-                        float progress = Math.max(0.0f, Math.min(1.0f, (float) remaining / durationSeconds));
-                        bossBar.progress(progress);
-                        
-                        remaining--;
-                        
-                    } catch (Exception e) {
-                        logger.warning("Error updating countdown boss bar for " + player.getName() + ": " + e.getMessage());
-                        hideBossBar(player);
+                    Component title = getMessage(target, messageKey, combinedPlaceholders);
+                    if (title != null) {
+                        bossBar.name(title);
                     }
-                }
-            }, 0L, 20L);
-            
-            bossBarTasks.put(player.getUniqueId(), task);
+                    
+                    
+                    bossBar.progress(HudTicker.quantizeProgress(total > 0 ? (float) remaining / total : 0.0f));
+                    return true;
+                },
+                (target, expired) -> hideBossBar(target));
             trackMessageUsage(messageKey);
         } catch (Exception e) {
             logger.severe("Error showing countdown boss bar to " + player.getName() + ": " + e.getMessage());
@@ -525,10 +498,7 @@ public class MessageManager {
         }
             
             
-            BukkitTask task = bossBarTasks.remove(playerId);
-            if (task != null) {
-                task.cancel();
-            }
+            plugin.getHudTicker().cancel(playerId, HudTicker.CHANNEL_MESSAGE_BOSS_BAR);
             
             
         } catch (Exception e) {
@@ -574,36 +544,19 @@ public class MessageManager {
             if (message == null) return;
             
             
-            BukkitTask existingTask = actionBarTasks.remove(player.getUniqueId());
-            if (existingTask != null) {
-                existingTask.cancel();
-            }
-            
-            
-            player.sendActionBar(message);
             trackMessageUsage(messageKey);
             
             
-            BukkitTask task = plugin.getServer().getScheduler().runTaskTimer(plugin, new Runnable() {
-                private int remaining = durationSeconds;
-                
-                @Override
-                public void run() {
-                    if (remaining <= 0 || !player.isOnline()) {
-                        actionBarTasks.remove(player.getUniqueId());
-                        
-                        if (player.isOnline()) {
-                            player.sendActionBar(Component.empty());
-                        }
-                        return;
+            plugin.getHudTicker().countdown(player, HudTicker.CHANNEL_ACTION_BAR, durationSeconds,
+                (target, remaining, total) -> {
+                    target.sendActionBar(message);
+                    return true;
+                },
+                (target, expired) -> {
+                    if (target.isOnline()) {
+                        target.sendActionBar(Component.empty());
                     }
-                    
-                    player.sendActionBar(message);
-                    remaining--;
-                }
-            }, 0L, 20L);
-            
-            actionBarTasks.put(player.getUniqueId(), task);
+                });
         } catch (Exception e) {
             logger.warning("Error sending timed action bar to " + player.getName() + ": " + e.getMessage());
         }
@@ -614,11 +567,8 @@ public class MessageManager {
             Component message = getMessage(null, messageKey, placeholders);
             if (message == null) return;
             
-            for (Player player : plugin.getServer().getOnlinePlayers()) {
-                if (plugin.getDutyManager().isSubjectToGuardRestrictions(player) && 
-                    plugin.getDutyManager().isOnDuty(player)) {
-                    player.sendActionBar(message);
-                }
+            for (Player player : plugin.getDutyManager().getGuardRoster().getOnlineGuards()) {
+                player.sendActionBar(message);
             }
             trackMessageUsage(messageKey);
         } catch (Exception e) {
@@ -658,8 +608,9 @@ public class MessageManager {
             Component message = getMessage(null, messageKey, placeholders);
             if (message == null) return;
             
+            Component prefixed = getPrefix().append(message);
             for (Player player : plugin.getServer().getOnlinePlayers()) {
-                player.sendMessage(getPrefix().append(message));
+                player.sendMessage(prefixed);
             }
             trackMessageUsage(messageKey);
         } catch (Exception e) {
@@ -715,10 +666,7 @@ public class MessageManager {
         }
         
         try {
-            BukkitTask task = actionBarTasks.remove(player.getUniqueId());
-            if (task != null) {
-                task.cancel();
-            }
+            plugin.getHudTicker().cancel(player.getUniqueId(), HudTicker.CHANNEL_ACTION_BAR);
             player.sendActionBar(Component.empty());
         } catch (Exception e) {
             logger.warning("Error clearing action bar for " + player.getName() + ": " + e.getMessage());
@@ -759,8 +707,8 @@ public class MessageManager {
     
     
     public Component getMessage(Player player, String messageKey, TagResolver... placeholders) {
-        String rawMessage = getRawMessage(messageKey);
-        if (rawMessage == null) {
+        CompiledTemplate template = getCompiledTemplate(messageKey);
+        if (template == null) {
             
             if (!missingMessages.contains(messageKey)) {
                 missingMessages.add(messageKey);
@@ -769,16 +717,32 @@ public class MessageManager {
             return miniMessage.deserialize("<color:" + ERROR_COLOR + ">Message not found: " + messageKey + "</color>");
         }
         
-        
-        rawMessage = convertLegacyPlaceholders(rawMessage);
+        String rawMessage = template.source;
+        boolean applyPlaceholderAPI = placeholderAPIEnabled && player != null && template.hasExternalPlaceholders;
         
         
-        if (placeholderAPIEnabled && player != null) {
+        if (!applyPlaceholderAPI && (placeholders == null || placeholders.length == 0)) {
+            Component cached = template.staticComponent;
+            if (cached != null) {
+                staticComponentHits.incrementAndGet();
+                return cached;
+            }
+        }
+        
+        
+        if (applyPlaceholderAPI) {
             rawMessage = parsePlaceholderAPI(player, rawMessage);
         }
         
         try {
             
+            if (placeholders == null || placeholders.length == 0) {
+                Component result = miniMessage.deserialize(rawMessage);
+                if (!applyPlaceholderAPI) {
+                    template.staticComponent = result;
+                }
+                return result;
+            }
             Component result = miniMessage.deserialize(rawMessage, TagResolver.resolver(placeholders));
             return result;
         } catch (Exception e) {
@@ -820,16 +784,47 @@ public class MessageManager {
         return messageCache.get(messageKey);
     }
     
+    
+    private CompiledTemplate getCompiledTemplate(String messageKey) {
+        CompiledTemplate template = compiledTemplates.get(messageKey);
+        if (template != null) {
+            templateHits.incrementAndGet();
+            return template;
+        }
+        
+        String rawMessage = getRawMessage(messageKey);
+        if (rawMessage == null) {
+            return null;
+        }
+        templateMisses.incrementAndGet();
+        return compiledTemplates.computeIfAbsent(messageKey, key -> new CompiledTemplate(convertLegacyPlaceholders(rawMessage)));
+    }
+    
+    private void invalidateTemplateCache() {
+        compiledTemplates.clear();
+        prefixComponent = null;
+    }
+    
     public Component getPrefix() {
+        Component cached = prefixComponent;
+        if (cached != null) {
+            return cached;
+        }
+        
+        Component prefix = null;
         String prefixMessage = getRawMessage("prefix");
         if (prefixMessage != null) {
             try {
-            return miniMessage.deserialize(prefixMessage);
+            prefix = miniMessage.deserialize(prefixMessage);
             } catch (Exception e) {
                 logger.warning("Error parsing prefix: " + e.getMessage());
             }
         }
-        return miniMessage.deserialize("<gradient:" + PRIMARY_COLOR + ":" + SECONDARY_COLOR + ">[₠]</gradient> ");
+        if (prefix == null) {
+            prefix = miniMessage.deserialize("<gradient:" + PRIMARY_COLOR + ":" + SECONDARY_COLOR + ">[₠]</gradient> ");
+        }
+        prefixComponent = prefix;
+        return prefix;
     }
     
     
@@ -1018,6 +1013,15 @@ public class MessageManager {
         return new HashMap<>(messageUsageCount);
     }
     
+    public Map<String, Long> getTemplateCacheStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("templates", (long) compiledTemplates.size());
+        stats.put("hits", templateHits.get());
+        stats.put("misses", templateMisses.get());
+        stats.put("staticHits", staticComponentHits.get());
+        return stats;
+    }
+    
     public List<String> getMissingMessages() {
         return new ArrayList<>(missingMessages);
     }
@@ -1084,31 +1088,10 @@ public class MessageManager {
         activeBossBars.clear();
             
             
-            for (Map.Entry<UUID, BukkitTask> entry : bossBarTasks.entrySet()) {
-                BukkitTask task = entry.getValue();
-                if (task != null) {
-                    try {
-                        task.cancel();
-                    } catch (Exception e) {
-                        logger.warning("Error cancelling boss bar task during cleanup: " + e.getMessage());
-                    }
-                }
-            }
-            bossBarTasks.clear();
-            
-            
-            for (Map.Entry<UUID, BukkitTask> entry : actionBarTasks.entrySet()) {
-                BukkitTask task = entry.getValue();
-                if (task != null) {
-                    try {
-                        task.cancel();
-                    } catch (Exception e) {
-                        logger.warning("Error cancelling action bar task during cleanup: " + e.getMessage());
-                    }
-                }
-                
-                Player player = plugin.getServer().getPlayer(entry.getKey());
-                if (player != null && player.isOnline()) {
+            HudTicker hudTicker = plugin.getHudTicker();
+            for (Player player : plugin.getServer().getOnlinePlayers()) {
+                hudTicker.cancel(player.getUniqueId(), HudTicker.CHANNEL_MESSAGE_BOSS_BAR);
+                if (hudTicker.cancel(player.getUniqueId(), HudTicker.CHANNEL_ACTION_BAR)) {
                     try {
                         player.sendActionBar(Component.empty());
                     } catch (Exception e) {
@@ -1116,10 +1099,10 @@ public class MessageManager {
                     }
                 }
             }
-            actionBarTasks.clear();
             
             
         messageCache.clear();
+            invalidateTemplateCache();
             messageUsageCount.clear();
             missingMessages.clear();
             invalidMessages.clear();
@@ -1150,24 +1133,8 @@ public class MessageManager {
             }
             
             
-            BukkitTask bossTask = bossBarTasks.remove(playerId);
-            if (bossTask != null) {
-                try {
-                    bossTask.cancel();
-                } catch (Exception e) {
-                    logger.warning("Error cancelling boss bar task for " + player.getName() + " during player cleanup: " + e.getMessage());
-                }
-            }
-            
-            
-            BukkitTask actionTask = actionBarTasks.remove(playerId);
-            if (actionTask != null) {
-                try {
-                    actionTask.cancel();
-                } catch (Exception e) {
-                    logger.warning("Error cancelling action bar task for " + player.getName() + " during player cleanup: " + e.getMessage());
-                }
-            }
+            plugin.getHudTicker().cancel(playerId, HudTicker.CHANNEL_MESSAGE_BOSS_BAR);
+            plugin.getHudTicker().cancel(playerId, HudTicker.CHANNEL_ACTION_BAR);
             
             try {
                 player.sendActionBar(Component.empty());
@@ -1188,8 +1155,7 @@ public class MessageManager {
         logger.info("Total messages loaded: " + messageCache.size());
         logger.info("PlaceholderAPI enabled: " + placeholderAPIEnabled);
         logger.info("Active boss bars: " + activeBossBars.size());
-        logger.info("Active boss bar tasks: " + bossBarTasks.size());
-        logger.info("Active action bar tasks: " + actionBarTasks.size());
+        logger.info("Active HUD slots: " + plugin.getHudTicker().getActiveSlotCount());
         logger.info("Missing messages: " + missingMessages.size());
         logger.info("Invalid messages: " + invalidMessages.size());
         
@@ -18,6 +18,7 @@ import static dev.lsdmc.edenCorrections.managers.MessageManager.*;
 public class ProgressionManager {
     private final EdenCorrections plugin;
     private final Logger logger;
+    private final java.util.Set<java.util.UUID> promotionsInProgress = java.util.concurrent.ConcurrentHashMap.newKeySet();
 
     public ProgressionManager(EdenCorrections plugin) {
         this.plugin = plugin;
@@ -57,6 +58,10 @@ public class ProgressionManager {
 
     
     private void showProgressStatus(Player player, String currentRank, String nextRank) {
+        withBalance(player, getRequiredMoney(nextRank), balance -> renderProgressStatus(player, currentRank, nextRank, balance));
+    }
+
+    private void renderProgressStatus(Player player, String currentRank, String nextRank, double currentMoney) {
         PlayerData data = plugin.getDataManager().getPlayerData(player.getUniqueId());
         if (data == null) return;
 
@@ -94,7 +99,6 @@ public class ProgressionManager {
         
         
         if (usesVault) {
-            Double currentMoney = plugin.getVaultEconomyManager().getBalance(player).join();
             canPromote = canPromote && currentMoney >= reqMoney;
         }
         if (usesTokens) {
@@ -133,7 +137,6 @@ public class ProgressionManager {
         
         if (usesVault || usesTokens) {
             if (usesVault) {
-                Double currentMoney = plugin.getVaultEconomyManager().getBalance(player).join();
                 double percent = reqMoney > 0 ? (currentMoney / reqMoney) * 100.0 : 100.0;
                 percent = Math.max(0.0, Math.min(100.0, percent));
                 double rounded = Math.round(percent * 10.0) / 10.0;
@@ -165,6 +168,10 @@ public class ProgressionManager {
 
     
     private void showRankupRequirements(Player player, String currentRank, String nextRank) {
+        withBalance(player, getRequiredMoney(nextRank), balance -> showRankupRequirements(player, currentRank, nextRank, balance));
+    }
+
+    private void showRankupRequirements(Player player, String currentRank, String nextRank, double have) {
         PlayerData data = plugin.getDataManager().getPlayerData(player.getUniqueId());
         if (data == null) return;
 
@@ -212,8 +219,6 @@ public class ProgressionManager {
 
         if (reqMoney > 0 || reqTokens > 0) {
             if (reqMoney > 0) {
-                double have = 0.0;
-                try { have = plugin.getVaultEconomyManager().getBalance(player).join(); } catch (Exception ignored) {}
                 double shortfall = Math.max(0.0, reqMoney - have);
                 plugin.getMessageManager().sendMessage(player, "progression.vault-requirement",
                     numberPlaceholder("have", have),
@@ -221,11 +226,11 @@ public class ProgressionManager {
                     numberPlaceholder("shortfall", shortfall));
             }
             if (reqTokens > 0) {
-                int have = 0;
-                try { have = getPlayerTokens(player); } catch (Exception ignored) {}
-                int shortfall = Math.max(0, reqTokens - have);
+                int haveTokens = 0;
+                try { haveTokens = getPlayerTokens(player); } catch (Exception ignored) {}
+                int shortfall = Math.max(0, reqTokens - haveTokens);
                 plugin.getMessageManager().sendMessage(player, "progression.tokens-requirement",
-                    numberPlaceholder("have", have),
+                    numberPlaceholder("have", haveTokens),
                     numberPlaceholder("need", reqTokens),
                     numberPlaceholder("shortfall", shortfall));
             }
@@ -254,22 +259,41 @@ public class ProgressionManager {
         PlayerData data = plugin.getDataManager().getPlayerData(player.getUniqueId());
         if (data == null) return;
 
-        PromotionResult result = checkPromotionRequirements(player, data, nextRank);
-        
-        if (!result.canPromote) {
-            if (!result.failureReason.isEmpty()) {
-                plugin.getMessageManager().sendMessage(player, "progression.rank-limit-reached",
-                    stringPlaceholder("reason", result.failureReason));
-            } else {
-                showRankupRequirements(player, currentRank, nextRank);
+        withBalance(player, getRequiredMoney(nextRank), balance -> {
+            PromotionResult result = checkPromotionRequirements(player, data, nextRank, balance);
+            
+            if (!result.canPromote) {
+                if (!result.failureReason.isEmpty()) {
+                    plugin.getMessageManager().sendMessage(player, "progression.rank-limit-reached",
+                        stringPlaceholder("reason", result.failureReason));
+                } else {
+                    showRankupRequirements(player, currentRank, nextRank, balance);
+                }
+                return;
             }
-            return;
-        }
 
-        
-        if (result.vaultCost > 0) {
-            plugin.getVaultEconomyManager().takeMoney(player, result.vaultCost, "Guard rank promotion");
-        }
+            
+            if (result.vaultCost <= 0) {
+                completePromotion(player, currentRank, nextRank, result);
+                return;
+            }
+            if (!promotionsInProgress.add(player.getUniqueId())) {
+                return;
+            }
+            plugin.getVaultEconomyManager().takeMoney(player, result.vaultCost, "Guard rank promotion")
+                .exceptionally(throwable -> false)
+                .thenAccept(paid -> Bukkit.getScheduler().runTask(plugin, () -> {
+                    promotionsInProgress.remove(player.getUniqueId());
+                    if (paid) {
+                        completePromotion(player, currentRank, nextRank, result);
+                    } else if (player.isOnline()) {
+                        showRankupRequirements(player, currentRank, nextRank);
+                    }
+                }));
+        });
+    }
+
+    private void completePromotion(Player player, String currentRank, String nextRank, PromotionResult result) {
         if (result.etCost > 0) {
             String cmd = plugin.getConfigManager().getConfig().getString("progression.rankup.et.deduct-command", "et take {player} {amount}")
                 .replace("{player}", player.getName())
@@ -308,7 +332,31 @@ public class ProgressionManager {
         return null;
     }
 
-    private PromotionResult checkPromotionRequirements(Player player, PlayerData data, String nextRank) {
+    private double getRequiredMoney(String nextRank) {
+        return plugin.getConfigManager().getConfig().getDouble("progression.rankup.requirements." + nextRank.toLowerCase() + ".vault_money", 0.0);
+    }
+
+    
+    private void withBalance(Player player, double requiredMoney, java.util.function.Consumer<Double> action) {
+        if (requiredMoney <= 0.0) {
+            action.accept(0.0);
+            return;
+        }
+
+        java.util.concurrent.CompletableFuture<Double> balance = plugin.getVaultEconomyManager().getRecentBalance(player)
+            .exceptionally(throwable -> 0.0);
+        if (balance.isDone()) {
+            action.accept(balance.join());
+            return;
+        }
+        balance.thenAccept(value -> Bukkit.getScheduler().runTask(plugin, () -> {
+            if (player.isOnline()) {
+                action.accept(value);
+            }
+        }));
+    }
+
+    private PromotionResult checkPromotionRequirements(Player player, PlayerData data, String nextRank, double balance) {
         PromotionResult result = new PromotionResult();
         
         
@@ -347,8 +395,7 @@ public class ProgressionManager {
         boolean tokensOk = true;
 
         if (reqMoney > 0.0) {
-            Boolean hasEnough = plugin.getVaultEconomyManager().hasEnough(player, reqMoney).join();
-            vaultOk = hasEnough != null && hasEnough;
+            vaultOk = plugin.getVaultEconomyManager().isAvailable() && balance >= reqMoney;
             result.vaultCost = reqMoney;
         }
 
@@ -367,8 +414,7 @@ public class ProgressionManager {
             logger.info("DEBUG: Requirements → kills: required=" + reqKills + ", current=" + data.getTotalQualifyingKills() + ", ok=" + killsOk);
             logger.info("DEBUG: Requirements → duty_time_seconds: required=" + reqDuty + ", current=" + (data.getTotalDutyTime() / 1000L) + ", ok=" + dutyOk);
             if (reqMoney > 0.0) {
-                Double bal = plugin.getVaultEconomyManager().getBalance(player).join();
-                logger.info("DEBUG: Requirements → vault_money: required=" + reqMoney + ", current=" + (bal == null ? 0.0 : bal) + ", ok=" + vaultOk);
+                logger.info("DEBUG: Requirements → vault_money: required=" + reqMoney + ", current=" + balance + ", ok=" + vaultOk);
             }
             if (reqTokens > 0) {
                 int tokens = getPlayerTokens(player);
@@ -4,8 +4,6 @@ import dev.lsdmc.edenCorrections.EdenCorrections;
 import dev.lsdmc.edenCorrections.models.PlayerData;
 import dev.lsdmc.edenCorrections.utils.LoggingUtils;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.UUID;
 import java.util.logging.Logger;
@@ -18,9 +16,6 @@ public class WantedManager {
     private final EdenCorrections plugin;
     private final Logger logger;
     
-    
-    private BukkitTask monitoringTask;
-    
     public WantedManager(EdenCorrections plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
@@ -28,19 +23,6 @@ public class WantedManager {
     
     public void initialize() {
         LoggingUtils.info(logger, "WantedManager initialized successfully!");
-        
-        
-        startWantedMonitoring();
-    }
-    
-    private void startWantedMonitoring() {
-        monitoringTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                
-                plugin.getDataManager().cleanupExpiredWantedLevels();
-            }
-        }.runTaskTimer(plugin, 20L * 60L, 20L * 60L); 
     }
     
     public boolean setWantedLevel(Player target, int level, String reason) {
@@ -267,10 +249,8 @@ public class WantedManager {
     }
     
     private void notifyGuards(String messageKey, TagResolver... placeholders) {
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            if (plugin.getDutyManager().isSubjectToGuardRestrictions(player) && plugin.getDutyManager().isOnDuty(player)) {
-                plugin.getMessageManager().sendGuardAlert(messageKey, placeholders);
-            }
+        if (plugin.getDutyManager().getGuardRoster().size() > 0) {
+            plugin.getMessageManager().sendGuardAlert(messageKey, placeholders);
         }
     }
     
@@ -307,15 +287,6 @@ public class WantedManager {
         
         try {
             
-            if (monitoringTask != null && !monitoringTask.isCancelled()) {
-                try {
-                    monitoringTask.cancel();
-                    LoggingUtils.info(logger, "Cancelled wanted level monitoring task");
-                } catch (Exception e) {
-                    LoggingUtils.warn(logger, "Error cancelling wanted monitoring task: " + e.getMessage());
-                }
-            }
-            
             LoggingUtils.info(logger, "WantedManager cleanup completed");
         } catch (Exception e) {
             LoggingUtils.error(logger, "Error during WantedManager cleanup: " + e.getMessage());
@@ -0,0 +1,58 @@
+package dev.lsdmc.edenCorrections.models;
+
+import dev.lsdmc.edenCorrections.utils.InventorySerializer;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.UUID;
+
+public class ContrabandVaultEntry {
+
+    private final UUID entryId;
+    private final UUID ownerId;
+    private final String material;
+    private final int amount;
+    private final String itemData;
+    private final long confiscatedAt;
+    private final long expiresAt;
+
+    public ContrabandVaultEntry(UUID entryId, UUID ownerId, String material, int amount,
+                                String itemData, long confiscatedAt, long expiresAt) {
+        this.entryId = entryId;
+        this.ownerId = ownerId;
+        this.material = material;
+        this.amount = amount;
+        this.itemData = itemData;
+        this.confiscatedAt = confiscatedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static ContrabandVaultEntry of(UUID ownerId, ItemStack item, long expiresAt) {
+        return new ContrabandVaultEntry(UUID.randomUUID(), ownerId, item.getType().name(), item.getAmount(),
+            InventorySerializer.serializeItemStackToBase64(item), System.currentTimeMillis(), expiresAt);
+    }
+
+    public UUID getEntryId() { return entryId; }
+    public UUID getOwnerId() { return ownerId; }
+    public String getMaterial() { return material; }
+    public int getAmount() { return amount; }
+    public String getItemData() { return itemData; }
+    public long getConfiscatedAt() { return confiscatedAt; }
+    public long getExpiresAt() { return expiresAt; }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+
+    public ItemStack toItemStack() {
+        if (itemData != null) {
+            ItemStack restored = InventorySerializer.deserializeItemStackFromBase64(itemData);
+            if (restored != null) {
+                return restored;
+            }
+        }
+
+        Material type = Material.matchMaterial(material);
+        return type != null ? new ItemStack(type, amount) : null;
+    }
+}
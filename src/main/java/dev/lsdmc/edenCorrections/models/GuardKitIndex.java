@@ -0,0 +1,76 @@
+package dev.lsdmc.edenCorrections.models;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class GuardKitIndex {
+
+    private final List<ItemStack> items;
+    private final Set<Material> types;
+    private final Set<Fingerprint> fingerprints;
+
+    private GuardKitIndex(List<ItemStack> items) {
+        this.items = Collections.unmodifiableList(items);
+        this.types = EnumSet.noneOf(Material.class);
+        this.fingerprints = new HashSet<>(items.size() * 2);
+        for (ItemStack item : items) {
+            types.add(item.getType());
+            fingerprints.add(Fingerprint.of(item));
+        }
+    }
+
+    public static GuardKitIndex of(List<ItemStack> items) {
+        return new GuardKitIndex(items);
+    }
+
+    public List<ItemStack> getItems() { return items; }
+    public int size() { return items.size(); }
+    public boolean isEmpty() { return items.isEmpty(); }
+
+    public boolean containsType(Material type) {
+        return types.contains(type);
+    }
+
+    public boolean containsEquivalent(ItemStack item) {
+        if (item == null) return false;
+        if (!types.contains(item.getType())) return false;
+        return fingerprints.contains(Fingerprint.of(item));
+    }
+
+    private static final class Fingerprint {
+        private final Material type;
+        private final ItemMeta meta;
+        private final int hash;
+
+        private Fingerprint(Material type, ItemMeta meta) {
+            this.type = type;
+            this.meta = meta;
+            this.hash = 31 * type.hashCode() + (meta != null ? meta.hashCode() : 0);
+        }
+
+        static Fingerprint of(ItemStack item) {
+            return new Fingerprint(item.getType(), item.hasItemMeta() ? item.getItemMeta() : null);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Fingerprint)) return false;
+            Fingerprint other = (Fingerprint) o;
+            return hash == other.hash && type == other.type && Objects.equals(meta, other.meta);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
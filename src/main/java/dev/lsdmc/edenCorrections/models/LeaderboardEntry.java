@@ -0,0 +1,20 @@
+package dev.lsdmc.edenCorrections.models;
+
+import java.util.UUID;
+
+public class LeaderboardEntry {
+
+    private final UUID playerId;
+    private final String playerName;
+    private final long value;
+
+    public LeaderboardEntry(UUID playerId, String playerName, long value) {
+        this.playerId = playerId;
+        this.playerName = playerName;
+        this.value = value;
+    }
+
+    public UUID getPlayerId() { return playerId; }
+    public String getPlayerName() { return playerName; }
+    public long getValue() { return value; }
+}
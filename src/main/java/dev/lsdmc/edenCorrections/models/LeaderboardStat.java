@@ -0,0 +1,41 @@
+package dev.lsdmc.edenCorrections.models;
+
+public enum LeaderboardStat {
+
+    ARRESTS("arrests", "total_arrests"),
+    DUTY_TIME("duty", "total_duty_time"),
+    KILLS("kills", "total_qualifying_kills");
+
+    private final String key;
+    private final String column;
+
+    LeaderboardStat(String key, String column) {
+        this.key = key;
+        this.column = column;
+    }
+
+    public String getKey() { return key; }
+    public String getColumn() { return column; }
+
+    public long valueOf(PlayerData data) {
+        switch (this) {
+            case ARRESTS:
+                return data.getTotalArrests();
+            case DUTY_TIME:
+                return data.getTotalDutyTime();
+            case KILLS:
+                return data.getTotalQualifyingKills();
+            default:
+                return 0L;
+        }
+    }
+
+    public static LeaderboardStat fromKey(String key) {
+        for (LeaderboardStat stat : values()) {
+            if (stat.key.equalsIgnoreCase(key)) {
+                return stat;
+            }
+        }
+        return null;
+    }
+}
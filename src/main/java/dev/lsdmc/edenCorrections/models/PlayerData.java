@@ -1,6 +1,7 @@
 package dev.lsdmc.edenCorrections.models;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class PlayerData {
     
@@ -50,6 +51,11 @@ public class PlayerData {
     private long totalDutyTime;
     private int totalQualifyingKills; 
     
+    
+    private final AtomicLong version = new AtomicLong(0);
+    private volatile long persistedVersion = 0;
+    private volatile boolean stored = false;
+    
     public PlayerData(UUID playerId, String playerName) {
         this.playerId = playerId;
         this.playerName = playerName;
@@ -330,6 +336,75 @@ public class PlayerData {
         this.lastPenaltyTime = System.currentTimeMillis();
     }
 
+    
+    
+    public long markDirty() {
+        return version.incrementAndGet();
+    }
+    
+    public long getVersion() {
+        return version.get();
+    }
+    
+    public boolean isDirty() {
+        return version.get() > persistedVersion;
+    }
+    
+    public void markPersisted(long savedVersion) {
+        stored = true;
+        if (savedVersion > persistedVersion) {
+            persistedVersion = savedVersion;
+        }
+    }
+    
+    public void applyChangesFrom(PlayerData placeholder) {
+        this.totalArrests += placeholder.totalArrests;
+        this.totalViolations += placeholder.totalViolations;
+        this.totalDutyTime += placeholder.totalDutyTime;
+        this.totalQualifyingKills += placeholder.totalQualifyingKills;
+        this.earnedOffDutyTime += placeholder.earnedOffDutyTime;
+        this.consumedOffDutyTime += placeholder.consumedOffDutyTime;
+        this.sessionSearches += placeholder.sessionSearches;
+        this.sessionSuccessfulSearches += placeholder.sessionSuccessfulSearches;
+        this.sessionArrests += placeholder.sessionArrests;
+        this.sessionKills += placeholder.sessionKills;
+        this.sessionDetections += placeholder.sessionDetections;
+        this.hasEarnedBaseTime |= placeholder.hasEarnedBaseTime;
+        this.hasBeenNotifiedOfExpiredTime |= placeholder.hasBeenNotifiedOfExpiredTime;
+        
+        if (placeholder.isOnDuty) this.isOnDuty = true;
+        if (placeholder.dutyStartTime > 0) this.dutyStartTime = placeholder.dutyStartTime;
+        if (placeholder.offDutyTime > 0) this.offDutyTime = placeholder.offDutyTime;
+        if (placeholder.graceDebtTime > 0) this.graceDebtTime = placeholder.graceDebtTime;
+        if (placeholder.guardRank != null) this.guardRank = placeholder.guardRank;
+        
+        if (placeholder.wantedLevel > 0) {
+            this.wantedLevel = placeholder.wantedLevel;
+            this.wantedExpireTime = placeholder.wantedExpireTime;
+            this.wantedReason = placeholder.wantedReason;
+        }
+        if (placeholder.beingChased) {
+            this.beingChased = true;
+            this.chaserGuard = placeholder.chaserGuard;
+            this.chaseStartTime = placeholder.chaseStartTime;
+        }
+        if (placeholder.penaltyStartTime > 0) {
+            this.penaltyStartTime = placeholder.penaltyStartTime;
+            this.currentPenaltyStage = placeholder.currentPenaltyStage;
+            this.lastPenaltyTime = placeholder.lastPenaltyTime;
+            this.lastSlownessApplication = placeholder.lastSlownessApplication;
+            this.hasActivePenaltyBossBar = placeholder.hasActivePenaltyBossBar;
+        }
+    }
+    
+    public boolean isStored() {
+        return stored;
+    }
+    
+    public void markStored() {
+        stored = true;
+    }
+
     @Override
     public String toString() {
         return "PlayerData{" +
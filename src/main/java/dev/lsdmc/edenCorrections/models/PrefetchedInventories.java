@@ -0,0 +1,48 @@
+package dev.lsdmc.edenCorrections.models;
+
+import dev.lsdmc.edenCorrections.utils.InventorySerializer.DecodedInventory;
+
+import java.util.UUID;
+
+public class PrefetchedInventories {
+
+    private final UUID playerId;
+    private final String offDutyData;
+    private final String onDutyData;
+    private final DecodedInventory offDutyInventory;
+    private final DecodedInventory onDutyInventory;
+    private final long loadedAt;
+
+    public PrefetchedInventories(UUID playerId, String offDutyData, String onDutyData,
+                                 DecodedInventory offDutyInventory, DecodedInventory onDutyInventory) {
+        this.playerId = playerId;
+        this.offDutyData = offDutyData;
+        this.onDutyData = onDutyData;
+        this.offDutyInventory = offDutyInventory;
+        this.onDutyInventory = onDutyInventory;
+        this.loadedAt = System.currentTimeMillis();
+    }
+
+    public static PrefetchedInventories empty(UUID playerId) {
+        return new PrefetchedInventories(playerId, null, null, null, null);
+    }
+
+    public UUID getPlayerId() { return playerId; }
+    public String getOffDutyData() { return offDutyData; }
+    public String getOnDutyData() { return onDutyData; }
+    public DecodedInventory getOffDutyInventory() { return offDutyInventory; }
+    public DecodedInventory getOnDutyInventory() { return onDutyInventory; }
+    public long getLoadedAt() { return loadedAt; }
+
+    public boolean hasOffDutyInventory() {
+        return offDutyData != null && !offDutyData.trim().isEmpty();
+    }
+
+    public boolean hasOnDutyInventory() {
+        return onDutyData != null && !onDutyData.trim().isEmpty();
+    }
+
+    public boolean isExpired(long ttlMillis) {
+        return System.currentTimeMillis() - loadedAt > ttlMillis;
+    }
+}
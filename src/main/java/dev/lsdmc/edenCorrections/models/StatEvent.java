@@ -0,0 +1,23 @@
+package dev.lsdmc.edenCorrections.models;
+
+import java.util.UUID;
+
+public class StatEvent {
+
+    private final UUID playerId;
+    private final String statType;
+    private final long value;
+    private final long recordedAt;
+
+    public StatEvent(UUID playerId, String statType, long value, long recordedAt) {
+        this.playerId = playerId;
+        this.statType = statType;
+        this.value = value;
+        this.recordedAt = recordedAt;
+    }
+
+    public UUID getPlayerId() { return playerId; }
+    public String getStatType() { return statType; }
+    public long getValue() { return value; }
+    public long getRecordedAt() { return recordedAt; }
+}
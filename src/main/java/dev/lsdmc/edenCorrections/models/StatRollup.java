@@ -0,0 +1,45 @@
+package dev.lsdmc.edenCorrections.models;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class StatRollup {
+
+    public static final long HOUR_MILLIS = 60L * 60L * 1000L;
+    public static final long DAY_MILLIS = 24L * HOUR_MILLIS;
+
+    private final UUID playerId;
+    private final String statType;
+    private final long bucketStart;
+    private int eventCount;
+    private long statTotal;
+
+    public StatRollup(UUID playerId, String statType, long bucketStart) {
+        this.playerId = playerId;
+        this.statType = statType;
+        this.bucketStart = bucketStart;
+    }
+
+
+    public static List<StatRollup> aggregate(List<StatEvent> events, long bucketMillis) {
+        Map<String, StatRollup> buckets = new LinkedHashMap<>();
+        for (StatEvent event : events) {
+            long bucketStart = event.getRecordedAt() - Math.floorMod(event.getRecordedAt(), bucketMillis);
+            String key = event.getPlayerId() + ":" + event.getStatType() + ":" + bucketStart;
+            StatRollup rollup = buckets.computeIfAbsent(key,
+                k -> new StatRollup(event.getPlayerId(), event.getStatType(), bucketStart));
+            rollup.eventCount++;
+            rollup.statTotal += event.getValue();
+        }
+        return new ArrayList<>(buckets.values());
+    }
+
+    public UUID getPlayerId() { return playerId; }
+    public String getStatType() { return statType; }
+    public long getBucketStart() { return bucketStart; }
+    public int getEventCount() { return eventCount; }
+    public long getStatTotal() { return statTotal; }
+}
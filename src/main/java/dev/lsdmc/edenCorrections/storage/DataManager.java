@@ -3,6 +3,12 @@ package dev.lsdmc.edenCorrections.storage;
 import dev.lsdmc.edenCorrections.EdenCorrections;
 import dev.lsdmc.edenCorrections.models.PlayerData;
 import dev.lsdmc.edenCorrections.models.ChaseData;
+import dev.lsdmc.edenCorrections.models.ContrabandVaultEntry;
+import dev.lsdmc.edenCorrections.models.LeaderboardEntry;
+import dev.lsdmc.edenCorrections.models.LeaderboardStat;
+import dev.lsdmc.edenCorrections.models.PrefetchedInventories;
+import dev.lsdmc.edenCorrections.utils.ExpiryWheel;
+import dev.lsdmc.edenCorrections.utils.InventorySerializer;
 
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -10,13 +16,19 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 import java.util.Map;
 import java.util.Collection;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Set;
 import java.sql.SQLException;
 import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
 
 public class DataManager {
     
@@ -27,36 +39,78 @@ public class DataManager {
     private DatabaseHandler databaseHandler;
     
     
-    private final Map<UUID, PlayerData> playerDataCache;
+    private final dev.lsdmc.edenCorrections.utils.BoundedCache<UUID, PlayerData> playerDataCache;
+    private final Map<UUID, PlayerData> coldPlaceholders = new ConcurrentHashMap<>();
+    private final Set<UUID> deferredColdSaves = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, CompletableFuture<PlayerData>> coldLoads = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<Void>> pendingRowWrites = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<Void>> inventoryWrites = new ConcurrentHashMap<>();
+    private final Map<String, UUID> playerNameIndex = new ConcurrentHashMap<>();
+    private final AtomicLong nameIndexHits = new AtomicLong(0);
+    private final AtomicLong nameIndexMisses = new AtomicLong(0);
     private final Map<UUID, ChaseData> activeChases;
+    private final Map<UUID, ChaseData> chasesByGuard = new ConcurrentHashMap<>();
+    private final Map<UUID, ChaseData> chasesByTarget = new ConcurrentHashMap<>();
     
     
-    private final Map<UUID, Long> lastCacheUpdate;
-    private static final long CACHE_EXPIRY_TIME = 5 * 60 * 1000L; 
-    private static final int MAX_CACHE_SIZE = 1000; 
+    private static final int WORKING_SET_BATCH_SIZE = 500;
     
     private final Object playerDataLock = new Object();
     private final Object chaseLock = new Object();
     
+    
+    private final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushInProgress = new AtomicBoolean(false);
+    private final AtomicLong queuedSaves = new AtomicLong(0);
+    private final AtomicLong flushedRecords = new AtomicLong(0);
+    private final AtomicLong flushBatches = new AtomicLong(0);
+    private final AtomicLong failedFlushes = new AtomicLong(0);
+    private volatile boolean writeBehindEnabled = false;
+    private BukkitTask writeBehindTask;
+    private StatsJournal statsJournal;
+    
+    
+    private final Map<UUID, PrefetchedInventories> prefetchedInventories = new ConcurrentHashMap<>();
+    private static final long PREFETCH_EXPIRY_TIME = 60 * 1000L;
+    private static final long PREFETCH_TIMEOUT_SECONDS = 5;
+    private final AtomicLong prefetchedPlayers = new AtomicLong(0);
+    private final AtomicLong failedPrefetches = new AtomicLong(0);
+    private final AtomicLong prefetchHits = new AtomicLong(0);
+    private final AtomicLong prefetchMisses = new AtomicLong(0);
+    private final AtomicLong prefetchExpirations = new AtomicLong(0);
+    private final AtomicLong coldPlayerLoads = new AtomicLong(0);
+    private final AtomicLong migratedInventories = new AtomicLong(0);
+    
     public DataManager(EdenCorrections plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
-        this.playerDataCache = new ConcurrentHashMap<>();
+        this.playerDataCache = new dev.lsdmc.edenCorrections.utils.BoundedCache<>(
+            plugin.getConfigManager().getDatabaseCacheSize(),
+            plugin.getConfigManager().getDatabaseCacheTtlSeconds() * 1000L,
+            data -> !data.isDirty() && !dirtyPlayers.contains(data.getPlayerId()));
         this.activeChases = new ConcurrentHashMap<>();
-        this.lastCacheUpdate = new ConcurrentHashMap<>();
     }
     
     public void initialize() {
         try {
             
             initializeDatabase();
+            markStartupPhase("database");
             
             
-            loadExistingData();
+            loadWorkingSet();
+            markStartupPhase("working-set");
             
             
             startCacheCleanup();
             
+            
+            startWriteBehindFlusher();
+            
+            
+            statsJournal = new StatsJournal(plugin, databaseHandler);
+            statsJournal.initialize();
+            
             logger.info("DataManager initialized successfully with " + 
                        getDatabaseType() + " database!");
             
@@ -99,42 +153,62 @@ public class DataManager {
         }
     }
     
-    private void loadExistingData() {
+    private void loadWorkingSet() {
         try {
             
-            CompletableFuture<List<PlayerData>> playerDataFuture = databaseHandler.loadAllPlayerData();
-            List<PlayerData> playerDataList = playerDataFuture.get(30, TimeUnit.SECONDS);
-            
-            synchronized (playerDataLock) {
-                for (PlayerData playerData : playerDataList) {
-                    playerDataCache.put(playerData.getPlayerId(), playerData);
-                    lastCacheUpdate.put(playerData.getPlayerId(), System.currentTimeMillis());
-                }
-            }
-            
-            
             CompletableFuture<List<ChaseData>> chaseDataFuture = databaseHandler.loadAllActiveChases();
             List<ChaseData> chaseDataList = chaseDataFuture.get(30, TimeUnit.SECONDS);
             
             synchronized (chaseLock) {
                 for (ChaseData chaseData : chaseDataList) {
-                    activeChases.put(chaseData.getChaseId(), chaseData);
+                    indexChase(chaseData);
+                }
+            }
+            
+            
+            Set<UUID> workingSet = new java.util.LinkedHashSet<>();
+            for (org.bukkit.entity.Player online : Bukkit.getOnlinePlayers()) {
+                workingSet.add(online.getUniqueId());
+                playerDataCache.pin(online.getUniqueId());
+            }
+            int onlineCount = workingSet.size();
+            for (ChaseData chaseData : chaseDataList) {
+                workingSet.add(chaseData.getGuardId());
+                workingSet.add(chaseData.getTargetId());
+            }
+            
+            List<UUID> pending = new ArrayList<>(workingSet);
+            int loaded = 0;
+            for (int from = 0; from < pending.size(); from += WORKING_SET_BATCH_SIZE) {
+                List<UUID> batch = pending.subList(from, Math.min(pending.size(), from + WORKING_SET_BATCH_SIZE));
+                List<PlayerData> playerDataList = databaseHandler.batchLoadPlayerData(new ArrayList<>(batch)).get(30, TimeUnit.SECONDS);
+                for (PlayerData playerData : playerDataList) {
+                    cacheLoadedPlayerData(playerData);
                 }
+                loaded += playerDataList.size();
             }
             
-            logger.info("Loaded " + playerDataList.size() + " player records and " + 
-                       chaseDataList.size() + " active chases from database");
+            logger.info("Loaded working set of " + loaded + " player records (" + onlineCount + " online) and " + 
+                       chaseDataList.size() + " active chases - other players load on demand");
             
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            logger.severe("Failed to load existing data: " + e.getMessage());
+            logger.severe("Failed to load working set: " + e.getMessage());
             e.printStackTrace();
         }
     }
     
+    private void markStartupPhase(String phase) {
+        dev.lsdmc.edenCorrections.utils.StartupTimer timer = plugin.getStartupTimer();
+        if (timer != null) {
+            timer.mark(phase);
+        }
+    }
+    
     private void startCacheCleanup() {
         
+        long cleanupTicks = Math.max(1, plugin.getConfigManager().getCacheCleanupInterval()) * 20L;
         Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::cleanupExpiredCache, 
-            6000L, 6000L); 
+            cleanupTicks, cleanupTicks); 
         
         
         int maintenanceIntervalMinutes = plugin.getConfigManager().getDatabaseMaintenanceInterval();
@@ -151,42 +225,48 @@ public class DataManager {
         }
     }
     
-    private void cleanupExpiredCache() {
-        long currentTime = System.currentTimeMillis();
+    private void startWriteBehindFlusher() {
+        if (!plugin.getConfigManager().isWriteBehindEnabled()) {
+            logger.info("Write-behind persistence disabled - player data is written on every save");
+            return;
+        }
         
-        
-        synchronized (playerDataLock) {
-            lastCacheUpdate.entrySet().removeIf(entry -> {
-                if (currentTime - entry.getValue() > CACHE_EXPIRY_TIME) {
-                    playerDataCache.remove(entry.getKey());
-                    return true;
-                }
-                return false;
-            });
+        long intervalTicks = Math.max(1, plugin.getConfigManager().getWriteBehindFlushInterval()) * 20L;
+        writeBehindTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::flushDirtyPlayerData,
+            intervalTicks, intervalTicks);
+        writeBehindEnabled = true;
+        
+        logger.info("Write-behind persistence enabled - flushing dirty player data every " + 
+                   plugin.getConfigManager().getWriteBehindFlushInterval() + " seconds");
+    }
+    
+    private void cleanupExpiredCache() {
+        int expiredPlayers = playerDataCache.expire();
+        if (expiredPlayers > 0 && plugin.getConfigManager().isDebugMode()) {
+            logger.info("DEBUG: Expired " + expiredPlayers + " idle player records from cache");
         }
         
         
-        synchronized (playerDataLock) {
-            if (playerDataCache.size() > MAX_CACHE_SIZE) {
-                
-                List<Map.Entry<UUID, Long>> sortedEntries = new ArrayList<>(lastCacheUpdate.entrySet());
-                sortedEntries.sort(Map.Entry.comparingByValue());
-                
-                int toRemove = playerDataCache.size() - MAX_CACHE_SIZE;
-                for (int i = 0; i < toRemove && i < sortedEntries.size(); i++) {
-                    UUID playerId = sortedEntries.get(i).getKey();
-                    playerDataCache.remove(playerId);
-                    lastCacheUpdate.remove(playerId);
+        synchronized (chaseLock) {
+            List<UUID> expired = new ArrayList<>();
+            for (ChaseData chase : activeChases.values()) {
+                if (chase.isExpired()) {
+                    expired.add(chase.getChaseId());
                 }
-                
-                logger.info("Cache size limit reached, removed " + toRemove + " oldest entries");
+            }
+            for (UUID chaseId : expired) {
+                unindexChase(chaseId);
             }
         }
         
-        
-        synchronized (chaseLock) {
-            activeChases.entrySet().removeIf(entry -> entry.getValue().isExpired());
-        }
+        
+        prefetchedInventories.entrySet().removeIf(entry -> {
+            if (entry.getValue().isExpired(PREFETCH_EXPIRY_TIME)) {
+                prefetchExpirations.incrementAndGet();
+                return true;
+            }
+            return false;
+        });
     }
     
     private void performDatabaseMaintenance() {
@@ -199,9 +279,21 @@ public class DataManager {
     
     public void shutdown() {
         try {
-            
+            
+            if (writeBehindTask != null) {
+                writeBehindTask.cancel();
+                writeBehindTask = null;
+            }
+            writeBehindEnabled = false;
+            
+            
             saveAllCachedData();
             
+            
+            if (statsJournal != null) {
+                statsJournal.shutdown();
+            }
+            
             
             if (databaseHandler != null) {
                 databaseHandler.close();
@@ -218,9 +310,25 @@ public class DataManager {
     private void saveAllCachedData() {
         try {
             
-            List<PlayerData> playerDataList = new ArrayList<>(playerDataCache.values());
+            List<PlayerData> playerDataList = new ArrayList<>();
+            for (PlayerData data : playerDataCache.values()) {
+                if (coldPlaceholders.get(data.getPlayerId()) == data) {
+                    continue;
+                }
+                if (data.isDirty() || dirtyPlayers.contains(data.getPlayerId())) {
+                    playerDataList.add(data);
+                }
+            }
             if (!playerDataList.isEmpty()) {
+                Map<UUID, Long> versions = new HashMap<>();
+                for (PlayerData data : playerDataList) {
+                    versions.put(data.getPlayerId(), data.getVersion());
+                }
                 databaseHandler.batchSavePlayerData(playerDataList).get(30, TimeUnit.SECONDS);
+                for (PlayerData data : playerDataList) {
+                    data.markPersisted(versions.get(data.getPlayerId()));
+                }
+                dirtyPlayers.clear();
                 logger.info("Saved " + playerDataList.size() + " player records to database");
             }
             
@@ -238,105 +346,289 @@ public class DataManager {
     
     
     public PlayerData getPlayerData(UUID playerId) {
+        return getPlayerData(playerId, "Unknown");
+    }
+    
+    private PlayerData getPlayerData(UUID playerId, String placeholderName) {
         
-        PlayerData cachedData;
+        PlayerData defaultData;
+        CompletableFuture<PlayerData> load;
         synchronized (playerDataLock) {
-            cachedData = playerDataCache.get(playerId);
+            PlayerData cachedData = playerDataCache.get(playerId);
             if (cachedData != null) {
-                
-                Long lastUpdate = lastCacheUpdate.get(playerId);
-                if (lastUpdate != null && System.currentTimeMillis() - lastUpdate < CACHE_EXPIRY_TIME) {
-                    return cachedData;
-                }
+                return cachedData;
             }
-        }
-        
-        
-        if (cachedData != null) {
-            
-            databaseHandler.loadPlayerData(playerId).thenAccept(data -> {
-                if (data != null) {
-                    synchronized (playerDataLock) {
-                        playerDataCache.put(playerId, data);
-                        lastCacheUpdate.put(playerId, System.currentTimeMillis());
-                    }
-                }
-            }).exceptionally(throwable -> {
-                logger.warning("Failed to load player data for " + playerId + ": " + throwable.getMessage());
-                return null;
-            });
-            return cachedData;
-        }
-        
-        
-        PlayerData defaultData = new PlayerData(playerId, "Unknown");
-        synchronized (playerDataLock) {
+            
+            
+            coldPlayerLoads.incrementAndGet();
+            defaultData = new PlayerData(playerId, placeholderName);
             playerDataCache.put(playerId, defaultData);
-            lastCacheUpdate.put(playerId, System.currentTimeMillis());
+            coldPlaceholders.put(playerId, defaultData);
+            load = new CompletableFuture<>();
+            coldLoads.put(playerId, load);
         }
+        indexPlayerName(defaultData);
         
         
-        databaseHandler.loadPlayerData(playerId).thenAccept(data -> {
-            if (data != null) {
-                synchronized (playerDataLock) {
-                    playerDataCache.put(playerId, data);
-                    lastCacheUpdate.put(playerId, System.currentTimeMillis());
+        loadColdRecord(playerId, defaultData, load, 1);
+        
+        return defaultData;
+    }
+    
+    private void loadColdRecord(UUID playerId, PlayerData placeholder, CompletableFuture<PlayerData> load, int attempt) {
+        databaseHandler.loadPlayerData(playerId).whenComplete((data, throwable) -> {
+            if (throwable != null && attempt < 3) {
+                logger.warning("Failed to load player data for " + playerId + " (attempt " + attempt + "): " + throwable.getMessage());
+                CompletableFuture.delayedExecutor(attempt, TimeUnit.SECONDS)
+                    .execute(() -> loadColdRecord(playerId, placeholder, load, attempt + 1));
+                return;
+            }
+            
+            PlayerData resolved;
+            boolean deferred;
+            synchronized (playerDataLock) {
+                deferred = deferredColdSaves.remove(playerId);
+                coldLoads.remove(playerId, load);
+                if (throwable != null) {
+                    if (coldPlaceholders.remove(playerId, placeholder) && playerDataCache.peek(playerId) == placeholder) {
+                        playerDataCache.remove(playerId);
+                    }
+                    resolved = null;
+                } else if (data != null) {
+                    cacheLoadedPlayerData(data);
+                    coldPlaceholders.remove(playerId, placeholder);
+                    PlayerData current = playerDataCache.peek(playerId);
+                    resolved = current != null ? current : data;
+                    if (deferred) {
+                        resolved.applyChangesFrom(placeholder);
+                    }
+                } else {
+                    coldPlaceholders.remove(playerId, placeholder);
+                    resolved = placeholder;
                 }
             }
-        }).exceptionally(throwable -> {
-            logger.warning("Failed to load player data for " + playerId + ": " + throwable.getMessage());
-            return null;
+            
+            if (resolved == null) {
+                logger.severe("Failed to load player data for " + playerId + ": " + throwable.getMessage()
+                    + (deferred ? " - pending changes could not be saved" : ""));
+                load.completeExceptionally(throwable);
+                return;
+            }
+            if (deferred) {
+                savePlayerData(resolved);
+            }
+            load.complete(resolved);
         });
-        
-        return defaultData;
     }
     
     public PlayerData getOrCreatePlayerData(UUID playerId, String playerName) {
-        PlayerData data = getPlayerData(playerId);
-        if (data == null) {
-            data = new PlayerData(playerId, playerName);
-            
-            savePlayerData(data);
+        return getPlayerData(playerId, playerName);
+    }
+    
+    public CompletableFuture<PlayerData> awaitPlayerData(UUID playerId, String playerName) {
+        PlayerData data = getPlayerData(playerId, playerName);
+        synchronized (playerDataLock) {
+            CompletableFuture<PlayerData> load = coldLoads.get(playerId);
+            if (load != null && coldPlaceholders.get(playerId) == data) {
+                return load;
+            }
+            PlayerData current = playerDataCache.peek(playerId);
+            return CompletableFuture.completedFuture(current != null ? current : data);
         }
-        return data;
+    }
+    
+    
+    public void pinPlayer(UUID playerId) {
+        playerDataCache.pin(playerId);
+    }
+    
+    public void unpinPlayer(UUID playerId) {
+        playerDataCache.unpin(playerId);
     }
     
     public void savePlayerData(PlayerData playerData) {
-        
+        
         synchronized (playerDataLock) {
+            if (coldPlaceholders.get(playerData.getPlayerId()) == playerData) {
+                deferredColdSaves.add(playerData.getPlayerId());
+                return;
+            }
             playerDataCache.put(playerData.getPlayerId(), playerData);
-            lastCacheUpdate.put(playerData.getPlayerId(), System.currentTimeMillis());
+            coldPlaceholders.remove(playerData.getPlayerId());
+        }
+        indexPlayerName(playerData);
+        trackWantedExpiry(playerData);
+        if (plugin.getLeaderboardManager() != null) {
+            plugin.getLeaderboardManager().recordStats(playerData);
         }
         
-        
-        databaseHandler.savePlayerData(playerData).whenComplete((result, throwable) -> {
+        
+        long version = playerData.markDirty();
+        if (writeBehindEnabled && playerData.isStored()) {
+            dirtyPlayers.add(playerData.getPlayerId());
+            queuedSaves.incrementAndGet();
+            return;
+        }
+        
+        
+        writePlayerRow(playerData, version);
+    }
+    
+    private CompletableFuture<Void> writePlayerRow(PlayerData playerData, long version) {
+        UUID playerId = playerData.getPlayerId();
+        CompletableFuture<Void> previous = pendingRowWrites.get(playerId);
+        CompletableFuture<Void> write = previous == null
+            ? databaseHandler.savePlayerData(playerData)
+            : previous.handle((result, throwable) -> null).thenCompose(ignored -> databaseHandler.savePlayerData(playerData));
+        pendingRowWrites.put(playerId, write);
+        write.whenComplete((result, throwable) -> {
+            pendingRowWrites.remove(playerId, write);
             if (throwable != null) {
                 logger.severe("Failed to save player data for " + playerData.getPlayerName() + ": " + throwable.getMessage());
-            } else if (plugin.getConfigManager().isDebugMode()) {
+                return;
+            }
+            playerData.markPersisted(version);
+            if (plugin.getConfigManager().isDebugMode()) {
                 logger.info("DEBUG: Saved player data for " + playerData.getPlayerName());
             }
         });
+        return write;
     }
     
-    public PlayerData getPlayerDataByName(String playerName) {
-        
+    private CompletableFuture<Void> afterPlayerRow(UUID playerId) {
+        CompletableFuture<Void> pending = pendingRowWrites.get(playerId);
+        if (pending == null) {
+            PlayerData data = playerDataCache.peek(playerId);
+            if (data == null || data.isStored() || coldPlaceholders.get(playerId) == data) {
+                return CompletableFuture.completedFuture(null);
+            }
+            pending = writePlayerRow(data, data.markDirty());
+        }
+        return pending.handle((result, throwable) -> null);
+    }
+    
+    private CompletableFuture<Void> enqueueInventoryWrite(UUID playerId, java.util.function.Supplier<CompletableFuture<Void>> write) {
+        CompletableFuture<Void> queued = inventoryWrites.compute(playerId, (id, previous) ->
+            (previous != null ? previous.handle((result, throwable) -> (Void) null) : afterPlayerRow(id))
+                .thenCompose(ignored -> write.get()));
+        queued.whenComplete((result, throwable) -> inventoryWrites.remove(playerId, queued));
+        return queued;
+    }
+    
+    private void cacheLoadedPlayerData(PlayerData data) {
+        UUID playerId = data.getPlayerId();
+        indexPlayerName(data);
         synchronized (playerDataLock) {
-            for (PlayerData data : playerDataCache.values()) {
-                if (data.getPlayerName().equalsIgnoreCase(playerName)) {
-                    return data;
+            
+            PlayerData current = playerDataCache.peek(playerId);
+            if (current == data) {
+                return;
+            }
+            if (current != null && (current != coldPlaceholders.get(playerId) || isPendingWrite(playerId))) {
+                return;
+            }
+            coldPlaceholders.remove(playerId);
+            playerDataCache.put(playerId, data);
+        }
+        trackWantedExpiry(data);
+    }
+    
+    private boolean isPendingWrite(UUID playerId) {
+        if (dirtyPlayers.contains(playerId)) {
+            return true;
+        }
+        PlayerData cached = playerDataCache.peek(playerId);
+        return cached != null && cached.isDirty();
+    }
+    
+    
+    public void flushDirtyPlayerData() {
+        if (dirtyPlayers.isEmpty() || !flushInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        
+        int maxBatchSize = Math.max(1, plugin.getConfigManager().getWriteBehindMaxBatchSize());
+        List<PlayerData> batch = new ArrayList<>();
+        Map<UUID, Long> versions = new HashMap<>();
+        
+        Iterator<UUID> iterator = dirtyPlayers.iterator();
+        while (iterator.hasNext() && batch.size() < maxBatchSize) {
+            UUID playerId = iterator.next();
+            iterator.remove();
+            
+            PlayerData data = playerDataCache.peek(playerId);
+            if (data == null || !data.isDirty()) {
+                continue;
+            }
+            versions.put(playerId, data.getVersion());
+            batch.add(data);
+        }
+        
+        if (batch.isEmpty()) {
+            flushInProgress.set(false);
+            return;
+        }
+        
+        databaseHandler.batchSavePlayerData(batch).whenComplete((result, throwable) -> {
+            try {
+                if (throwable != null) {
+                    failedFlushes.incrementAndGet();
+                    dirtyPlayers.addAll(versions.keySet());
+                    logger.severe("Failed to flush " + batch.size() + " dirty player records: " + throwable.getMessage());
+                    return;
+                }
+                
+                for (PlayerData data : batch) {
+                    data.markPersisted(versions.get(data.getPlayerId()));
                 }
+                flushedRecords.addAndGet(batch.size());
+                flushBatches.incrementAndGet();
+                
+                if (plugin.getConfigManager().isDebugMode()) {
+                    logger.info("DEBUG: Flushed " + batch.size() + " dirty player records");
+                }
+            } finally {
+                flushInProgress.set(false);
             }
+        });
+    }
+    
+    
+    public CompletableFuture<Void> flushPlayerData(UUID playerId) {
+        dirtyPlayers.remove(playerId);
+        
+        PlayerData data = playerDataCache.peek(playerId);
+        if (data == null || !data.isDirty()) {
+            return CompletableFuture.completedFuture(null);
         }
         
+        return writePlayerRow(data, data.getVersion()).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                failedFlushes.incrementAndGet();
+                dirtyPlayers.add(playerId);
+            } else {
+                flushedRecords.incrementAndGet();
+            }
+        });
+    }
+    
+    public int getDirtyPlayerCount() {
+        return dirtyPlayers.size();
+    }
+    
+    public PlayerData getPlayerDataByName(String playerName) {
         
-        databaseHandler.loadPlayerDataByName(playerName).thenAccept(data -> {
-            if (data != null) {
-                synchronized (playerDataLock) {
-                    playerDataCache.put(data.getPlayerId(), data);
-                    lastCacheUpdate.put(data.getPlayerId(), System.currentTimeMillis());
-                }
+        UUID indexed = playerName != null ? playerNameIndex.get(playerName.toLowerCase(java.util.Locale.ROOT)) : null;
+        if (indexed != null) {
+            PlayerData cached = playerDataCache.get(indexed);
+            if (cached != null && playerName.equalsIgnoreCase(cached.getPlayerName())) {
+                nameIndexHits.incrementAndGet();
+                return cached;
             }
-        }).exceptionally(throwable -> {
+        }
+        
+        
+        resolvePlayerData(playerName).exceptionally(throwable -> {
             logger.warning("Failed to load player data for " + playerName + ": " + throwable.getMessage());
             return null;
         });
@@ -344,11 +636,63 @@ public class DataManager {
         return null; 
     }
     
+    
+    public CompletableFuture<PlayerData> resolvePlayerData(String playerName) {
+        if (playerName == null || playerName.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        String key = playerName.toLowerCase(java.util.Locale.ROOT);
+        UUID indexed = playerNameIndex.get(key);
+        if (indexed != null) {
+            PlayerData cached = playerDataCache.get(indexed);
+            if (cached != null && playerName.equalsIgnoreCase(cached.getPlayerName())) {
+                nameIndexHits.incrementAndGet();
+                return awaitPlayerData(indexed, cached.getPlayerName());
+            }
+            if (cached == null) {
+                return databaseHandler.loadPlayerData(indexed).thenCompose(data -> {
+                    if (data != null && playerName.equalsIgnoreCase(data.getPlayerName())) {
+                        nameIndexHits.incrementAndGet();
+                        return CompletableFuture.completedFuture(adoptLoadedPlayerData(data));
+                    }
+                    playerNameIndex.remove(key, indexed);
+                    return lookupPlayerDataByName(playerName);
+                });
+            }
+            playerNameIndex.remove(key, indexed);
+        }
+        return lookupPlayerDataByName(playerName);
+    }
+    
+    private CompletableFuture<PlayerData> lookupPlayerDataByName(String playerName) {
+        nameIndexMisses.incrementAndGet();
+        return databaseHandler.loadPlayerDataByName(playerName)
+            .thenApply(data -> data != null ? adoptLoadedPlayerData(data) : null);
+    }
+    
+    
+    private PlayerData adoptLoadedPlayerData(PlayerData data) {
+        cacheLoadedPlayerData(data);
+        PlayerData current = playerDataCache.peek(data.getPlayerId());
+        return current != null ? current : data;
+    }
+    
+    private void indexPlayerName(PlayerData data) {
+        String name = data.getPlayerName();
+        if (name == null || name.isEmpty() || "Unknown".equals(name)) {
+            return;
+        }
+        playerNameIndex.put(name.toLowerCase(java.util.Locale.ROOT), data.getPlayerId());
+    }
+    
     public void deletePlayerData(UUID playerId) {
-        
+        
         synchronized (playerDataLock) {
             playerDataCache.remove(playerId);
-            lastCacheUpdate.remove(playerId);
+            coldPlaceholders.remove(playerId);
+            dirtyPlayers.remove(playerId);
+            playerNameIndex.values().removeIf(playerId::equals);
         }
         
         
@@ -368,21 +712,52 @@ public class DataManager {
     }
     
     public ChaseData getChaseByGuard(UUID guardId) {
-        return activeChases.values().stream()
-                .filter(chase -> chase.getGuardId() != null && chase.getGuardId().equals(guardId) && chase.isActive())
-                .findFirst()
-                .orElse(null);
+        if (guardId == null) return null;
+        ChaseData chase = chasesByGuard.get(guardId);
+        return chase != null && chase.isActive() ? chase : null;
     }
     
     public ChaseData getChaseByTarget(UUID targetId) {
-        return activeChases.values().stream()
-                .filter(chase -> chase.getTargetId() != null && chase.getTargetId().equals(targetId) && chase.isActive())
-                .findFirst()
-                .orElse(null);
+        if (targetId == null) return null;
+        ChaseData chase = chasesByTarget.get(targetId);
+        return chase != null && chase.isActive() ? chase : null;
+    }
+    
+    
+    private void indexChase(ChaseData chaseData) {
+        ChaseData previous = activeChases.put(chaseData.getChaseId(), chaseData);
+        if (previous != null && previous != chaseData) {
+            unlinkChase(previous);
+        }
+        if (chaseData.getGuardId() != null) {
+            chasesByGuard.put(chaseData.getGuardId(), chaseData);
+        }
+        if (chaseData.getTargetId() != null) {
+            chasesByTarget.put(chaseData.getTargetId(), chaseData);
+        }
+    }
+    
+    private ChaseData unindexChase(UUID chaseId) {
+        ChaseData chaseData = activeChases.remove(chaseId);
+        if (chaseData != null) {
+            unlinkChase(chaseData);
+        }
+        return chaseData;
+    }
+    
+    private void unlinkChase(ChaseData chaseData) {
+        if (chaseData.getGuardId() != null) {
+            chasesByGuard.remove(chaseData.getGuardId(), chaseData);
+        }
+        if (chaseData.getTargetId() != null) {
+            chasesByTarget.remove(chaseData.getTargetId(), chaseData);
+        }
     }
     
     public void addChaseData(ChaseData chaseData) {
-        activeChases.put(chaseData.getChaseId(), chaseData);
+        synchronized (chaseLock) {
+            indexChase(chaseData);
+        }
         
         
         databaseHandler.saveChaseData(chaseData).whenComplete((result, throwable) -> {
@@ -393,7 +768,10 @@ public class DataManager {
     }
     
     public void removeChaseData(UUID chaseId) {
-        ChaseData chaseData = activeChases.remove(chaseId);
+        ChaseData chaseData;
+        synchronized (chaseLock) {
+            chaseData = unindexChase(chaseId);
+        }
         
         if (chaseData != null) {
             
@@ -434,28 +812,34 @@ public class DataManager {
         });
     }
     
-    public void cleanupExpiredWantedLevels() {
-        List<PlayerData> expiredPlayers = new ArrayList<>();
+    private void trackWantedExpiry(PlayerData playerData) {
+        ExpiryWheel wheel = plugin.getExpiryWheel();
+        if (wheel == null) return;
         
-        synchronized (playerDataLock) {
-            for (PlayerData playerData : playerDataCache.values()) {
-                if (playerData.hasExpiredWanted()) {
-                    playerData.clearWantedLevel();
-                    expiredPlayers.add(playerData);
-                }
-            }
+        if (playerData.getWantedLevel() > 0 && playerData.getWantedExpireTime() > 0) {
+            wheel.schedule(ExpiryWheel.WANTED, playerData.getPlayerId(), playerData.getWantedExpireTime(), this::expireWantedLevel);
+        } else {
+            wheel.cancel(ExpiryWheel.WANTED, playerData.getPlayerId());
         }
+    }
+    
+    private void expireWantedLevel(UUID playerId) {
+        PlayerData playerData = playerDataCache.peek(playerId);
+        if (playerData == null) return;
         
-        
-        for (PlayerData playerData : expiredPlayers) {
-            savePlayerData(playerData);
+        if (!playerData.hasExpiredWanted()) {
+            trackWantedExpiry(playerData);
+            return;
         }
+        
+        playerData.clearWantedLevel();
+        savePlayerData(playerData);
     }
     
     
     
     public void savePlayerInventory(UUID playerId, String inventoryData) {
-        databaseHandler.savePlayerInventory(playerId, inventoryData).whenComplete((result, throwable) -> {
+        enqueueInventoryWrite(playerId, () -> databaseHandler.savePlayerInventory(playerId, inventoryData)).whenComplete((result, throwable) -> {
             if (throwable != null) {
                 logger.severe("Failed to save player inventory for " + playerId + ": " + throwable.getMessage());
             } else if (plugin.getConfigManager().isDebugMode()) {
@@ -480,24 +864,117 @@ public class DataManager {
 
     
     public void saveOnDutyInventory(UUID playerId, String inventoryData) {
-        databaseHandler.saveOnDutyInventory(playerId, inventoryData).whenComplete((result, throwable) -> {
+        enqueueInventoryWrite(playerId, () -> databaseHandler.saveOnDutyInventory(playerId, inventoryData)).whenComplete((result, throwable) -> {
             if (throwable != null) {
                 logger.severe("Failed to save on-duty inventory for " + playerId + ": " + throwable.getMessage());
             }
         });
     }
 
-    public String loadOnDutyInventory(UUID playerId) {
+    public CompletableFuture<String> loadOnDutyInventoryAsync(UUID playerId) {
+        return databaseHandler.loadOnDutyInventory(playerId).exceptionally(throwable -> {
+            logger.warning("Failed to load on-duty inventory for " + playerId + ": " + throwable.getMessage());
+            return null;
+        });
+    }
+    
+    public CompletableFuture<String> loadPlayerInventoryAsync(UUID playerId) {
+        return databaseHandler.loadPlayerInventory(playerId).exceptionally(throwable -> {
+            logger.warning("Failed to load player inventory for " + playerId + ": " + throwable.getMessage());
+            return null;
+        });
+    }
+    
+    
+    public CompletableFuture<PrefetchedInventories> loadInventoriesAsync(UUID playerId) {
+        return loadPlayerInventoryAsync(playerId).thenCombine(loadOnDutyInventoryAsync(playerId), (offDuty, onDuty) ->
+            new PrefetchedInventories(playerId, offDuty, onDuty,
+                InventorySerializer.decodeInventorySnapshot(offDuty),
+                InventorySerializer.decodeInventorySnapshot(onDuty)));
+    }
+    
+    
+    public void prefetchPlayer(UUID playerId, String playerName) {
+        CompletableFuture<PlayerData> playerFuture = databaseHandler.loadPlayerData(playerId);
+        CompletableFuture<PrefetchedInventories> inventoryFuture = loadInventoriesAsync(playerId);
+        CompletableFuture<ChaseData> chaseFuture = databaseHandler.loadActiveChaseForPlayer(playerId);
+        
         try {
-            return databaseHandler.loadOnDutyInventory(playerId).get(5, TimeUnit.SECONDS);
+            CompletableFuture.allOf(playerFuture, inventoryFuture, chaseFuture).get(PREFETCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            logger.warning("Failed to load on-duty inventory for " + playerId + ": " + e.getMessage());
-            return null;
+            failedPrefetches.incrementAndGet();
+            logger.warning("Failed to prefetch data for " + playerName + ": " + e.getMessage());
+        }
+        
+        
+        if (playerFuture.isDone() && !playerFuture.isCompletedExceptionally()) {
+            PlayerData data = playerFuture.join();
+            cacheLoadedPlayerData(data != null ? data : new PlayerData(playerId, playerName));
+        }
+        
+        if (inventoryFuture.isDone() && !inventoryFuture.isCompletedExceptionally()) {
+            PrefetchedInventories inventories = inventoryFuture.join();
+            prefetchedInventories.put(playerId, inventories);
+        }
+        
+        if (chaseFuture.isDone() && !chaseFuture.isCompletedExceptionally()) {
+            ChaseData chase = chaseFuture.join();
+            if (chase != null && chase.isActive() && !chase.isExpired()) {
+                synchronized (chaseLock) {
+                    if (!activeChases.containsKey(chase.getChaseId())) {
+                        indexChase(chase);
+                    }
+                }
+            }
+        }
+        
+        prefetchedPlayers.incrementAndGet();
+        if (plugin.getConfigManager().isDebugMode()) {
+            logger.info("DEBUG: Prefetched data for " + playerName + " before login");
         }
     }
+    
+    
+    public void migrateLegacyInventories(PrefetchedInventories inventories, boolean offDutyHeld, boolean onDutyHeld) {
+        UUID playerId = inventories.getPlayerId();
+        
+        if (offDutyHeld && InventorySerializer.isLegacyInventoryFormat(inventories.getOffDutyData())) {
+            String migrated = InventorySerializer.reencodeInventory(inventories.getOffDutyInventory());
+            if (migrated != null) {
+                recordMigration(playerId, enqueueInventoryWrite(playerId, () -> databaseHandler.savePlayerInventory(playerId, migrated)));
+            }
+        }
+        if (onDutyHeld && InventorySerializer.isLegacyInventoryFormat(inventories.getOnDutyData())) {
+            String migrated = InventorySerializer.reencodeInventory(inventories.getOnDutyInventory());
+            if (migrated != null) {
+                recordMigration(playerId, enqueueInventoryWrite(playerId, () -> databaseHandler.saveOnDutyInventory(playerId, migrated)));
+            }
+        }
+    }
+    
+    private void recordMigration(UUID playerId, CompletableFuture<Void> write) {
+        write.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                logger.warning("Failed to migrate legacy inventories for " + playerId + ": " + throwable.getMessage());
+            } else {
+                migratedInventories.incrementAndGet();
+            }
+        });
+    }
+    
+    
+    public CompletableFuture<PrefetchedInventories> takePrefetchedInventories(UUID playerId) {
+        PrefetchedInventories prefetched = prefetchedInventories.remove(playerId);
+        if (prefetched != null && !prefetched.isExpired(PREFETCH_EXPIRY_TIME)) {
+            prefetchHits.incrementAndGet();
+            return CompletableFuture.completedFuture(prefetched);
+        }
+        prefetchMisses.incrementAndGet();
+        return loadInventoriesAsync(playerId);
+    }
 
     public void deleteOnDutyInventory(UUID playerId) {
-        databaseHandler.deleteOnDutyInventory(playerId).whenComplete((result, throwable) -> {
+        enqueueInventoryWrite(playerId, () -> databaseHandler.deleteOnDutyInventory(playerId)).whenComplete((result, throwable) -> {
             if (throwable != null) {
                 logger.severe("Failed to delete on-duty inventory for " + playerId + ": " + throwable.getMessage());
             }
@@ -505,7 +982,7 @@ public class DataManager {
     }
     
     public void deletePlayerInventory(UUID playerId) {
-        databaseHandler.deletePlayerInventory(playerId).whenComplete((result, throwable) -> {
+        enqueueInventoryWrite(playerId, () -> databaseHandler.deletePlayerInventory(playerId)).whenComplete((result, throwable) -> {
             if (throwable != null) {
                 logger.severe("Failed to delete player inventory for " + playerId + ": " + throwable.getMessage());
             }
@@ -514,35 +991,106 @@ public class DataManager {
     
     
     public boolean hasStoredInventory(UUID playerId) {
-        try {
-            String inventoryData = loadPlayerInventory(playerId);
-            return inventoryData != null && !inventoryData.trim().isEmpty();
-        } catch (Exception e) {
-            logger.warning("Failed to check stored inventory for " + playerId + ": " + e.getMessage());
-            return false;
-        }
+        PrefetchedInventories prefetched = prefetchedInventories.get(playerId);
+        return prefetched != null && !prefetched.isExpired(PREFETCH_EXPIRY_TIME) && prefetched.hasOffDutyInventory();
     }
     
     
-    public List<UUID> getPlayersWithStoredInventory() {
-        try {
-            return databaseHandler.getPlayersWithStoredInventory().get(5, TimeUnit.SECONDS);
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            logger.warning("Failed to get players with stored inventory: " + e.getMessage());
+    public CompletableFuture<List<UUID>> getPlayersWithStoredInventory() {
+        return databaseHandler.getPlayersWithStoredInventory().exceptionally(throwable -> {
+            logger.warning("Failed to get players with stored inventory: " + throwable.getMessage());
             return new ArrayList<>();
-        }
+        });
     }
     
     
     
+    public CompletableFuture<Boolean> saveContrabandEntries(List<ContrabandVaultEntry> entries) {
+        return databaseHandler.saveContrabandEntries(entries).thenApply(result -> true).exceptionally(throwable -> {
+            logger.severe("Failed to store " + entries.size() + " confiscated items: " + throwable.getMessage());
+            return false;
+        });
+    }
+    
+    public CompletableFuture<List<ContrabandVaultEntry>> loadContrabandEntries(UUID ownerId) {
+        return databaseHandler.loadContrabandEntries(ownerId, System.currentTimeMillis()).exceptionally(throwable -> {
+            logger.warning("Failed to load confiscated items for " + ownerId + ": " + throwable.getMessage());
+            return new ArrayList<>();
+        });
+    }
+    
+    public CompletableFuture<ContrabandVaultEntry> claimRandomContrabandEntry() {
+        return databaseHandler.claimRandomContrabandEntry(System.currentTimeMillis()).exceptionally(throwable -> {
+            logger.warning("Failed to claim confiscated item from pool: " + throwable.getMessage());
+            return null;
+        });
+    }
+    
+    public CompletableFuture<Integer> deleteContrabandEntries(List<UUID> entryIds) {
+        return databaseHandler.deleteContrabandEntries(entryIds).exceptionally(throwable -> {
+            logger.severe("Failed to delete confiscated items: " + throwable.getMessage());
+            return 0;
+        });
+    }
+    
+    public CompletableFuture<Integer> purgeExpiredContraband() {
+        return databaseHandler.purgeExpiredContraband(System.currentTimeMillis()).exceptionally(throwable -> {
+            logger.warning("Failed to purge expired confiscated items: " + throwable.getMessage());
+            return 0;
+        });
+    }
+    
+    public CompletableFuture<Integer> countStoredContraband() {
+        return databaseHandler.countStoredContraband(System.currentTimeMillis()).exceptionally(throwable -> {
+            logger.warning("Failed to count confiscated items: " + throwable.getMessage());
+            return 0;
+        });
+    }
+    
+    
+    
+    public CompletableFuture<List<LeaderboardEntry>> loadLeaderboard(LeaderboardStat stat, int limit) {
+        return databaseHandler.loadLeaderboard(stat, limit).exceptionally(throwable -> {
+            logger.warning("Failed to load " + stat.getKey() + " leaderboard: " + throwable.getMessage());
+            return null;
+        });
+    }
+    
+    public CompletableFuture<Map<String, Long>> loadStatTotals() {
+        return databaseHandler.loadStatTotals().exceptionally(throwable -> {
+            logger.warning("Failed to load stat totals: " + throwable.getMessage());
+            return null;
+        });
+    }
+    
+    public List<PlayerData> getCachedPlayerData() {
+        return playerDataCache.values();
+    }
+    
+    
+    
+    public StatsJournal getStatsJournal() {
+        return statsJournal;
+    }
+    
+    public void recordStat(UUID playerId, String statType, long value) {
+        if (statsJournal != null) {
+            statsJournal.record(playerId, statType, value);
+        }
+    }
+    
+    public void recordDutyTime(PlayerData data, long dutyTime) {
+        data.addDutyTime(dutyTime);
+        recordStat(data.getPlayerId(), StatsJournal.DUTY_TIME, dutyTime);
+    }
+    
+    
+    
     public boolean isPlayerOnDuty(UUID playerId) {
         
         PlayerData cachedData = playerDataCache.get(playerId);
         if (cachedData != null) {
-            Long lastUpdate = lastCacheUpdate.get(playerId);
-            if (lastUpdate != null && System.currentTimeMillis() - lastUpdate < CACHE_EXPIRY_TIME) {
-                return cachedData.isOnDuty();
-            }
+            return cachedData.isOnDuty();
         }
         
         PlayerData data = getPlayerData(playerId);
@@ -553,10 +1101,7 @@ public class DataManager {
         
         PlayerData cachedData = playerDataCache.get(playerId);
         if (cachedData != null) {
-            Long lastUpdate = lastCacheUpdate.get(playerId);
-            if (lastUpdate != null && System.currentTimeMillis() - lastUpdate < CACHE_EXPIRY_TIME) {
-                return cachedData.isWanted();
-            }
+            return cachedData.isWanted();
         }
         
         PlayerData data = getPlayerData(playerId);
@@ -564,17 +1109,7 @@ public class DataManager {
     }
     
     public boolean isPlayerBeingChased(UUID playerId) {
-        
-        PlayerData cachedData = playerDataCache.get(playerId);
-        if (cachedData != null) {
-            Long lastUpdate = lastCacheUpdate.get(playerId);
-            if (lastUpdate != null && System.currentTimeMillis() - lastUpdate < CACHE_EXPIRY_TIME) {
-                return cachedData.isBeingChased();
-            }
-        }
-        
-        PlayerData data = getPlayerData(playerId);
-        return data != null && data.isBeingChased();
+        return getChaseByTarget(playerId) != null;
     }
     
     public boolean isGuardChasing(UUID guardId) {
@@ -582,9 +1117,7 @@ public class DataManager {
     }
     
     public int getActiveChaseCount() {
-        return (int) activeChases.values().stream()
-                .filter(ChaseData::isActive)
-                .count();
+        return activeChases.size();
     }
     
     
@@ -633,6 +1166,13 @@ public class DataManager {
         }
     }
     
+    public Map<String, Object> getDatabasePoolMetrics() {
+        if (databaseHandler instanceof MySQLHandler) {
+            return ((MySQLHandler) databaseHandler).getPoolMetrics();
+        }
+        return new HashMap<>();
+    }
+    
     public Map<String, Object> getDiagnosticInfo() {
         Map<String, Object> diagnostics = new ConcurrentHashMap<>();
         
@@ -640,7 +1180,36 @@ public class DataManager {
         diagnostics.put("databaseConnected", isDatabaseConnected());
         diagnostics.put("cachedPlayerData", playerDataCache.size());
         diagnostics.put("activeChases", activeChases.size());
-        diagnostics.put("cacheHitRate", calculateCacheHitRate());
+        diagnostics.put("prefetchedPlayers", prefetchedPlayers.get());
+        diagnostics.put("failedPrefetches", failedPrefetches.get());
+        diagnostics.put("pendingPrefetchedInventories", prefetchedInventories.size());
+        diagnostics.put("coldPlayerLoads", coldPlayerLoads.get());
+        diagnostics.put("migratedInventories", migratedInventories.get());
+        diagnostics.put("cacheHitRate", playerDataCache.getHitRate());
+        for (Map.Entry<String, Long> stat : playerDataCache.getStats().entrySet()) {
+            diagnostics.put("cache.playerData." + stat.getKey(), stat.getValue());
+        }
+        diagnostics.put("cache.prefetch.hits", prefetchHits.get());
+        diagnostics.put("cache.prefetch.misses", prefetchMisses.get());
+        diagnostics.put("cache.prefetch.expirations", prefetchExpirations.get());
+        diagnostics.put("cache.prefetch.size", (long) prefetchedInventories.size());
+        diagnostics.put("nameIndex.size", (long) playerNameIndex.size());
+        diagnostics.put("nameIndex.hits", nameIndexHits.get());
+        diagnostics.put("nameIndex.misses", nameIndexMisses.get());
+        diagnostics.put("writeBehindEnabled", writeBehindEnabled);
+        diagnostics.put("dirtyPlayerData", dirtyPlayers.size());
+        diagnostics.put("queuedSaves", queuedSaves.get());
+        diagnostics.put("flushedRecords", flushedRecords.get());
+        diagnostics.put("flushBatches", flushBatches.get());
+        diagnostics.put("failedFlushes", failedFlushes.get());
+        
+        if (databaseHandler instanceof SQLiteHandler) {
+            SQLiteHandler sqlite = (SQLiteHandler) databaseHandler;
+            diagnostics.put("sqliteCommittedTransactions", sqlite.getCommittedTransactions());
+            diagnostics.put("sqliteCommittedWrites", sqlite.getCommittedWrites());
+            diagnostics.put("sqliteFailedWrites", sqlite.getFailedWrites());
+            diagnostics.put("sqlitePendingWrites", sqlite.getPendingWrites());
+        }
         
         DatabaseHandler.DatabaseStats stats = getDatabaseStats();
         if (stats != null) {
@@ -653,16 +1222,6 @@ public class DataManager {
         return diagnostics;
     }
     
-    private double calculateCacheHitRate() {
-        
-        
-        int totalCacheEntries = playerDataCache.size();
-        int recentEntries = (int) lastCacheUpdate.values().stream()
-                .filter(time -> System.currentTimeMillis() - time < CACHE_EXPIRY_TIME)
-                .count();
-        
-        return totalCacheEntries > 0 ? (double) recentEntries / totalCacheEntries : 0.0;
-    }
     
     
     
@@ -672,7 +1231,8 @@ public class DataManager {
         
         for (PlayerData data : playerDataList) {
             playerDataCache.put(data.getPlayerId(), data);
-            lastCacheUpdate.put(data.getPlayerId(), System.currentTimeMillis());
+            coldPlaceholders.remove(data.getPlayerId());
+            indexPlayerName(data);
         }
         
         
@@ -691,11 +1251,8 @@ public class DataManager {
         
         databaseHandler.batchLoadPlayerData(playerIds).thenAccept(playerDataList -> {
             
-            synchronized (playerDataLock) {
-                for (PlayerData data : playerDataList) {
-                    playerDataCache.put(data.getPlayerId(), data);
-                    lastCacheUpdate.put(data.getPlayerId(), System.currentTimeMillis());
-                }
+            for (PlayerData data : playerDataList) {
+                cacheLoadedPlayerData(data);
             }
         }).exceptionally(throwable -> {
             logger.warning("Failed to batch load player data: " + throwable.getMessage());
@@ -726,20 +1283,18 @@ public class DataManager {
     }
     
     public int getTotalGuardDutyTime() {
-        return playerDataCache.values().stream()
-                .mapToInt(data -> (int) (data.getTotalDutyTime() / 1000L))
-                .sum();
+        return (int) (getStatTotal("total_duty_time") / 1000L);
     }
     
     public int getTotalArrests() {
-        return playerDataCache.values().stream()
-                .mapToInt(PlayerData::getTotalArrests)
-                .sum();
+        return (int) getStatTotal("total_arrests");
     }
     
     public int getTotalViolations() {
-        return playerDataCache.values().stream()
-                .mapToInt(PlayerData::getTotalViolations)
-                .sum();
+        return (int) getStatTotal("total_violations");
+    }
+    
+    private long getStatTotal(String column) {
+        return plugin.getLeaderboardManager() != null ? plugin.getLeaderboardManager().getTotal(column) : 0L;
     }
 }
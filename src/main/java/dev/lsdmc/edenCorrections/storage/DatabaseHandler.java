@@ -2,9 +2,14 @@ package dev.lsdmc.edenCorrections.storage;
 
 import dev.lsdmc.edenCorrections.models.PlayerData;
 import dev.lsdmc.edenCorrections.models.ChaseData;
+import dev.lsdmc.edenCorrections.models.ContrabandVaultEntry;
+import dev.lsdmc.edenCorrections.models.LeaderboardEntry;
+import dev.lsdmc.edenCorrections.models.LeaderboardStat;
+import dev.lsdmc.edenCorrections.models.StatEvent;
 
 import java.util.UUID;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.sql.SQLException;
 
@@ -53,6 +58,9 @@ public interface DatabaseHandler {
     CompletableFuture<List<ChaseData>> loadAllActiveChases();
     
     
+    CompletableFuture<ChaseData> loadActiveChaseForPlayer(UUID playerId);
+    
+    
     CompletableFuture<Void> deleteChaseData(UUID chaseId);
     
     
@@ -83,6 +91,45 @@ public interface DatabaseHandler {
     
     
     
+    CompletableFuture<Void> saveContrabandEntries(List<ContrabandVaultEntry> entries);
+    
+    
+    CompletableFuture<List<ContrabandVaultEntry>> loadContrabandEntries(UUID ownerId, long now);
+    
+    
+    CompletableFuture<ContrabandVaultEntry> claimRandomContrabandEntry(long now);
+    
+    
+    CompletableFuture<Integer> deleteContrabandEntries(List<UUID> entryIds);
+    
+    
+    CompletableFuture<Integer> purgeExpiredContraband(long now);
+    
+    
+    CompletableFuture<Integer> countStoredContraband(long now);
+    
+    
+    
+    
+    CompletableFuture<List<LeaderboardEntry>> loadLeaderboard(LeaderboardStat stat, int limit);
+    
+    
+    CompletableFuture<Map<String, Long>> loadStatTotals();
+    
+    
+    
+    
+    CompletableFuture<Void> appendStatEvents(List<StatEvent> events);
+    
+    
+    CompletableFuture<Map<String, Long>> sumStatEvents(UUID playerId, long since, boolean daily);
+    
+    
+    CompletableFuture<Integer> pruneStatEvents(long rawCutoff, long hourlyCutoff, long dailyCutoff);
+    
+    
+    
+    
     CompletableFuture<Void> performMaintenance();
     
     
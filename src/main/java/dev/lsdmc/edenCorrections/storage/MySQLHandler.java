@@ -1,16 +1,25 @@
 package dev.lsdmc.edenCorrections.storage;
 
 import dev.lsdmc.edenCorrections.EdenCorrections;
+import dev.lsdmc.edenCorrections.config.ConfigManager;
 import dev.lsdmc.edenCorrections.models.PlayerData;
 import dev.lsdmc.edenCorrections.models.ChaseData;
+import dev.lsdmc.edenCorrections.models.ContrabandVaultEntry;
+import dev.lsdmc.edenCorrections.models.LeaderboardEntry;
+import dev.lsdmc.edenCorrections.models.LeaderboardStat;
+import dev.lsdmc.edenCorrections.models.StatEvent;
+import dev.lsdmc.edenCorrections.models.StatRollup;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 
 import java.sql.*;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 public class MySQLHandler implements DatabaseHandler {
@@ -28,9 +37,17 @@ public class MySQLHandler implements DatabaseHandler {
     private final String database;
     private final String username;
     private final String password;
+    private final int executorThreads;
     
     
-    private static final int SCHEMA_VERSION = 2;
+    private final AtomicLong connectionAcquisitions = new AtomicLong(0);
+    private final AtomicLong connectionAcquireNanos = new AtomicLong(0);
+    private final AtomicLong maxConnectionAcquireNanos = new AtomicLong(0);
+    private final AtomicLong failedAcquisitions = new AtomicLong(0);
+    
+    
+    private static final int SCHEMA_VERSION = 4;
+    private static final int STAT_INSERT_ROWS = 200;
     
     public MySQLHandler(EdenCorrections plugin, String host, int port, String database, String username, String password) {
         this.plugin = plugin;
@@ -40,8 +57,9 @@ public class MySQLHandler implements DatabaseHandler {
         this.database = database;
         this.username = username;
         this.password = password;
+        this.executorThreads = plugin.getConfigManager().getMySQLExecutorThreads();
         
-        this.executor = Executors.newFixedThreadPool(2, r -> {
+        this.executor = Executors.newFixedThreadPool(executorThreads, r -> {
             Thread t = new Thread(r, "Corrections-MySQL-Worker");
             t.setDaemon(true);
             return t;
@@ -62,20 +80,22 @@ public class MySQLHandler implements DatabaseHandler {
             config.setPassword(password);
             
             
-            config.setMaximumPoolSize(10);
-            config.setMinimumIdle(2);
-            config.setConnectionTimeout(30000);
-            config.setIdleTimeout(600000);
-            config.setMaxLifetime(1800000);
-            config.setLeakDetectionThreshold(60000);
+            ConfigManager configManager = plugin.getConfigManager();
+            config.setPoolName("Corrections-MySQL");
+            config.setMaximumPoolSize(configManager.getMySQLMaximumPoolSize());
+            config.setMinimumIdle(configManager.getMySQLMinimumIdle());
+            config.setConnectionTimeout(configManager.getMySQLConnectionTimeout());
+            config.setIdleTimeout(configManager.getMySQLIdleTimeout());
+            config.setMaxLifetime(configManager.getMySQLMaxLifetime());
+            config.setLeakDetectionThreshold(configManager.getMySQLLeakDetectionThreshold());
             
             
-            config.addDataSourceProperty("cachePrepStmts", "true");
-            config.addDataSourceProperty("prepStmtCacheSize", "250");
-            config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
-            config.addDataSourceProperty("useServerPrepStmts", "true");
+            config.addDataSourceProperty("cachePrepStmts", String.valueOf(configManager.isMySQLCachePrepStmts()));
+            config.addDataSourceProperty("prepStmtCacheSize", String.valueOf(configManager.getMySQLPrepStmtCacheSize()));
+            config.addDataSourceProperty("prepStmtCacheSqlLimit", String.valueOf(configManager.getMySQLPrepStmtCacheSqlLimit()));
+            config.addDataSourceProperty("useServerPrepStmts", String.valueOf(configManager.isMySQLUseServerPrepStmts()));
             config.addDataSourceProperty("useLocalSessionState", "true");
-            config.addDataSourceProperty("rewriteBatchedStatements", "true");
+            config.addDataSourceProperty("rewriteBatchedStatements", String.valueOf(configManager.isMySQLRewriteBatchedStatements()));
             config.addDataSourceProperty("cacheResultSetMetadata", "true");
             config.addDataSourceProperty("cacheServerConfiguration", "true");
             config.addDataSourceProperty("elideSetAutoCommits", "true");
@@ -97,7 +117,8 @@ public class MySQLHandler implements DatabaseHandler {
             checkAndMigrate();
             
             initialized = true;
-            logger.info("MySQL database initialized successfully at: " + host + ":" + port + "/" + database);
+            logger.info("MySQL database initialized successfully at: " + host + ":" + port + "/" + database
+                + " (pool " + dataSource.getMaximumPoolSize() + ", workers " + executorThreads + ")");
             
         } catch (ClassNotFoundException e) {
             throw new SQLException("MySQL driver not found", e);
@@ -142,6 +163,9 @@ public class MySQLHandler implements DatabaseHandler {
                 INDEX idx_player_name (player_name),
                 INDEX idx_player_duty (is_on_duty),
                 INDEX idx_player_wanted (wanted_level),
+                INDEX idx_player_arrests (total_arrests),
+                INDEX idx_player_duty_total (total_duty_time),
+                INDEX idx_player_kills (total_qualifying_kills),
                 INDEX idx_last_updated (last_updated)
             ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
             """,
@@ -191,6 +215,22 @@ public class MySQLHandler implements DatabaseHandler {
             """,
             
             
+            """
+            CREATE TABLE IF NOT EXISTS contraband_vault (
+                entry_id VARCHAR(36) PRIMARY KEY,
+                owner_id VARCHAR(36) NOT NULL,
+                material VARCHAR(64) NOT NULL,
+                amount INT NOT NULL DEFAULT 1,
+                item_data LONGTEXT,
+                confiscated_at BIGINT NOT NULL DEFAULT 0,
+                expires_at BIGINT NOT NULL DEFAULT 0,
+                
+                INDEX idx_contraband_owner (owner_id, expires_at),
+                INDEX idx_contraband_expiry (expires_at)
+            ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+            """,
+            
+            
             """
             CREATE TABLE IF NOT EXISTS database_metadata (
                 meta_key VARCHAR(64) PRIMARY KEY,
@@ -202,7 +242,7 @@ public class MySQLHandler implements DatabaseHandler {
             
             """
             CREATE TABLE IF NOT EXISTS performance_stats (
-                id INT AUTO_INCREMENT PRIMARY KEY,
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
                 player_id VARCHAR(36) NOT NULL,
                 stat_type VARCHAR(32) NOT NULL,
                 stat_value BIGINT NOT NULL,
@@ -210,13 +250,40 @@ public class MySQLHandler implements DatabaseHandler {
                 
                 INDEX idx_performance_player (player_id),
                 INDEX idx_performance_type (stat_type),
-                INDEX idx_performance_time (recorded_at),
-                FOREIGN KEY (player_id) REFERENCES player_data(player_id) ON DELETE CASCADE
+                INDEX idx_performance_time (recorded_at)
+            ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+            """,
+            
+            
+            """
+            CREATE TABLE IF NOT EXISTS performance_rollup_hourly (
+                player_id VARCHAR(36) NOT NULL,
+                bucket_start BIGINT NOT NULL,
+                stat_type VARCHAR(32) NOT NULL,
+                event_count INT NOT NULL DEFAULT 0,
+                stat_total BIGINT NOT NULL DEFAULT 0,
+                
+                PRIMARY KEY (player_id, bucket_start, stat_type),
+                INDEX idx_rollup_hourly_time (bucket_start)
+            ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+            """,
+            
+            
+            """
+            CREATE TABLE IF NOT EXISTS performance_rollup_daily (
+                player_id VARCHAR(36) NOT NULL,
+                bucket_start BIGINT NOT NULL,
+                stat_type VARCHAR(32) NOT NULL,
+                event_count INT NOT NULL DEFAULT 0,
+                stat_total BIGINT NOT NULL DEFAULT 0,
+                
+                PRIMARY KEY (player_id, bucket_start, stat_type),
+                INDEX idx_rollup_daily_time (bucket_start)
             ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
             """
         };
         
-        try (Connection connection = dataSource.getConnection()) {
+        try (Connection connection = acquireConnection()) {
             for (String sql : tableCreationSql) {
                 try (Statement stmt = connection.createStatement()) {
                     stmt.execute(sql);
@@ -239,7 +306,7 @@ public class MySQLHandler implements DatabaseHandler {
     
     private int getSchemaVersion() throws SQLException {
         String sql = "SELECT meta_value FROM database_metadata WHERE meta_key = ?";
-        try (Connection connection = dataSource.getConnection();
+        try (Connection connection = acquireConnection();
              PreparedStatement stmt = connection.prepareStatement(sql)) {
             
             stmt.setString(1, "schema_version");
@@ -259,7 +326,7 @@ public class MySQLHandler implements DatabaseHandler {
             VALUES (?, ?, ?) 
             ON DUPLICATE KEY UPDATE meta_value = VALUES(meta_value), updated_at = VALUES(updated_at)
             """;
-        try (Connection connection = dataSource.getConnection();
+        try (Connection connection = acquireConnection();
              PreparedStatement stmt = connection.prepareStatement(sql)) {
             
             stmt.setString(1, "schema_version");
@@ -271,14 +338,14 @@ public class MySQLHandler implements DatabaseHandler {
     
     private void performMigration(int fromVersion) throws SQLException {
         
-        try (Connection connection = dataSource.getConnection(); Statement stmt = connection.createStatement()) {
+        try (Connection connection = acquireConnection(); Statement stmt = connection.createStatement()) {
             stmt.execute("ALTER TABLE player_data ADD COLUMN total_qualifying_kills INT NOT NULL DEFAULT 0");
         } catch (SQLException e) {
             logger.fine("MySQL migration: total_qualifying_kills may already exist: " + e.getMessage());
         }
 
         if (fromVersion < 2) {
-            try (Connection connection = dataSource.getConnection(); Statement stmt = connection.createStatement()) {
+            try (Connection connection = acquireConnection(); Statement stmt = connection.createStatement()) {
                 stmt.execute("CREATE TABLE IF NOT EXISTS on_duty_inventories (" +
                         "player_id VARCHAR(36) PRIMARY KEY, " +
                         "inventory_data LONGTEXT NOT NULL, " +
@@ -288,18 +355,98 @@ public class MySQLHandler implements DatabaseHandler {
                         ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci");
             }
         }
+
+        if (fromVersion < 3) {
+            String[] leaderboardIndexes = {
+                "CREATE INDEX idx_player_arrests ON player_data(total_arrests)",
+                "CREATE INDEX idx_player_duty_total ON player_data(total_duty_time)",
+                "CREATE INDEX idx_player_kills ON player_data(total_qualifying_kills)"
+            };
+            for (String sql : leaderboardIndexes) {
+                try (Connection connection = acquireConnection(); Statement stmt = connection.createStatement()) {
+                    stmt.execute(sql);
+                } catch (SQLException e) {
+                    logger.fine("MySQL migration: leaderboard index may already exist: " + e.getMessage());
+                }
+            }
+        }
+
+        if (fromVersion < 4) {
+            String sql = "SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS " +
+                "WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'performance_stats'";
+            try (Connection connection = acquireConnection(); Statement stmt = connection.createStatement()) {
+                List<String> foreignKeys = new ArrayList<>();
+                try (ResultSet rs = stmt.executeQuery(sql)) {
+                    while (rs.next()) {
+                        foreignKeys.add(rs.getString(1));
+                    }
+                }
+                for (String foreignKey : foreignKeys) {
+                    stmt.execute("ALTER TABLE performance_stats DROP FOREIGN KEY " + foreignKey);
+                }
+                stmt.execute("ALTER TABLE performance_stats MODIFY id BIGINT AUTO_INCREMENT");
+            } catch (SQLException e) {
+                logger.warning("MySQL migration: could not detach performance_stats from player_data: " + e.getMessage());
+            }
+        }
     }
     
     @Override
     public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for pending MySQL operations to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
         }
-        executor.shutdown();
         logger.info("MySQL database connection pool closed");
         initialized = false;
     }
     
+    private Connection acquireConnection() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            Connection connection = dataSource.getConnection();
+            long elapsed = System.nanoTime() - start;
+            connectionAcquisitions.incrementAndGet();
+            connectionAcquireNanos.addAndGet(elapsed);
+            maxConnectionAcquireNanos.accumulateAndGet(elapsed, Math::max);
+            return connection;
+        } catch (SQLException e) {
+            failedAcquisitions.incrementAndGet();
+            throw e;
+        }
+    }
+    
+    
+    public Map<String, Object> getPoolMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("executorThreads", executorThreads);
+        
+        if (dataSource != null && !dataSource.isClosed()) {
+            metrics.put("maxPoolSize", dataSource.getMaximumPoolSize());
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool != null) {
+                metrics.put("activeConnections", pool.getActiveConnections());
+                metrics.put("idleConnections", pool.getIdleConnections());
+                metrics.put("totalConnections", pool.getTotalConnections());
+                metrics.put("pendingThreads", pool.getThreadsAwaitingConnection());
+            }
+        }
+        
+        long acquisitions = connectionAcquisitions.get();
+        metrics.put("acquisitions", acquisitions);
+        metrics.put("failedAcquisitions", failedAcquisitions.get());
+        metrics.put("avgAcquireMillis", acquisitions > 0 ? (connectionAcquireNanos.get() / acquisitions) / 1_000_000.0 : 0.0);
+        metrics.put("maxAcquireMillis", maxConnectionAcquireNanos.get() / 1_000_000.0);
+        return metrics;
+    }
+    
     @Override
     public boolean isConnected() {
         return dataSource != null && !dataSource.isClosed() && initialized;
@@ -310,7 +457,7 @@ public class MySQLHandler implements DatabaseHandler {
         try {
             if (!isConnected()) return false;
             
-            try (Connection connection = dataSource.getConnection()) {
+            try (Connection connection = acquireConnection()) {
                 return connection.isValid(5);
             }
         } catch (SQLException e) {
@@ -361,7 +508,7 @@ public class MySQLHandler implements DatabaseHandler {
                     last_updated = VALUES(last_updated)
                 """;
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 stmt.setString(1, playerData.getPlayerId().toString());
@@ -404,7 +551,7 @@ public class MySQLHandler implements DatabaseHandler {
         return CompletableFuture.supplyAsync(() -> {
             String sql = "SELECT * FROM player_data WHERE player_id = ?";
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 stmt.setString(1, playerId.toString());
@@ -424,9 +571,9 @@ public class MySQLHandler implements DatabaseHandler {
     @Override
     public CompletableFuture<PlayerData> loadPlayerDataByName(String playerName) {
         return CompletableFuture.supplyAsync(() -> {
-            String sql = "SELECT * FROM player_data WHERE player_name = ?";
+            String sql = "SELECT * FROM player_data WHERE player_name = ? ORDER BY last_updated DESC LIMIT 1";
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 stmt.setString(1, playerName);
@@ -489,6 +636,7 @@ public class MySQLHandler implements DatabaseHandler {
             data.setTotalQualifyingKills(rs.getInt("total_qualifying_kills"));
         } catch (SQLException ignored) {  }
         
+        data.markStored();
         return data;
     }
     
@@ -498,7 +646,7 @@ public class MySQLHandler implements DatabaseHandler {
             List<PlayerData> playerDataList = new ArrayList<>();
             String sql = "SELECT * FROM player_data ORDER BY player_name";
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 ResultSet rs = stmt.executeQuery();
@@ -520,7 +668,7 @@ public class MySQLHandler implements DatabaseHandler {
         return CompletableFuture.runAsync(() -> {
             String sql = "DELETE FROM player_data WHERE player_id = ?";
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 stmt.setString(1, playerId.toString());
@@ -552,7 +700,7 @@ public class MySQLHandler implements DatabaseHandler {
                     end_time = VALUES(end_time)
                 """;
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 stmt.setString(1, chaseData.getChaseId().toString());
@@ -578,7 +726,7 @@ public class MySQLHandler implements DatabaseHandler {
         return CompletableFuture.supplyAsync(() -> {
             String sql = "SELECT * FROM chase_data WHERE chase_id = ?";
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 stmt.setString(1, chaseId.toString());
@@ -617,7 +765,7 @@ public class MySQLHandler implements DatabaseHandler {
             List<ChaseData> chaseDataList = new ArrayList<>();
             String sql = "SELECT * FROM chase_data WHERE is_active = TRUE ORDER BY start_time DESC";
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 ResultSet rs = stmt.executeQuery();
@@ -634,12 +782,34 @@ public class MySQLHandler implements DatabaseHandler {
         }, executor);
     }
     
+    @Override
+    public CompletableFuture<ChaseData> loadActiveChaseForPlayer(UUID playerId) {
+        return CompletableFuture.supplyAsync(() -> {
+            String sql = "SELECT * FROM chase_data WHERE (guard_id = ? OR target_id = ?) AND is_active = TRUE ORDER BY start_time DESC LIMIT 1";
+            
+            try (Connection connection = acquireConnection();
+                 PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setString(1, playerId.toString());
+                stmt.setString(2, playerId.toString());
+                ResultSet rs = stmt.executeQuery();
+                
+                if (rs.next()) {
+                    return mapResultSetToChaseData(rs);
+                }
+                return null;
+            } catch (SQLException e) {
+                logger.severe("Failed to load active chase for " + playerId + ": " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+        }, executor);
+    }
+    
     @Override
     public CompletableFuture<Void> deleteChaseData(UUID chaseId) {
         return CompletableFuture.runAsync(() -> {
             String sql = "DELETE FROM chase_data WHERE chase_id = ?";
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 stmt.setString(1, chaseId.toString());
@@ -658,7 +828,7 @@ public class MySQLHandler implements DatabaseHandler {
             long cutoffTime = System.currentTimeMillis() - (24 * 60 * 60 * 1000);
             String sql = "DELETE FROM chase_data WHERE is_active = FALSE AND end_time < ?";
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 stmt.setLong(1, cutoffTime);
@@ -687,7 +857,7 @@ public class MySQLHandler implements DatabaseHandler {
                     cached_at = VALUES(cached_at)
                 """;
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 stmt.setString(1, playerId.toString());
@@ -706,7 +876,7 @@ public class MySQLHandler implements DatabaseHandler {
         return CompletableFuture.supplyAsync(() -> {
             String sql = "SELECT inventory_data FROM player_inventory_cache WHERE player_id = ?";
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 stmt.setString(1, playerId.toString());
@@ -728,7 +898,7 @@ public class MySQLHandler implements DatabaseHandler {
         return CompletableFuture.runAsync(() -> {
             String sql = "DELETE FROM player_inventory_cache WHERE player_id = ?";
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 stmt.setString(1, playerId.toString());
@@ -746,7 +916,7 @@ public class MySQLHandler implements DatabaseHandler {
             List<UUID> playerIds = new ArrayList<>();
             String sql = "SELECT player_id FROM player_inventory_cache";
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 ResultSet rs = stmt.executeQuery();
@@ -767,7 +937,7 @@ public class MySQLHandler implements DatabaseHandler {
         return CompletableFuture.runAsync(() -> {
             String sql = "INSERT INTO on_duty_inventories (player_id, inventory_data, cached_at) VALUES (?, ?, ?) " +
                     "ON DUPLICATE KEY UPDATE inventory_data = VALUES(inventory_data), cached_at = VALUES(cached_at)";
-            try (Connection connection = dataSource.getConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
+            try (Connection connection = acquireConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
                 stmt.setString(1, playerId.toString());
                 stmt.setString(2, inventoryData);
                 stmt.setLong(3, System.currentTimeMillis());
@@ -783,7 +953,7 @@ public class MySQLHandler implements DatabaseHandler {
     public CompletableFuture<String> loadOnDutyInventory(UUID playerId) {
         return CompletableFuture.supplyAsync(() -> {
             String sql = "SELECT inventory_data FROM on_duty_inventories WHERE player_id = ?";
-            try (Connection connection = dataSource.getConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
+            try (Connection connection = acquireConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
                 stmt.setString(1, playerId.toString());
                 ResultSet rs = stmt.executeQuery();
                 if (rs.next()) {
@@ -800,7 +970,7 @@ public class MySQLHandler implements DatabaseHandler {
     public CompletableFuture<Void> deleteOnDutyInventory(UUID playerId) {
         return CompletableFuture.runAsync(() -> {
             String sql = "DELETE FROM on_duty_inventories WHERE player_id = ?";
-            try (Connection connection = dataSource.getConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
+            try (Connection connection = acquireConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
                 stmt.setString(1, playerId.toString());
                 stmt.executeUpdate();
             } catch (SQLException e) {
@@ -822,7 +992,7 @@ public class MySQLHandler implements DatabaseHandler {
                 long cutoffTime = System.currentTimeMillis() - (7 * 24 * 60 * 60 * 1000);
                 String sql = "DELETE FROM player_inventory_cache WHERE cached_at < ?";
                 
-                try (Connection connection = dataSource.getConnection();
+                try (Connection connection = acquireConnection();
                      PreparedStatement stmt = connection.prepareStatement(sql)) {
                     
                     stmt.setLong(1, cutoffTime);
@@ -834,21 +1004,6 @@ public class MySQLHandler implements DatabaseHandler {
                 }
                 
                 
-                cutoffTime = System.currentTimeMillis() - (30 * 24 * 60 * 60 * 1000);
-                sql = "DELETE FROM performance_stats WHERE recorded_at < ?";
-                
-                try (Connection connection = dataSource.getConnection();
-                     PreparedStatement stmt = connection.prepareStatement(sql)) {
-                    
-                    stmt.setLong(1, cutoffTime);
-                    int deleted = stmt.executeUpdate();
-                    
-                    if (deleted > 0) {
-                        logger.info("Cleaned up " + deleted + " old performance statistics");
-                    }
-                }
-                
-                
                 setSchemaVersion(SCHEMA_VERSION);
                 
                 logger.info("Database maintenance completed successfully");
@@ -870,7 +1025,7 @@ public class MySQLHandler implements DatabaseHandler {
                 long databaseSize = 0;
                 
                 
-                try (Connection connection = dataSource.getConnection();
+                try (Connection connection = acquireConnection();
                      Statement stmt = connection.createStatement()) {
                     ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM player_data");
                     if (rs.next()) {
@@ -879,7 +1034,7 @@ public class MySQLHandler implements DatabaseHandler {
                 }
                 
                 
-                try (Connection connection = dataSource.getConnection();
+                try (Connection connection = acquireConnection();
                      Statement stmt = connection.createStatement()) {
                     ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM chase_data WHERE is_active = TRUE");
                     if (rs.next()) {
@@ -888,7 +1043,7 @@ public class MySQLHandler implements DatabaseHandler {
                 }
                 
                 
-                try (Connection connection = dataSource.getConnection();
+                try (Connection connection = acquireConnection();
                      Statement stmt = connection.createStatement()) {
                     ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM player_inventory_cache");
                     if (rs.next()) {
@@ -897,7 +1052,7 @@ public class MySQLHandler implements DatabaseHandler {
                 }
                 
                 
-                try (Connection connection = dataSource.getConnection();
+                try (Connection connection = acquireConnection();
                      Statement stmt = connection.createStatement()) {
                     ResultSet rs = stmt.executeQuery("SELECT SUM(data_length + index_length) FROM information_schema.tables WHERE table_schema = '" + database + "'");
                     if (rs.next()) {
@@ -933,6 +1088,355 @@ public class MySQLHandler implements DatabaseHandler {
     
     
     
+    @Override
+    public CompletableFuture<Void> saveContrabandEntries(List<ContrabandVaultEntry> entries) {
+        return CompletableFuture.runAsync(() -> {
+            if (entries.isEmpty()) {
+                return;
+            }
+            String sql = """
+                INSERT INTO contraband_vault (entry_id, owner_id, material, amount, item_data, confiscated_at, expires_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE
+                    expires_at = VALUES(expires_at)
+                """;
+            
+            try (Connection connection = acquireConnection()) {
+                connection.setAutoCommit(false);
+                try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                    for (ContrabandVaultEntry entry : entries) {
+                        stmt.setString(1, entry.getEntryId().toString());
+                        stmt.setString(2, entry.getOwnerId().toString());
+                        stmt.setString(3, entry.getMaterial());
+                        stmt.setInt(4, entry.getAmount());
+                        stmt.setString(5, entry.getItemData());
+                        stmt.setLong(6, entry.getConfiscatedAt());
+                        stmt.setLong(7, entry.getExpiresAt());
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                    connection.commit();
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to save " + entries.size() + " contraband entries: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+        }, executor);
+    }
+    
+    @Override
+    public CompletableFuture<List<ContrabandVaultEntry>> loadContrabandEntries(UUID ownerId, long now) {
+        return CompletableFuture.supplyAsync(() -> {
+            String sql = "SELECT * FROM contraband_vault WHERE owner_id = ? AND expires_at > ? ORDER BY expires_at";
+            List<ContrabandVaultEntry> entries = new ArrayList<>();
+            
+            try (Connection connection = acquireConnection();
+                 PreparedStatement stmt = connection.prepareStatement(sql)) {
+                
+                stmt.setString(1, ownerId.toString());
+                stmt.setLong(2, now);
+                ResultSet rs = stmt.executeQuery();
+                
+                while (rs.next()) {
+                    entries.add(mapResultSetToContrabandEntry(rs));
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to load contraband entries for " + ownerId + ": " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return entries;
+        }, executor);
+    }
+    
+    @Override
+    public CompletableFuture<ContrabandVaultEntry> claimRandomContrabandEntry(long now) {
+        return CompletableFuture.supplyAsync(() -> {
+            String selectSql = "SELECT * FROM contraband_vault WHERE entry_id >= ? AND expires_at > ? ORDER BY entry_id LIMIT 1 FOR UPDATE";
+            String deleteSql = "DELETE FROM contraband_vault WHERE entry_id = ?";
+            String pivot = UUID.randomUUID().toString();
+            
+            try (Connection connection = acquireConnection()) {
+                connection.setAutoCommit(false);
+                try (PreparedStatement select = connection.prepareStatement(selectSql);
+                     PreparedStatement delete = connection.prepareStatement(deleteSql)) {
+                    ContrabandVaultEntry entry = null;
+                    for (String start : new String[] {pivot, ""}) {
+                        select.setString(1, start);
+                        select.setLong(2, now);
+                        try (ResultSet rs = select.executeQuery()) {
+                            if (rs.next()) {
+                                entry = mapResultSetToContrabandEntry(rs);
+                                break;
+                            }
+                        }
+                    }
+                    if (entry == null) {
+                        connection.commit();
+                        return null;
+                    }
+                    
+                    delete.setString(1, entry.getEntryId().toString());
+                    int deleted = delete.executeUpdate();
+                    connection.commit();
+                    return deleted > 0 ? entry : null;
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to claim random contraband entry: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+        }, executor);
+    }
+    
+    @Override
+    public CompletableFuture<Integer> deleteContrabandEntries(List<UUID> entryIds) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (entryIds.isEmpty()) {
+                return 0;
+            }
+            String sql = "DELETE FROM contraband_vault WHERE entry_id = ?";
+            int deleted = 0;
+            
+            try (Connection connection = acquireConnection();
+                 PreparedStatement stmt = connection.prepareStatement(sql)) {
+                
+                for (UUID entryId : entryIds) {
+                    stmt.setString(1, entryId.toString());
+                    stmt.addBatch();
+                }
+                for (int count : stmt.executeBatch()) {
+                    if (count > 0) deleted += count;
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to delete contraband entries: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return deleted;
+        }, executor);
+    }
+    
+    @Override
+    public CompletableFuture<Integer> purgeExpiredContraband(long now) {
+        return CompletableFuture.supplyAsync(() -> {
+            String sql = "DELETE FROM contraband_vault WHERE expires_at <= ?";
+            
+            try (Connection connection = acquireConnection();
+                 PreparedStatement stmt = connection.prepareStatement(sql)) {
+                
+                stmt.setLong(1, now);
+                return stmt.executeUpdate();
+            } catch (SQLException e) {
+                logger.severe("Failed to purge expired contraband: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+        }, executor);
+    }
+    
+    @Override
+    public CompletableFuture<Integer> countStoredContraband(long now) {
+        return CompletableFuture.supplyAsync(() -> {
+            String sql = "SELECT COUNT(*) FROM contraband_vault WHERE expires_at > ?";
+            
+            try (Connection connection = acquireConnection();
+                 PreparedStatement stmt = connection.prepareStatement(sql)) {
+                
+                stmt.setLong(1, now);
+                ResultSet rs = stmt.executeQuery();
+                return rs.next() ? rs.getInt(1) : 0;
+            } catch (SQLException e) {
+                logger.severe("Failed to count stored contraband: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+        }, executor);
+    }
+    
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> loadLeaderboard(LeaderboardStat stat, int limit) {
+        return CompletableFuture.supplyAsync(() -> {
+            String column = stat.getColumn();
+            String sql = "SELECT player_id, player_name, " + column + " FROM player_data WHERE " + column +
+                " > 0 ORDER BY " + column + " DESC LIMIT ?";
+            List<LeaderboardEntry> entries = new ArrayList<>();
+            
+            try (Connection connection = acquireConnection();
+                 PreparedStatement stmt = connection.prepareStatement(sql)) {
+                
+                stmt.setInt(1, limit);
+                ResultSet rs = stmt.executeQuery();
+                while (rs.next()) {
+                    entries.add(new LeaderboardEntry(UUID.fromString(rs.getString("player_id")),
+                        rs.getString("player_name"), rs.getLong(column)));
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to load " + stat.getKey() + " leaderboard: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return entries;
+        }, executor);
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Long>> loadStatTotals() {
+        return CompletableFuture.supplyAsync(() -> {
+            String sql = "SELECT SUM(total_arrests), SUM(total_violations), SUM(total_duty_time), " +
+                "SUM(total_qualifying_kills) FROM player_data";
+            Map<String, Long> totals = new HashMap<>();
+            
+            try (Connection connection = acquireConnection();
+                 PreparedStatement stmt = connection.prepareStatement(sql)) {
+                
+                ResultSet rs = stmt.executeQuery();
+                if (rs.next()) {
+                    totals.put("total_arrests", rs.getLong(1));
+                    totals.put("total_violations", rs.getLong(2));
+                    totals.put("total_duty_time", rs.getLong(3));
+                    totals.put("total_qualifying_kills", rs.getLong(4));
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to load stat totals: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return totals;
+        }, executor);
+    }
+    
+    
+    
+    @Override
+    public CompletableFuture<Void> appendStatEvents(List<StatEvent> events) {
+        return CompletableFuture.runAsync(() -> {
+            if (events.isEmpty()) {
+                return;
+            }
+            
+            try (Connection connection = acquireConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    for (int start = 0; start < events.size(); start += STAT_INSERT_ROWS) {
+                        List<StatEvent> chunk = events.subList(start, Math.min(events.size(), start + STAT_INSERT_ROWS));
+                        String sql = "INSERT INTO performance_stats (player_id, stat_type, stat_value, recorded_at) VALUES " +
+                            rowPlaceholders(chunk.size(), 4);
+                        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                            int index = 1;
+                            for (StatEvent event : chunk) {
+                                stmt.setString(index++, event.getPlayerId().toString());
+                                stmt.setString(index++, event.getStatType());
+                                stmt.setLong(index++, event.getValue());
+                                stmt.setLong(index++, event.getRecordedAt());
+                            }
+                            stmt.executeUpdate();
+                        }
+                    }
+                    
+                    upsertRollups(connection, "performance_rollup_hourly", StatRollup.aggregate(events, StatRollup.HOUR_MILLIS));
+                    upsertRollups(connection, "performance_rollup_daily", StatRollup.aggregate(events, StatRollup.DAY_MILLIS));
+                    connection.commit();
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to append " + events.size() + " stat events: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+        }, executor);
+    }
+    
+    private void upsertRollups(Connection connection, String table, List<StatRollup> rollups) throws SQLException {
+        String sql = "INSERT INTO " + table + " (player_id, bucket_start, stat_type, event_count, stat_total) " +
+            "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+            "event_count = event_count + VALUES(event_count), stat_total = stat_total + VALUES(stat_total)";
+        
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            for (StatRollup rollup : rollups) {
+                stmt.setString(1, rollup.getPlayerId().toString());
+                stmt.setLong(2, rollup.getBucketStart());
+                stmt.setString(3, rollup.getStatType());
+                stmt.setInt(4, rollup.getEventCount());
+                stmt.setLong(5, rollup.getStatTotal());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+    
+    private String rowPlaceholders(int rows, int columns) {
+        String row = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        return String.join(", ", Collections.nCopies(rows, row));
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Long>> sumStatEvents(UUID playerId, long since, boolean daily) {
+        return CompletableFuture.supplyAsync(() -> {
+            String table = daily ? "performance_rollup_daily" : "performance_rollup_hourly";
+            String sql = "SELECT stat_type, SUM(stat_total) FROM " + table + " WHERE " +
+                (playerId != null ? "player_id = ? AND " : "") + "bucket_start >= ? GROUP BY stat_type";
+            Map<String, Long> totals = new HashMap<>();
+            
+            try (Connection connection = acquireConnection();
+                 PreparedStatement stmt = connection.prepareStatement(sql)) {
+                
+                int index = 1;
+                if (playerId != null) {
+                    stmt.setString(index++, playerId.toString());
+                }
+                stmt.setLong(index, since);
+                ResultSet rs = stmt.executeQuery();
+                while (rs.next()) {
+                    totals.put(rs.getString(1), rs.getLong(2));
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to sum stat events: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return totals;
+        }, executor);
+    }
+    
+    @Override
+    public CompletableFuture<Integer> pruneStatEvents(long rawCutoff, long hourlyCutoff, long dailyCutoff) {
+        return CompletableFuture.supplyAsync(() -> {
+            int deleted = 0;
+            try (Connection connection = acquireConnection()) {
+                deleted += deleteOlderThan(connection, "DELETE FROM performance_stats WHERE recorded_at < ?", rawCutoff);
+                deleted += deleteOlderThan(connection, "DELETE FROM performance_rollup_hourly WHERE bucket_start < ?", hourlyCutoff);
+                deleted += deleteOlderThan(connection, "DELETE FROM performance_rollup_daily WHERE bucket_start < ?", dailyCutoff);
+            } catch (SQLException e) {
+                logger.severe("Failed to prune stat events: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return deleted;
+        }, executor);
+    }
+    
+    private int deleteOlderThan(Connection connection, String sql, long cutoff) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setLong(1, cutoff);
+            return stmt.executeUpdate();
+        }
+    }
+    
+    private ContrabandVaultEntry mapResultSetToContrabandEntry(ResultSet rs) throws SQLException {
+        return new ContrabandVaultEntry(
+            UUID.fromString(rs.getString("entry_id")),
+            UUID.fromString(rs.getString("owner_id")),
+            rs.getString("material"),
+            rs.getInt("amount"),
+            rs.getString("item_data"),
+            rs.getLong("confiscated_at"),
+            rs.getLong("expires_at")
+        );
+    }
+    
+    
+    
+    
+    
     @Override
     public CompletableFuture<Void> batchSavePlayerData(List<PlayerData> playerDataList) {
         return CompletableFuture.runAsync(() -> {
@@ -969,10 +1473,11 @@ public class MySQLHandler implements DatabaseHandler {
                     total_arrests = VALUES(total_arrests),
                     total_violations = VALUES(total_violations),
                     total_duty_time = VALUES(total_duty_time),
+                    total_qualifying_kills = VALUES(total_qualifying_kills),
                     last_updated = VALUES(last_updated)
                 """;
             
-            try (Connection connection = dataSource.getConnection()) {
+            try (Connection connection = acquireConnection()) {
                 connection.setAutoCommit(false);
                 
                 try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -1012,7 +1517,7 @@ public class MySQLHandler implements DatabaseHandler {
                 }
                 
             } catch (SQLException e) {
-                try (Connection connection = dataSource.getConnection()) {
+                try (Connection connection = acquireConnection()) {
                     connection.rollback();
                 } catch (SQLException rollbackEx) {
                     logger.severe("Failed to rollback batch save: " + rollbackEx.getMessage());
@@ -1041,7 +1546,7 @@ public class MySQLHandler implements DatabaseHandler {
             
             String sql = "SELECT * FROM player_data WHERE player_id IN (" + placeholders + ")";
             
-            try (Connection connection = dataSource.getConnection();
+            try (Connection connection = acquireConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
                 for (int i = 0; i < playerIds.size(); i++) {
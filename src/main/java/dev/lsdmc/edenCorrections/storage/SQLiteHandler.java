@@ -3,13 +3,25 @@ package dev.lsdmc.edenCorrections.storage;
 import dev.lsdmc.edenCorrections.EdenCorrections;
 import dev.lsdmc.edenCorrections.models.PlayerData;
 import dev.lsdmc.edenCorrections.models.ChaseData;
+import dev.lsdmc.edenCorrections.models.ContrabandVaultEntry;
+import dev.lsdmc.edenCorrections.models.LeaderboardEntry;
+import dev.lsdmc.edenCorrections.models.LeaderboardStat;
+import dev.lsdmc.edenCorrections.models.StatEvent;
+import dev.lsdmc.edenCorrections.models.StatRollup;
 
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 import java.io.File;
 import java.io.IOException;
@@ -22,27 +34,75 @@ public class SQLiteHandler implements DatabaseHandler {
     private final EdenCorrections plugin;
     private final Logger logger;
     private final String databasePath;
-    private final ExecutorService executor;
+    private final ExecutorService writeExecutor;
+    private final ExecutorService readExecutor;
+    private final int readConnectionCount;
+    private final int maxWriteBatch;
     
     private Connection connection;
+    private final BlockingQueue<Connection> readConnections = new LinkedBlockingQueue<>();
     private boolean initialized = false;
     
     
+    private final Queue<PendingWrite<?>> writeQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private final AtomicLong committedTransactions = new AtomicLong(0);
+    private final AtomicLong committedWrites = new AtomicLong(0);
+    private final AtomicLong failedWrites = new AtomicLong(0);
+    
+    
     private final Map<String, PreparedStatement> statementCache = new ConcurrentHashMap<>();
     
     
     private static final int SCHEMA_VERSION = 2;
+    private static final int STAT_INSERT_ROWS = 200;
     
     public SQLiteHandler(EdenCorrections plugin, String databasePath) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         this.databasePath = databasePath;
+        this.readConnectionCount = plugin.getConfigManager().getSQLiteReadConnections();
+        this.maxWriteBatch = plugin.getConfigManager().getSQLiteMaxWriteBatch();
         
-        this.executor = Executors.newFixedThreadPool(2, r -> {
-            Thread t = new Thread(r, "Corrections-DB-Worker");
+        this.writeExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "Corrections-DB-Writer");
             t.setDaemon(true);
             return t;
         });
+        this.readExecutor = Executors.newFixedThreadPool(readConnectionCount, r -> {
+            Thread t = new Thread(r, "Corrections-DB-Reader");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+    
+    
+    @FunctionalInterface
+    private interface SqlWork<T> {
+        T apply(Connection connection) throws SQLException;
+    }
+    
+    private static final class PendingWrite<T> {
+        private final SqlWork<T> work;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private T result;
+        private Throwable error;
+        
+        PendingWrite(SqlWork<T> work) {
+            this.work = work;
+        }
+        
+        void run(Connection connection) throws SQLException {
+            result = work.apply(connection);
+        }
+        
+        void complete() {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(result);
+            }
+        }
     }
     
     @Override
@@ -72,6 +132,7 @@ public class SQLiteHandler implements DatabaseHandler {
                 stmt.execute("PRAGMA synchronous = NORMAL");
                 stmt.execute("PRAGMA cache_size = 10000");
                 stmt.execute("PRAGMA temp_store = MEMORY");
+                stmt.execute("PRAGMA busy_timeout = 5000");
             }
             
             
@@ -80,6 +141,9 @@ public class SQLiteHandler implements DatabaseHandler {
             
             checkAndMigrate();
             
+            
+            openReadConnections(url);
+            
             initialized = true;
             logger.info("SQLite database initialized successfully at: " + dbFile.getPath());
             
@@ -91,6 +155,145 @@ public class SQLiteHandler implements DatabaseHandler {
         }
     }
     
+    private void openReadConnections(String url) throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("open_mode", "1");
+        for (int i = 0; i < readConnectionCount; i++) {
+            Connection reader = DriverManager.getConnection(url, properties);
+            try (Statement stmt = reader.createStatement()) {
+                stmt.execute("PRAGMA busy_timeout = 5000");
+                stmt.execute("PRAGMA cache_size = 10000");
+                stmt.execute("PRAGMA temp_store = MEMORY");
+            }
+            readConnections.add(reader);
+        }
+    }
+    
+    
+    private <T> CompletableFuture<T> read(SqlWork<T> work) {
+        return CompletableFuture.supplyAsync(() -> {
+            Connection reader;
+            try {
+                reader = readConnections.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            try {
+                return work.apply(reader);
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            } finally {
+                readConnections.add(reader);
+            }
+        }, readExecutor);
+    }
+    
+    
+    private <T> CompletableFuture<T> write(SqlWork<T> work) {
+        PendingWrite<T> pending = new PendingWrite<>(work);
+        writeQueue.add(pending);
+        scheduleDrain();
+        return pending.future;
+    }
+    
+    
+    private <T> CompletableFuture<T> writeExclusive(SqlWork<T> work) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return work.apply(connection);
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        }, writeExecutor);
+    }
+    
+    private void scheduleDrain() {
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            writeExecutor.execute(this::drainWrites);
+        } catch (RejectedExecutionException e) {
+            drainScheduled.set(false);
+            PendingWrite<?> pending;
+            while ((pending = writeQueue.poll()) != null) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+    }
+    
+    private void drainWrites() {
+        try {
+            List<PendingWrite<?>> batch = new ArrayList<>();
+            while (true) {
+                batch.clear();
+                PendingWrite<?> pending;
+                while (batch.size() < maxWriteBatch && (pending = writeQueue.poll()) != null) {
+                    batch.add(pending);
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+                commitBatch(batch);
+            }
+        } finally {
+            drainScheduled.set(false);
+            if (!writeQueue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+    
+    
+    private void commitBatch(List<PendingWrite<?>> batch) {
+        try {
+            connection.setAutoCommit(false);
+            for (PendingWrite<?> pending : batch) {
+                Savepoint savepoint = connection.setSavepoint();
+                try {
+                    pending.run(connection);
+                    connection.releaseSavepoint(savepoint);
+                } catch (SQLException | RuntimeException e) {
+                    connection.rollback(savepoint);
+                    pending.error = e;
+                    failedWrites.incrementAndGet();
+                }
+            }
+            connection.commit();
+            committedTransactions.incrementAndGet();
+            committedWrites.addAndGet(batch.size());
+        } catch (SQLException e) {
+            logger.severe("Failed to commit write transaction of " + batch.size() + " statements: " + e.getMessage());
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackEx) {
+                logger.severe("Failed to rollback write transaction: " + rollbackEx.getMessage());
+            }
+            for (PendingWrite<?> pending : batch) {
+                if (pending.error == null) {
+                    pending.error = e;
+                    failedWrites.incrementAndGet();
+                }
+            }
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                logger.warning("Failed to reset auto-commit: " + e.getMessage());
+            }
+        }
+        
+        for (PendingWrite<?> pending : batch) {
+            pending.complete();
+        }
+    }
+    
+    public long getCommittedTransactions() { return committedTransactions.get(); }
+    public long getCommittedWrites() { return committedWrites.get(); }
+    public long getFailedWrites() { return failedWrites.get(); }
+    public int getPendingWrites() { return writeQueue.size(); }
+    
     private void createTables() throws SQLException {
         String[] tableCreationSql = {
             
@@ -166,6 +369,19 @@ public class SQLiteHandler implements DatabaseHandler {
             """,
             
             
+            """
+            CREATE TABLE IF NOT EXISTS contraband_vault (
+                entry_id TEXT PRIMARY KEY,
+                owner_id TEXT NOT NULL,
+                material TEXT NOT NULL,
+                amount INTEGER NOT NULL DEFAULT 1,
+                item_data TEXT,
+                confiscated_at INTEGER NOT NULL DEFAULT 0,
+                expires_at INTEGER NOT NULL DEFAULT 0
+            )
+            """,
+            
+            
             """
             CREATE TABLE IF NOT EXISTS database_metadata (
                 key TEXT PRIMARY KEY,
@@ -181,8 +397,31 @@ public class SQLiteHandler implements DatabaseHandler {
                 player_id TEXT NOT NULL,
                 stat_type TEXT NOT NULL,
                 stat_value INTEGER NOT NULL,
-                recorded_at INTEGER NOT NULL DEFAULT 0,
-                FOREIGN KEY (player_id) REFERENCES player_data(player_id) ON DELETE CASCADE
+                recorded_at INTEGER NOT NULL DEFAULT 0
+            )
+            """,
+            
+            
+            """
+            CREATE TABLE IF NOT EXISTS performance_rollup_hourly (
+                player_id TEXT NOT NULL,
+                bucket_start INTEGER NOT NULL,
+                stat_type TEXT NOT NULL,
+                event_count INTEGER NOT NULL DEFAULT 0,
+                stat_total INTEGER NOT NULL DEFAULT 0,
+                PRIMARY KEY (player_id, bucket_start, stat_type)
+            )
+            """,
+            
+            
+            """
+            CREATE TABLE IF NOT EXISTS performance_rollup_daily (
+                player_id TEXT NOT NULL,
+                bucket_start INTEGER NOT NULL,
+                stat_type TEXT NOT NULL,
+                event_count INTEGER NOT NULL DEFAULT 0,
+                stat_total INTEGER NOT NULL DEFAULT 0,
+                PRIMARY KEY (player_id, bucket_start, stat_type)
             )
             """
         };
@@ -200,15 +439,22 @@ public class SQLiteHandler implements DatabaseHandler {
     private void createIndexes() throws SQLException {
         String[] indexes = {
             "CREATE INDEX IF NOT EXISTS idx_player_name ON player_data(player_name)",
+            "CREATE INDEX IF NOT EXISTS idx_player_name_nocase ON player_data(player_name COLLATE NOCASE, last_updated)",
             "CREATE INDEX IF NOT EXISTS idx_player_duty ON player_data(is_on_duty)",
             "CREATE INDEX IF NOT EXISTS idx_player_wanted ON player_data(wanted_level)",
+            "CREATE INDEX IF NOT EXISTS idx_player_arrests ON player_data(total_arrests)",
+            "CREATE INDEX IF NOT EXISTS idx_player_duty_total ON player_data(total_duty_time)",
             "CREATE INDEX IF NOT EXISTS idx_chase_guard ON chase_data(guard_id)",
             "CREATE INDEX IF NOT EXISTS idx_chase_target ON chase_data(target_id)",
             "CREATE INDEX IF NOT EXISTS idx_chase_active ON chase_data(is_active)",
             "CREATE INDEX IF NOT EXISTS idx_chase_cleanup ON chase_data(is_active, end_time)",
+            "CREATE INDEX IF NOT EXISTS idx_contraband_owner ON contraband_vault(owner_id, expires_at)",
+            "CREATE INDEX IF NOT EXISTS idx_contraband_expiry ON contraband_vault(expires_at)",
             "CREATE INDEX IF NOT EXISTS idx_performance_player ON performance_stats(player_id)",
             "CREATE INDEX IF NOT EXISTS idx_performance_type ON performance_stats(stat_type)",
-            "CREATE INDEX IF NOT EXISTS idx_performance_time ON performance_stats(recorded_at)"
+            "CREATE INDEX IF NOT EXISTS idx_performance_time ON performance_stats(recorded_at)",
+            "CREATE INDEX IF NOT EXISTS idx_rollup_hourly_time ON performance_rollup_hourly(bucket_start)",
+            "CREATE INDEX IF NOT EXISTS idx_rollup_daily_time ON performance_rollup_daily(bucket_start)"
         };
         
         try (Statement stmt = connection.createStatement()) {
@@ -231,6 +477,46 @@ public class SQLiteHandler implements DatabaseHandler {
 
         
         ensureColumnExists("player_data", "total_qualifying_kills", "INTEGER NOT NULL DEFAULT 0");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_player_kills ON player_data(total_qualifying_kills)");
+        }
+        
+        
+        dropPerformanceStatsForeignKey();
+    }
+    
+    
+    private void dropPerformanceStatsForeignKey() throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA foreign_key_list(performance_stats)")) {
+            if (!rs.next()) {
+                return;
+            }
+        }
+        
+        connection.setAutoCommit(false);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("ALTER TABLE performance_stats RENAME TO performance_stats_old");
+            stmt.execute("CREATE TABLE performance_stats (" +
+                "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                "player_id TEXT NOT NULL, " +
+                "stat_type TEXT NOT NULL, " +
+                "stat_value INTEGER NOT NULL, " +
+                "recorded_at INTEGER NOT NULL DEFAULT 0)");
+            stmt.execute("INSERT INTO performance_stats (id, player_id, stat_type, stat_value, recorded_at) " +
+                "SELECT id, player_id, stat_type, stat_value, recorded_at FROM performance_stats_old");
+            stmt.execute("DROP TABLE performance_stats_old");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_performance_player ON performance_stats(player_id)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_performance_type ON performance_stats(stat_type)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_performance_time ON performance_stats(recorded_at)");
+            connection.commit();
+            logger.info("SQLite migration: detached performance_stats from player_data for the stats journal");
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
     }
     
     private int getSchemaVersion() throws SQLException {
@@ -327,6 +613,16 @@ public class SQLiteHandler implements DatabaseHandler {
     
     @Override
     public void close() {
+        readExecutor.shutdown();
+        writeExecutor.shutdown();
+        try {
+            if (!writeExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for pending SQLite writes to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
         try {
             
             for (PreparedStatement stmt : statementCache.values()) {
@@ -336,10 +632,14 @@ public class SQLiteHandler implements DatabaseHandler {
             }
             statementCache.clear();
             
+            Connection reader;
+            while ((reader = readConnections.poll()) != null) {
+                reader.close();
+            }
+            
             if (connection != null && !connection.isClosed()) {
                 connection.close();
             }
-            executor.shutdown();
             logger.info("SQLite database connection closed");
         } catch (SQLException e) {
             logger.warning("Error closing SQLite database: " + e.getMessage());
@@ -375,7 +675,7 @@ public class SQLiteHandler implements DatabaseHandler {
     
     @Override
     public CompletableFuture<Void> savePlayerData(PlayerData playerData) {
-        return CompletableFuture.runAsync(() -> {
+        return write(connection -> {
             String sql = """
                 INSERT OR REPLACE INTO player_data (
                     player_id, player_name, is_on_duty, duty_start_time, off_duty_time, 
@@ -391,75 +691,71 @@ public class SQLiteHandler implements DatabaseHandler {
             
             try {
                 PreparedStatement stmt = getPreparedStatement(sql);
-                synchronized (stmt) {
-                    stmt.setString(1, playerData.getPlayerId().toString());
-                    stmt.setString(2, playerData.getPlayerName());
-                    stmt.setInt(3, playerData.isOnDuty() ? 1 : 0);
-                    stmt.setLong(4, playerData.getDutyStartTime());
-                    stmt.setLong(5, playerData.getOffDutyTime());
-                    stmt.setLong(6, playerData.getGraceDebtTime());
-                    stmt.setString(7, playerData.getGuardRank());
-                    stmt.setLong(8, playerData.getEarnedOffDutyTime());
-                    stmt.setInt(9, playerData.hasEarnedBaseTime() ? 1 : 0);
-                    stmt.setInt(10, playerData.hasBeenNotifiedOfExpiredTime() ? 1 : 0);
-                    stmt.setInt(11, playerData.getSessionSearches());
-                    stmt.setInt(12, playerData.getSessionSuccessfulSearches());
-                    stmt.setInt(13, playerData.getSessionArrests());
-                    stmt.setInt(14, playerData.getSessionKills());
-                    stmt.setInt(15, playerData.getSessionDetections());
-                    stmt.setLong(16, playerData.getPenaltyStartTime());
-                    stmt.setInt(17, playerData.getCurrentPenaltyStage());
-                    stmt.setLong(18, playerData.getLastPenaltyTime());
-                    stmt.setLong(19, playerData.getLastSlownessApplication());
-                    stmt.setInt(20, playerData.hasActivePenaltyBossBar() ? 1 : 0);
-                    stmt.setInt(21, playerData.getWantedLevel());
-                    stmt.setLong(22, playerData.getWantedExpireTime());
-                    stmt.setString(23, playerData.getWantedReason());
-                    stmt.setInt(24, playerData.isBeingChased() ? 1 : 0);
-                    stmt.setString(25, playerData.getChaserGuard() != null ? playerData.getChaserGuard().toString() : null);
-                    stmt.setLong(26, playerData.getChaseStartTime());
-                    stmt.setInt(27, playerData.getTotalArrests());
-                    stmt.setInt(28, playerData.getTotalViolations());
-                    stmt.setLong(29, playerData.getTotalDutyTime());
-                    stmt.setInt(30, playerData.getTotalQualifyingKills());
-                    stmt.setLong(31, System.currentTimeMillis());
-                    
-                    stmt.executeUpdate();
-                }
+                stmt.setString(1, playerData.getPlayerId().toString());
+                stmt.setString(2, playerData.getPlayerName());
+                stmt.setInt(3, playerData.isOnDuty() ? 1 : 0);
+                stmt.setLong(4, playerData.getDutyStartTime());
+                stmt.setLong(5, playerData.getOffDutyTime());
+                stmt.setLong(6, playerData.getGraceDebtTime());
+                stmt.setString(7, playerData.getGuardRank());
+                stmt.setLong(8, playerData.getEarnedOffDutyTime());
+                stmt.setInt(9, playerData.hasEarnedBaseTime() ? 1 : 0);
+                stmt.setInt(10, playerData.hasBeenNotifiedOfExpiredTime() ? 1 : 0);
+                stmt.setInt(11, playerData.getSessionSearches());
+                stmt.setInt(12, playerData.getSessionSuccessfulSearches());
+                stmt.setInt(13, playerData.getSessionArrests());
+                stmt.setInt(14, playerData.getSessionKills());
+                stmt.setInt(15, playerData.getSessionDetections());
+                stmt.setLong(16, playerData.getPenaltyStartTime());
+                stmt.setInt(17, playerData.getCurrentPenaltyStage());
+                stmt.setLong(18, playerData.getLastPenaltyTime());
+                stmt.setLong(19, playerData.getLastSlownessApplication());
+                stmt.setInt(20, playerData.hasActivePenaltyBossBar() ? 1 : 0);
+                stmt.setInt(21, playerData.getWantedLevel());
+                stmt.setLong(22, playerData.getWantedExpireTime());
+                stmt.setString(23, playerData.getWantedReason());
+                stmt.setInt(24, playerData.isBeingChased() ? 1 : 0);
+                stmt.setString(25, playerData.getChaserGuard() != null ? playerData.getChaserGuard().toString() : null);
+                stmt.setLong(26, playerData.getChaseStartTime());
+                stmt.setInt(27, playerData.getTotalArrests());
+                stmt.setInt(28, playerData.getTotalViolations());
+                stmt.setLong(29, playerData.getTotalDutyTime());
+                stmt.setInt(30, playerData.getTotalQualifyingKills());
+                stmt.setLong(31, System.currentTimeMillis());
+                
+                stmt.executeUpdate();
             } catch (SQLException e) {
                 logger.severe("Failed to save player data for " + playerData.getPlayerName() + ": " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+            return null;
+        });
     }
     
     @Override
     public CompletableFuture<PlayerData> loadPlayerData(UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return read(connection -> {
             String sql = "SELECT * FROM player_data WHERE player_id = ?";
             
-            try {
-                PreparedStatement stmt = getPreparedStatement(sql);
-                synchronized (stmt) {
-                    stmt.setString(1, playerId.toString());
-                    ResultSet rs = stmt.executeQuery();
-                    
-                    if (rs.next()) {
-                        return mapResultSetToPlayerData(rs);
-                    }
-                    return null;
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setString(1, playerId.toString());
+                ResultSet rs = stmt.executeQuery();
+                
+                if (rs.next()) {
+                    return mapResultSetToPlayerData(rs);
                 }
+                return null;
             } catch (SQLException e) {
                 logger.severe("Failed to load player data for " + playerId + ": " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+        });
     }
     
     @Override
     public CompletableFuture<PlayerData> loadPlayerDataByName(String playerName) {
-        return CompletableFuture.supplyAsync(() -> {
-            String sql = "SELECT * FROM player_data WHERE player_name = ? COLLATE NOCASE";
+        return read(connection -> {
+            String sql = "SELECT * FROM player_data WHERE player_name = ? COLLATE NOCASE ORDER BY last_updated DESC LIMIT 1";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
                 stmt.setString(1, playerName);
@@ -473,7 +769,7 @@ public class SQLiteHandler implements DatabaseHandler {
                 logger.severe("Failed to load player data for " + playerName + ": " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+        });
     }
     
     private PlayerData mapResultSetToPlayerData(ResultSet rs) throws SQLException {
@@ -529,12 +825,13 @@ public class SQLiteHandler implements DatabaseHandler {
             data.setTotalQualifyingKills(rs.getInt("total_qualifying_kills"));
         } catch (SQLException ignored) {  }
         
+        data.markStored();
         return data;
     }
     
     @Override
     public CompletableFuture<List<PlayerData>> loadAllPlayerData() {
-        return CompletableFuture.supplyAsync(() -> {
+        return read(connection -> {
             List<PlayerData> playerDataList = new ArrayList<>();
             String sql = "SELECT * FROM player_data ORDER BY player_name";
             
@@ -550,12 +847,12 @@ public class SQLiteHandler implements DatabaseHandler {
             }
             
             return playerDataList;
-        }, executor);
+        });
     }
     
     @Override
     public CompletableFuture<Void> deletePlayerData(UUID playerId) {
-        return CompletableFuture.runAsync(() -> {
+        return write(connection -> {
             String sql = "DELETE FROM player_data WHERE player_id = ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -565,14 +862,15 @@ public class SQLiteHandler implements DatabaseHandler {
                 logger.severe("Failed to delete player data for " + playerId + ": " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+            return null;
+        });
     }
     
     
     
     @Override
     public CompletableFuture<Void> saveChaseData(ChaseData chaseData) {
-        return CompletableFuture.runAsync(() -> {
+        return write(connection -> {
             String sql = """
                 INSERT OR REPLACE INTO chase_data (
                     chase_id, guard_id, target_id, start_time, duration, is_active, 
@@ -596,12 +894,13 @@ public class SQLiteHandler implements DatabaseHandler {
                 logger.severe("Failed to save chase data: " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+            return null;
+        });
     }
     
     @Override
     public CompletableFuture<ChaseData> loadChaseData(UUID chaseId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return read(connection -> {
             String sql = "SELECT * FROM chase_data WHERE chase_id = ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -616,7 +915,7 @@ public class SQLiteHandler implements DatabaseHandler {
                 logger.severe("Failed to load chase data for " + chaseId + ": " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+        });
     }
     
     private ChaseData mapResultSetToChaseData(ResultSet rs) throws SQLException {
@@ -637,7 +936,7 @@ public class SQLiteHandler implements DatabaseHandler {
     
     @Override
     public CompletableFuture<List<ChaseData>> loadAllActiveChases() {
-        return CompletableFuture.supplyAsync(() -> {
+        return read(connection -> {
             List<ChaseData> chaseDataList = new ArrayList<>();
             String sql = "SELECT * FROM chase_data WHERE is_active = 1 ORDER BY start_time DESC";
             
@@ -653,12 +952,33 @@ public class SQLiteHandler implements DatabaseHandler {
             }
             
             return chaseDataList;
-        }, executor);
+        });
+    }
+    
+    @Override
+    public CompletableFuture<ChaseData> loadActiveChaseForPlayer(UUID playerId) {
+        return read(connection -> {
+            String sql = "SELECT * FROM chase_data WHERE (guard_id = ? OR target_id = ?) AND is_active = 1 ORDER BY start_time DESC LIMIT 1";
+            
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setString(1, playerId.toString());
+                stmt.setString(2, playerId.toString());
+                ResultSet rs = stmt.executeQuery();
+                
+                if (rs.next()) {
+                    return mapResultSetToChaseData(rs);
+                }
+                return null;
+            } catch (SQLException e) {
+                logger.severe("Failed to load active chase for " + playerId + ": " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+        });
     }
     
     @Override
     public CompletableFuture<Void> deleteChaseData(UUID chaseId) {
-        return CompletableFuture.runAsync(() -> {
+        return write(connection -> {
             String sql = "DELETE FROM chase_data WHERE chase_id = ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -668,38 +988,42 @@ public class SQLiteHandler implements DatabaseHandler {
                 logger.severe("Failed to delete chase data for " + chaseId + ": " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+            return null;
+        });
     }
     
     @Override
     public CompletableFuture<Void> cleanupExpiredChases() {
-        return CompletableFuture.runAsync(() -> {
-            
-            long cutoffTime = System.currentTimeMillis() - (24 * 60 * 60 * 1000);
-            String sql = "DELETE FROM chase_data WHERE is_active = 0 AND end_time < ?";
+        return write(connection -> {
+            purgeExpiredChases();
+            return null;
+        });
+    }
+    
+    private void purgeExpiredChases() {
+        
+        long cutoffTime = System.currentTimeMillis() - (24 * 60 * 60 * 1000);
+        String sql = "DELETE FROM chase_data WHERE is_active = 0 AND end_time < ?";
+        
+        try {
+            PreparedStatement stmt = getPreparedStatement(sql);
+            stmt.setLong(1, cutoffTime);
+            int deleted = stmt.executeUpdate();
             
-            try {
-                PreparedStatement stmt = getPreparedStatement(sql);
-                synchronized (stmt) {
-                    stmt.setLong(1, cutoffTime);
-                    int deleted = stmt.executeUpdate();
-                    
-                    if (deleted > 0) {
-                        logger.info("Cleaned up " + deleted + " expired chase records");
-                    }
-                }
-            } catch (SQLException e) {
-                logger.severe("Failed to cleanup expired chases: " + e.getMessage());
-                throw new RuntimeException(e);
+            if (deleted > 0) {
+                logger.info("Cleaned up " + deleted + " expired chase records");
             }
-        }, executor);
+        } catch (SQLException e) {
+            logger.severe("Failed to cleanup expired chases: " + e.getMessage());
+            throw new RuntimeException(e);
+        }
     }
     
     
     
     @Override
     public CompletableFuture<Void> savePlayerInventory(UUID playerId, String inventoryData) {
-        return CompletableFuture.runAsync(() -> {
+        return write(connection -> {
             String sql = """
                 INSERT OR REPLACE INTO player_inventory_cache (player_id, inventory_data, cached_at) 
                 VALUES (?, ?, ?)
@@ -714,18 +1038,19 @@ public class SQLiteHandler implements DatabaseHandler {
                 logger.severe("Failed to save player inventory for " + playerId + ": " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+            return null;
+        });
     }
 
     
     @Override
     public CompletableFuture<Void> saveOnDutyInventory(UUID playerId, String inventoryData) {
-        return CompletableFuture.runAsync(() -> {
+        return write(connection -> {
             String sql = """
                 INSERT OR REPLACE INTO on_duty_inventories (player_id, inventory_data, cached_at)
                 VALUES (?, ?, ?)
             """;
-            try (PreparedStatement stmt = getPreparedStatement(sql)) {
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
                 stmt.setString(1, playerId.toString());
                 stmt.setString(2, inventoryData);
                 stmt.setLong(3, System.currentTimeMillis());
@@ -734,14 +1059,15 @@ public class SQLiteHandler implements DatabaseHandler {
                 logger.severe("Failed to save on-duty inventory for " + playerId + ": " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+            return null;
+        });
     }
 
     @Override
     public CompletableFuture<String> loadOnDutyInventory(UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return read(connection -> {
             String sql = "SELECT inventory_data FROM on_duty_inventories WHERE player_id = ?";
-            try (PreparedStatement stmt = getPreparedStatement(sql)) {
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
                 stmt.setString(1, playerId.toString());
                 ResultSet rs = stmt.executeQuery();
                 if (rs.next()) {
@@ -751,25 +1077,26 @@ public class SQLiteHandler implements DatabaseHandler {
                 logger.severe("Failed to load on-duty inventory for " + playerId + ": " + e.getMessage());
             }
             return null;
-        }, executor);
+        });
     }
 
     @Override
     public CompletableFuture<Void> deleteOnDutyInventory(UUID playerId) {
-        return CompletableFuture.runAsync(() -> {
+        return write(connection -> {
             String sql = "DELETE FROM on_duty_inventories WHERE player_id = ?";
-            try (PreparedStatement stmt = getPreparedStatement(sql)) {
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
                 stmt.setString(1, playerId.toString());
                 stmt.executeUpdate();
             } catch (SQLException e) {
                 logger.severe("Failed to delete on-duty inventory for " + playerId + ": " + e.getMessage());
             }
-        }, executor);
+            return null;
+        });
     }
     
     @Override
     public CompletableFuture<String> loadPlayerInventory(UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return read(connection -> {
             String sql = "SELECT inventory_data FROM player_inventory_cache WHERE player_id = ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -784,12 +1111,12 @@ public class SQLiteHandler implements DatabaseHandler {
                 logger.severe("Failed to load player inventory for " + playerId + ": " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+        });
     }
     
     @Override
     public CompletableFuture<Void> deletePlayerInventory(UUID playerId) {
-        return CompletableFuture.runAsync(() -> {
+        return write(connection -> {
             String sql = "DELETE FROM player_inventory_cache WHERE player_id = ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -799,12 +1126,13 @@ public class SQLiteHandler implements DatabaseHandler {
                 logger.severe("Failed to delete player inventory for " + playerId + ": " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+            return null;
+        });
     }
     
     @Override
     public CompletableFuture<List<UUID>> getPlayersWithStoredInventory() {
-        return CompletableFuture.supplyAsync(() -> {
+        return read(connection -> {
             String sql = "SELECT player_id FROM player_inventory_cache";
             List<UUID> playerIds = new ArrayList<>();
             
@@ -825,17 +1153,17 @@ public class SQLiteHandler implements DatabaseHandler {
             }
             
             return playerIds;
-        }, executor);
+        });
     }
     
     
     
     @Override
     public CompletableFuture<Void> performMaintenance() {
-        return CompletableFuture.runAsync(() -> {
+        return writeExclusive(connection -> {
             try {
                 
-                cleanupExpiredChases().get();
+                purgeExpiredChases();
                 
                 
                 long cutoffTime = System.currentTimeMillis() - (7 * 24 * 60 * 60 * 1000);
@@ -862,7 +1190,8 @@ public class SQLiteHandler implements DatabaseHandler {
                 logger.severe("Database maintenance failed: " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+            return null;
+        });
     }
     
     
@@ -918,7 +1247,7 @@ public class SQLiteHandler implements DatabaseHandler {
     
     @Override
     public CompletableFuture<DatabaseStats> getStatistics() {
-        return CompletableFuture.supplyAsync(() -> {
+        return read(connection -> {
             try {
                 int totalPlayers = 0;
                 int activeChases = 0;
@@ -962,12 +1291,12 @@ public class SQLiteHandler implements DatabaseHandler {
                 logger.severe("Failed to get database statistics: " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+        });
     }
     
     @Override
     public CompletableFuture<Void> createBackup(String backupPath) {
-        return CompletableFuture.runAsync(() -> {
+        return writeExclusive(connection -> {
             try {
                 File dbFile = new File(plugin.getDataFolder(), databasePath);
                 Path backupFilePath = Paths.get(backupPath);
@@ -984,14 +1313,327 @@ public class SQLiteHandler implements DatabaseHandler {
                 logger.severe("Failed to create database backup: " + e.getMessage());
                 throw new RuntimeException(e);
             }
-        }, executor);
+            return null;
+        });
+    }
+    
+    
+    
+    @Override
+    public CompletableFuture<Void> saveContrabandEntries(List<ContrabandVaultEntry> entries) {
+        return write(connection -> {
+            if (entries.isEmpty()) {
+                return null;
+            }
+            String sql = """
+                INSERT OR REPLACE INTO contraband_vault (entry_id, owner_id, material, amount, item_data, confiscated_at, expires_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """;
+            
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                for (ContrabandVaultEntry entry : entries) {
+                    stmt.setString(1, entry.getEntryId().toString());
+                    stmt.setString(2, entry.getOwnerId().toString());
+                    stmt.setString(3, entry.getMaterial());
+                    stmt.setInt(4, entry.getAmount());
+                    stmt.setString(5, entry.getItemData());
+                    stmt.setLong(6, entry.getConfiscatedAt());
+                    stmt.setLong(7, entry.getExpiresAt());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            } catch (SQLException e) {
+                logger.severe("Failed to save " + entries.size() + " contraband entries: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return null;
+        });
+    }
+    
+    @Override
+    public CompletableFuture<List<ContrabandVaultEntry>> loadContrabandEntries(UUID ownerId, long now) {
+        return read(connection -> {
+            String sql = "SELECT * FROM contraband_vault WHERE owner_id = ? AND expires_at > ? ORDER BY expires_at";
+            List<ContrabandVaultEntry> entries = new ArrayList<>();
+            
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setString(1, ownerId.toString());
+                stmt.setLong(2, now);
+                ResultSet rs = stmt.executeQuery();
+                
+                while (rs.next()) {
+                    entries.add(mapResultSetToContrabandEntry(rs));
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to load contraband entries for " + ownerId + ": " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return entries;
+        });
+    }
+    
+    @Override
+    public CompletableFuture<ContrabandVaultEntry> claimRandomContrabandEntry(long now) {
+        return write(connection -> {
+            String selectSql = "SELECT * FROM contraband_vault WHERE entry_id >= ? AND expires_at > ? ORDER BY entry_id LIMIT 1";
+            String deleteSql = "DELETE FROM contraband_vault WHERE entry_id = ?";
+            String pivot = UUID.randomUUID().toString();
+            
+            try (PreparedStatement select = connection.prepareStatement(selectSql);
+                 PreparedStatement delete = connection.prepareStatement(deleteSql)) {
+                ContrabandVaultEntry entry = null;
+                for (String start : new String[] {pivot, ""}) {
+                    select.setString(1, start);
+                    select.setLong(2, now);
+                    try (ResultSet rs = select.executeQuery()) {
+                        if (rs.next()) {
+                            entry = mapResultSetToContrabandEntry(rs);
+                            break;
+                        }
+                    }
+                }
+                if (entry == null) {
+                    return null;
+                }
+                
+                delete.setString(1, entry.getEntryId().toString());
+                return delete.executeUpdate() > 0 ? entry : null;
+            } catch (SQLException e) {
+                logger.severe("Failed to claim random contraband entry: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Integer> deleteContrabandEntries(List<UUID> entryIds) {
+        return write(connection -> {
+            if (entryIds.isEmpty()) {
+                return 0;
+            }
+            String sql = "DELETE FROM contraband_vault WHERE entry_id = ?";
+            int deleted = 0;
+            
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                for (UUID entryId : entryIds) {
+                    stmt.setString(1, entryId.toString());
+                    stmt.addBatch();
+                }
+                for (int count : stmt.executeBatch()) {
+                    if (count > 0) deleted += count;
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to delete contraband entries: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return deleted;
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Integer> purgeExpiredContraband(long now) {
+        return write(connection -> {
+            String sql = "DELETE FROM contraband_vault WHERE expires_at <= ?";
+            
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setLong(1, now);
+                return stmt.executeUpdate();
+            } catch (SQLException e) {
+                logger.severe("Failed to purge expired contraband: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+        });
     }
     
+    @Override
+    public CompletableFuture<Integer> countStoredContraband(long now) {
+        return read(connection -> {
+            String sql = "SELECT COUNT(*) FROM contraband_vault WHERE expires_at > ?";
+            
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setLong(1, now);
+                ResultSet rs = stmt.executeQuery();
+                return rs.next() ? rs.getInt(1) : 0;
+            } catch (SQLException e) {
+                logger.severe("Failed to count stored contraband: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+        });
+    }
+    
+    @Override
+    public CompletableFuture<List<LeaderboardEntry>> loadLeaderboard(LeaderboardStat stat, int limit) {
+        return read(connection -> {
+            String column = stat.getColumn();
+            String sql = "SELECT player_id, player_name, " + column + " FROM player_data WHERE " + column +
+                " > 0 ORDER BY " + column + " DESC LIMIT ?";
+            List<LeaderboardEntry> entries = new ArrayList<>();
+            
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setInt(1, limit);
+                ResultSet rs = stmt.executeQuery();
+                while (rs.next()) {
+                    entries.add(new LeaderboardEntry(UUID.fromString(rs.getString("player_id")),
+                        rs.getString("player_name"), rs.getLong(column)));
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to load " + stat.getKey() + " leaderboard: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return entries;
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Long>> loadStatTotals() {
+        return read(connection -> {
+            String sql = "SELECT SUM(total_arrests), SUM(total_violations), SUM(total_duty_time), " +
+                "SUM(total_qualifying_kills) FROM player_data";
+            Map<String, Long> totals = new HashMap<>();
+            
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                ResultSet rs = stmt.executeQuery();
+                if (rs.next()) {
+                    totals.put("total_arrests", rs.getLong(1));
+                    totals.put("total_violations", rs.getLong(2));
+                    totals.put("total_duty_time", rs.getLong(3));
+                    totals.put("total_qualifying_kills", rs.getLong(4));
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to load stat totals: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return totals;
+        });
+    }
+    
+    
+    
+    @Override
+    public CompletableFuture<Void> appendStatEvents(List<StatEvent> events) {
+        return write(connection -> {
+            if (events.isEmpty()) {
+                return null;
+            }
+            
+            try {
+                for (int start = 0; start < events.size(); start += STAT_INSERT_ROWS) {
+                    List<StatEvent> chunk = events.subList(start, Math.min(events.size(), start + STAT_INSERT_ROWS));
+                    String sql = "INSERT INTO performance_stats (player_id, stat_type, stat_value, recorded_at) VALUES " +
+                        rowPlaceholders(chunk.size(), 4);
+                    try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                        int index = 1;
+                        for (StatEvent event : chunk) {
+                            stmt.setString(index++, event.getPlayerId().toString());
+                            stmt.setString(index++, event.getStatType());
+                            stmt.setLong(index++, event.getValue());
+                            stmt.setLong(index++, event.getRecordedAt());
+                        }
+                        stmt.executeUpdate();
+                    }
+                }
+                
+                upsertRollups(connection, "performance_rollup_hourly", StatRollup.aggregate(events, StatRollup.HOUR_MILLIS));
+                upsertRollups(connection, "performance_rollup_daily", StatRollup.aggregate(events, StatRollup.DAY_MILLIS));
+            } catch (SQLException e) {
+                logger.severe("Failed to append " + events.size() + " stat events: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return null;
+        });
+    }
+    
+    private void upsertRollups(Connection connection, String table, List<StatRollup> rollups) throws SQLException {
+        String sql = "INSERT INTO " + table + " (player_id, bucket_start, stat_type, event_count, stat_total) " +
+            "VALUES (?, ?, ?, ?, ?) ON CONFLICT(player_id, bucket_start, stat_type) DO UPDATE SET " +
+            "event_count = event_count + excluded.event_count, stat_total = stat_total + excluded.stat_total";
+        
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            for (StatRollup rollup : rollups) {
+                stmt.setString(1, rollup.getPlayerId().toString());
+                stmt.setLong(2, rollup.getBucketStart());
+                stmt.setString(3, rollup.getStatType());
+                stmt.setInt(4, rollup.getEventCount());
+                stmt.setLong(5, rollup.getStatTotal());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+    
+    private String rowPlaceholders(int rows, int columns) {
+        String row = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        return String.join(", ", Collections.nCopies(rows, row));
+    }
+    
+    @Override
+    public CompletableFuture<Map<String, Long>> sumStatEvents(UUID playerId, long since, boolean daily) {
+        return read(connection -> {
+            String table = daily ? "performance_rollup_daily" : "performance_rollup_hourly";
+            String sql = "SELECT stat_type, SUM(stat_total) FROM " + table + " WHERE " +
+                (playerId != null ? "player_id = ? AND " : "") + "bucket_start >= ? GROUP BY stat_type";
+            Map<String, Long> totals = new HashMap<>();
+            
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                int index = 1;
+                if (playerId != null) {
+                    stmt.setString(index++, playerId.toString());
+                }
+                stmt.setLong(index, since);
+                ResultSet rs = stmt.executeQuery();
+                while (rs.next()) {
+                    totals.put(rs.getString(1), rs.getLong(2));
+                }
+            } catch (SQLException e) {
+                logger.severe("Failed to sum stat events: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return totals;
+        });
+    }
+    
+    @Override
+    public CompletableFuture<Integer> pruneStatEvents(long rawCutoff, long hourlyCutoff, long dailyCutoff) {
+        return write(connection -> {
+            int deleted = 0;
+            try {
+                deleted += deleteOlderThan(connection, "DELETE FROM performance_stats WHERE recorded_at < ?", rawCutoff);
+                deleted += deleteOlderThan(connection, "DELETE FROM performance_rollup_hourly WHERE bucket_start < ?", hourlyCutoff);
+                deleted += deleteOlderThan(connection, "DELETE FROM performance_rollup_daily WHERE bucket_start < ?", dailyCutoff);
+            } catch (SQLException e) {
+                logger.severe("Failed to prune stat events: " + e.getMessage());
+                throw new RuntimeException(e);
+            }
+            return deleted;
+        });
+    }
+    
+    private int deleteOlderThan(Connection connection, String sql, long cutoff) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setLong(1, cutoff);
+            return stmt.executeUpdate();
+        }
+    }
+    
+    private ContrabandVaultEntry mapResultSetToContrabandEntry(ResultSet rs) throws SQLException {
+        return new ContrabandVaultEntry(
+            UUID.fromString(rs.getString("entry_id")),
+            UUID.fromString(rs.getString("owner_id")),
+            rs.getString("material"),
+            rs.getInt("amount"),
+            rs.getString("item_data"),
+            rs.getLong("confiscated_at"),
+            rs.getLong("expires_at")
+        );
+    }
+    
+    
+    
     
     
     @Override
     public CompletableFuture<Void> batchSavePlayerData(List<PlayerData> playerDataList) {
-        return CompletableFuture.runAsync(() -> {
+        return write(connection -> {
             String sql = """
                 INSERT OR REPLACE INTO player_data (
                     player_id, player_name, is_on_duty, duty_start_time, off_duty_time, 
@@ -1005,71 +1647,55 @@ public class SQLiteHandler implements DatabaseHandler {
                 ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
                 """;
             
-            try {
-                connection.setAutoCommit(false);
-                
-                try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-                    for (PlayerData playerData : playerDataList) {
-                        stmt.setString(1, playerData.getPlayerId().toString());
-                        stmt.setString(2, playerData.getPlayerName());
-                        stmt.setInt(3, playerData.isOnDuty() ? 1 : 0);
-                        stmt.setLong(4, playerData.getDutyStartTime());
-                        stmt.setLong(5, playerData.getOffDutyTime());
-                        stmt.setLong(6, playerData.getGraceDebtTime());
-                        stmt.setString(7, playerData.getGuardRank());
-                        stmt.setLong(8, playerData.getEarnedOffDutyTime());
-                        stmt.setInt(9, playerData.hasEarnedBaseTime() ? 1 : 0);
-                        stmt.setInt(10, playerData.hasBeenNotifiedOfExpiredTime() ? 1 : 0);
-                        stmt.setInt(11, playerData.getSessionSearches());
-                        stmt.setInt(12, playerData.getSessionSuccessfulSearches());
-                        stmt.setInt(13, playerData.getSessionArrests());
-                        stmt.setInt(14, playerData.getSessionKills());
-                        stmt.setInt(15, playerData.getSessionDetections());
-                        stmt.setLong(16, playerData.getPenaltyStartTime());
-                        stmt.setInt(17, playerData.getCurrentPenaltyStage());
-                        stmt.setLong(18, playerData.getLastPenaltyTime());
-                        stmt.setLong(19, playerData.getLastSlownessApplication());
-                        stmt.setInt(20, playerData.hasActivePenaltyBossBar() ? 1 : 0);
-                        stmt.setInt(21, playerData.getWantedLevel());
-                        stmt.setLong(22, playerData.getWantedExpireTime());
-                        stmt.setString(23, playerData.getWantedReason());
-                        stmt.setInt(24, playerData.isBeingChased() ? 1 : 0);
-                        stmt.setString(25, playerData.getChaserGuard() != null ? playerData.getChaserGuard().toString() : null);
-                        stmt.setLong(26, playerData.getChaseStartTime());
-                        stmt.setInt(27, playerData.getTotalArrests());
-                        stmt.setInt(28, playerData.getTotalViolations());
-                        stmt.setLong(29, playerData.getTotalDutyTime());
-                        stmt.setInt(30, playerData.getTotalQualifyingKills());
-                        stmt.setLong(31, System.currentTimeMillis());
-                        
-                        stmt.addBatch();
-                    }
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                for (PlayerData playerData : playerDataList) {
+                    stmt.setString(1, playerData.getPlayerId().toString());
+                    stmt.setString(2, playerData.getPlayerName());
+                    stmt.setInt(3, playerData.isOnDuty() ? 1 : 0);
+                    stmt.setLong(4, playerData.getDutyStartTime());
+                    stmt.setLong(5, playerData.getOffDutyTime());
+                    stmt.setLong(6, playerData.getGraceDebtTime());
+                    stmt.setString(7, playerData.getGuardRank());
+                    stmt.setLong(8, playerData.getEarnedOffDutyTime());
+                    stmt.setInt(9, playerData.hasEarnedBaseTime() ? 1 : 0);
+                    stmt.setInt(10, playerData.hasBeenNotifiedOfExpiredTime() ? 1 : 0);
+                    stmt.setInt(11, playerData.getSessionSearches());
+                    stmt.setInt(12, playerData.getSessionSuccessfulSearches());
+                    stmt.setInt(13, playerData.getSessionArrests());
+                    stmt.setInt(14, playerData.getSessionKills());
+                    stmt.setInt(15, playerData.getSessionDetections());
+                    stmt.setLong(16, playerData.getPenaltyStartTime());
+                    stmt.setInt(17, playerData.getCurrentPenaltyStage());
+                    stmt.setLong(18, playerData.getLastPenaltyTime());
+                    stmt.setLong(19, playerData.getLastSlownessApplication());
+                    stmt.setInt(20, playerData.hasActivePenaltyBossBar() ? 1 : 0);
+                    stmt.setInt(21, playerData.getWantedLevel());
+                    stmt.setLong(22, playerData.getWantedExpireTime());
+                    stmt.setString(23, playerData.getWantedReason());
+                    stmt.setInt(24, playerData.isBeingChased() ? 1 : 0);
+                    stmt.setString(25, playerData.getChaserGuard() != null ? playerData.getChaserGuard().toString() : null);
+                    stmt.setLong(26, playerData.getChaseStartTime());
+                    stmt.setInt(27, playerData.getTotalArrests());
+                    stmt.setInt(28, playerData.getTotalViolations());
+                    stmt.setLong(29, playerData.getTotalDutyTime());
+                    stmt.setInt(30, playerData.getTotalQualifyingKills());
+                    stmt.setLong(31, System.currentTimeMillis());
                     
-                    stmt.executeBatch();
-                    connection.commit();
+                    stmt.addBatch();
                 }
                 
+                stmt.executeBatch();
             } catch (SQLException e) {
-                try {
-                    connection.rollback();
-                } catch (SQLException rollbackEx) {
-                    logger.severe("Failed to rollback batch save: " + rollbackEx.getMessage());
-                }
                 logger.severe("Failed to batch save player data: " + e.getMessage());
                 throw new RuntimeException(e);
-            } finally {
-                try {
-                    connection.setAutoCommit(true);
-                } catch (SQLException e) {
-                    logger.warning("Failed to reset auto-commit: " + e.getMessage());
-                }
             }
-        }, executor);
+            return null;
+        });
     }
     
     @Override
     public CompletableFuture<List<PlayerData>> batchLoadPlayerData(List<UUID> playerIds) {
-        return CompletableFuture.supplyAsync(() -> {
+        return read(connection -> {
             List<PlayerData> playerDataList = new ArrayList<>();
             
             if (playerIds.isEmpty()) {
@@ -1100,6 +1726,6 @@ public class SQLiteHandler implements DatabaseHandler {
             }
             
             return playerDataList;
-        }, executor);
+        });
     }
 }
@@ -0,0 +1,220 @@
+package dev.lsdmc.edenCorrections.storage;
+
+import dev.lsdmc.edenCorrections.EdenCorrections;
+import dev.lsdmc.edenCorrections.config.ConfigManager;
+import dev.lsdmc.edenCorrections.models.StatEvent;
+import dev.lsdmc.edenCorrections.models.StatRollup;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+public class StatsJournal {
+
+    public static final String SEARCH = "search";
+    public static final String SUCCESSFUL_SEARCH = "successful_search";
+    public static final String ARREST = "arrest";
+    public static final String KILL = "kill";
+    public static final String DETECTION = "detection";
+    public static final String DUTY_TIME = "duty_time";
+
+    private final EdenCorrections plugin;
+    private final Logger logger;
+    private final DatabaseHandler databaseHandler;
+
+    private final Queue<StatEvent> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger(0);
+    private final AtomicBoolean flushInProgress = new AtomicBoolean(false);
+
+    private final AtomicLong recordedEvents = new AtomicLong(0);
+    private final AtomicLong flushedEvents = new AtomicLong(0);
+    private final AtomicLong droppedEvents = new AtomicLong(0);
+    private final AtomicLong flushBatches = new AtomicLong(0);
+    private final AtomicLong failedFlushes = new AtomicLong(0);
+    private final AtomicLong prunedRows = new AtomicLong(0);
+
+    private volatile boolean enabled = false;
+    private BukkitTask flushTask;
+    private BukkitTask pruneTask;
+
+    public StatsJournal(EdenCorrections plugin, DatabaseHandler databaseHandler) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+        this.databaseHandler = databaseHandler;
+    }
+
+    public void initialize() {
+        ConfigManager config = plugin.getConfigManager();
+        if (!config.isStatsJournalEnabled()) {
+            logger.info("Stats journal disabled - performance events are not recorded");
+            return;
+        }
+
+        long flushTicks = config.getStatsJournalFlushInterval() * 20L;
+        flushTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::flush, flushTicks, flushTicks);
+
+        long pruneTicks = 60L * 60L * 20L;
+        pruneTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::prune, 60L * 20L, pruneTicks);
+        enabled = true;
+
+        logger.info("Stats journal enabled - flushing buffered events every " +
+                   config.getStatsJournalFlushInterval() + " seconds");
+    }
+
+    public void shutdown() {
+        enabled = false;
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        if (pruneTask != null) {
+            pruneTask.cancel();
+            pruneTask = null;
+        }
+
+        int maxBatchSize = plugin.getConfigManager().getStatsJournalMaxBatchSize();
+        List<StatEvent> batch;
+        while (!(batch = drain(maxBatchSize)).isEmpty()) {
+            try {
+                databaseHandler.appendStatEvents(batch).get(10, TimeUnit.SECONDS);
+                flushedEvents.addAndGet(batch.size());
+            } catch (Exception e) {
+                logger.warning("Failed to flush " + batch.size() + " stat events on shutdown: " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+
+    public void record(UUID playerId, String statType, long value) {
+        if (!enabled) {
+            return;
+        }
+        if (buffered.incrementAndGet() > plugin.getConfigManager().getStatsJournalMaxBuffer()) {
+            buffered.decrementAndGet();
+            droppedEvents.incrementAndGet();
+            return;
+        }
+        buffer.add(new StatEvent(playerId, statType, value, System.currentTimeMillis()));
+        recordedEvents.incrementAndGet();
+    }
+
+    public void flush() {
+        if (buffer.isEmpty() || !flushInProgress.compareAndSet(false, true)) {
+            return;
+        }
+
+        int maxBatchSize = plugin.getConfigManager().getStatsJournalMaxBatchSize();
+        List<StatEvent> batch = drain(maxBatchSize);
+        if (batch.isEmpty()) {
+            flushInProgress.set(false);
+            return;
+        }
+
+        databaseHandler.appendStatEvents(batch).whenComplete((result, throwable) -> {
+            boolean backlog = false;
+            try {
+                if (throwable != null) {
+                    failedFlushes.incrementAndGet();
+                    requeue(batch);
+                    logger.severe("Failed to flush " + batch.size() + " stat events: " + throwable.getMessage());
+                    return;
+                }
+
+                flushedEvents.addAndGet(batch.size());
+                flushBatches.incrementAndGet();
+                backlog = buffered.get() >= maxBatchSize;
+
+                if (plugin.getConfigManager().isDebugMode()) {
+                    logger.info("DEBUG: Flushed " + batch.size() + " stat events");
+                }
+            } finally {
+                flushInProgress.set(false);
+            }
+            if (backlog && enabled) {
+                flush();
+            }
+        });
+    }
+
+
+    public CompletableFuture<Map<String, Long>> sumSince(UUID playerId, long since) {
+        long now = System.currentTimeMillis();
+        long hourlyWindow = plugin.getConfigManager().getStatsJournalHourlyRetentionDays() * StatRollup.DAY_MILLIS;
+        boolean daily = since < now - hourlyWindow;
+        long bucketMillis = daily ? StatRollup.DAY_MILLIS : StatRollup.HOUR_MILLIS;
+        long bucketStart = since - Math.floorMod(since, bucketMillis);
+
+        return databaseHandler.sumStatEvents(playerId, bucketStart, daily).exceptionally(throwable -> {
+            logger.warning("Failed to load stat history: " + throwable.getMessage());
+            return new HashMap<>();
+        });
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("recorded", recordedEvents.get());
+        stats.put("flushed", flushedEvents.get());
+        stats.put("dropped", droppedEvents.get());
+        stats.put("buffered", (long) buffered.get());
+        stats.put("batches", flushBatches.get());
+        stats.put("failedFlushes", failedFlushes.get());
+        stats.put("pruned", prunedRows.get());
+        return stats;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void prune() {
+        ConfigManager config = plugin.getConfigManager();
+        long now = System.currentTimeMillis();
+        long rawCutoff = now - config.getStatsJournalRawRetentionDays() * StatRollup.DAY_MILLIS;
+        long hourlyCutoff = now - config.getStatsJournalHourlyRetentionDays() * StatRollup.DAY_MILLIS;
+        long dailyCutoff = now - config.getStatsJournalDailyRetentionDays() * StatRollup.DAY_MILLIS;
+
+        databaseHandler.pruneStatEvents(rawCutoff, hourlyCutoff, dailyCutoff).whenComplete((deleted, throwable) -> {
+            if (throwable != null) {
+                logger.warning("Failed to prune stats journal: " + throwable.getMessage());
+            } else if (deleted > 0) {
+                prunedRows.addAndGet(deleted);
+                logger.info("Pruned " + deleted + " expired stats journal rows");
+            }
+        });
+    }
+
+    private List<StatEvent> drain(int maxBatchSize) {
+        List<StatEvent> batch = new ArrayList<>(Math.min(maxBatchSize, Math.max(1, buffered.get())));
+        StatEvent event;
+        while (batch.size() < maxBatchSize && (event = buffer.poll()) != null) {
+            buffered.decrementAndGet();
+            batch.add(event);
+        }
+        return batch;
+    }
+
+    private void requeue(List<StatEvent> batch) {
+        int maxBuffer = plugin.getConfigManager().getStatsJournalMaxBuffer();
+        for (StatEvent event : batch) {
+            if (buffered.incrementAndGet() > maxBuffer) {
+                buffered.decrementAndGet();
+                droppedEvents.incrementAndGet();
+                continue;
+            }
+            buffer.add(event);
+        }
+    }
+}
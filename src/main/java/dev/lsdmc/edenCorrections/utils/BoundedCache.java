@@ -0,0 +1,228 @@
+package dev.lsdmc.edenCorrections.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+
+public class BoundedCache<K, V> {
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<K, Entry<V>> recent = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<K, Entry<V>> pinned = new HashMap<>();
+    private final Set<K> pinnedKeys = new HashSet<>();
+    private final Predicate<V> evictable;
+
+    private volatile int maxSize;
+    private volatile long ttlMillis;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    private static final class Entry<V> {
+        private V value;
+        private long touchedAt;
+
+        Entry(V value, long touchedAt) {
+            this.value = value;
+            this.touchedAt = touchedAt;
+        }
+    }
+
+    public BoundedCache(int maxSize, long ttlMillis, Predicate<V> evictable) {
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlMillis = Math.max(0L, ttlMillis);
+        this.evictable = evictable;
+    }
+
+
+    public V get(K key) {
+        synchronized (lock) {
+            Entry<V> entry = lookup(key);
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+            entry.touchedAt = System.currentTimeMillis();
+            return entry.value;
+        }
+    }
+
+
+    public V peek(K key) {
+        synchronized (lock) {
+            Entry<V> entry = lookup(key);
+            if (entry == null) {
+                return null;
+            }
+            entry.touchedAt = System.currentTimeMillis();
+            return entry.value;
+        }
+    }
+
+    public void put(K key, V value) {
+        synchronized (lock) {
+            long now = System.currentTimeMillis();
+            if (pinnedKeys.contains(key)) {
+                pinned.put(key, new Entry<>(value, now));
+                return;
+            }
+            Entry<V> entry = recent.get(key);
+            if (entry != null) {
+                entry.value = value;
+                entry.touchedAt = now;
+            } else {
+                recent.put(key, new Entry<>(value, now));
+                evictOverflow();
+            }
+        }
+    }
+
+    public V remove(K key) {
+        synchronized (lock) {
+            Entry<V> entry = pinned.remove(key);
+            if (entry == null) {
+                entry = recent.remove(key);
+            }
+            return entry != null ? entry.value : null;
+        }
+    }
+
+
+    public void pin(K key) {
+        synchronized (lock) {
+            pinnedKeys.add(key);
+            Entry<V> entry = recent.remove(key);
+            if (entry != null) {
+                pinned.put(key, entry);
+            }
+        }
+    }
+
+    public void unpin(K key) {
+        synchronized (lock) {
+            pinnedKeys.remove(key);
+            Entry<V> entry = pinned.remove(key);
+            if (entry != null) {
+                entry.touchedAt = System.currentTimeMillis();
+                recent.put(key, entry);
+                evictOverflow();
+            }
+        }
+    }
+
+    public boolean isPinned(K key) {
+        synchronized (lock) {
+            return pinnedKeys.contains(key);
+        }
+    }
+
+
+    public int expire() {
+        synchronized (lock) {
+            long cutoff = System.currentTimeMillis() - ttlMillis;
+            int expired = 0;
+            Iterator<Map.Entry<K, Entry<V>>> iterator = recent.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Entry<V> entry = iterator.next().getValue();
+                if (entry.touchedAt > cutoff) {
+                    break;
+                }
+                if (!evictable.test(entry.value)) {
+                    continue;
+                }
+                iterator.remove();
+                expired++;
+            }
+            expirations += expired;
+            return expired;
+        }
+    }
+
+    public void resize(int maxSize, long ttlMillis) {
+        synchronized (lock) {
+            this.maxSize = Math.max(1, maxSize);
+            this.ttlMillis = Math.max(0L, ttlMillis);
+            evictOverflow();
+        }
+    }
+
+    public List<V> values() {
+        synchronized (lock) {
+            List<V> values = new ArrayList<>(pinned.size() + recent.size());
+            for (Entry<V> entry : pinned.values()) {
+                values.add(entry.value);
+            }
+            for (Entry<V> entry : recent.values()) {
+                values.add(entry.value);
+            }
+            return values;
+        }
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return pinned.size() + recent.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            pinned.clear();
+            recent.clear();
+        }
+    }
+
+    public double getHitRate() {
+        synchronized (lock) {
+            long lookups = hits + misses;
+            return lookups > 0 ? (double) hits / lookups : 0.0;
+        }
+    }
+
+    public Map<String, Long> getStats() {
+        synchronized (lock) {
+            Map<String, Long> stats = new HashMap<>();
+            stats.put("hits", hits);
+            stats.put("misses", misses);
+            stats.put("evictions", evictions);
+            stats.put("expirations", expirations);
+            stats.put("size", (long) (pinned.size() + recent.size()));
+            stats.put("pinned", (long) pinned.size());
+            stats.put("maxSize", (long) maxSize);
+            return stats;
+        }
+    }
+
+    private Entry<V> lookup(K key) {
+        Entry<V> entry = pinned.get(key);
+        return entry != null ? entry : recent.get(key);
+    }
+
+
+    private void evictOverflow() {
+        int overflow = pinned.size() + recent.size() - maxSize;
+        if (overflow <= 0) {
+            return;
+        }
+        Iterator<Map.Entry<K, Entry<V>>> iterator = recent.entrySet().iterator();
+        while (overflow > 0 && iterator.hasNext()) {
+            Entry<V> eldest = iterator.next().getValue();
+            if (!evictable.test(eldest.value)) {
+                continue;
+            }
+            iterator.remove();
+            evictions++;
+            overflow--;
+        }
+    }
+}
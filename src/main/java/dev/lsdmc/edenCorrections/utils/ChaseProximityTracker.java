@@ -0,0 +1,90 @@
+package dev.lsdmc.edenCorrections.utils;
+
+import dev.lsdmc.edenCorrections.config.ConfigSnapshot;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+public class ChaseProximityTracker {
+
+    public enum Band {
+        CLOSE,
+        WARNING,
+        ESCAPED
+    }
+
+    private final Map<UUID, Band> bands = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> displayedDistances = new ConcurrentHashMap<>();
+
+
+    public static final class Reading {
+        private final Band band;
+        private final boolean bandChanged;
+        private final double distanceSquared;
+
+        Reading(Band band, boolean bandChanged, double distanceSquared) {
+            this.band = band;
+            this.bandChanged = bandChanged;
+            this.distanceSquared = distanceSquared;
+        }
+
+        public Band getBand() { return band; }
+        public boolean isBandChanged() { return bandChanged; }
+        public double getDistanceSquared() { return distanceSquared; }
+
+        public double getDistance() {
+            return Math.sqrt(distanceSquared);
+        }
+
+        public boolean entered(Band target) {
+            return bandChanged && band == target;
+        }
+    }
+
+
+    public Reading update(UUID chaseId, double distanceSquared, ConfigSnapshot snapshot) {
+        Band band = classify(distanceSquared, snapshot);
+        Band previous = bands.put(chaseId, band);
+        return new Reading(band, previous != band, distanceSquared);
+    }
+
+    public boolean displayChanged(UUID chaseId, double distanceSquared) {
+        Integer displayed = displayedDistances.get(chaseId);
+        if (displayed != null && distanceSquared >= (double) displayed * displayed
+                && distanceSquared < (double) (displayed + 1) * (displayed + 1)) {
+            return false;
+        }
+        displayedDistances.put(chaseId, (int) Math.sqrt(distanceSquared));
+        return true;
+    }
+
+    public static Band classify(double distanceSquared, ConfigSnapshot snapshot) {
+        if (distanceSquared > snapshot.getMaxChaseDistanceSquared()) {
+            return Band.ESCAPED;
+        }
+        if (distanceSquared > snapshot.getChaseWarningDistanceSquared()) {
+            return Band.WARNING;
+        }
+        return Band.CLOSE;
+    }
+
+    public Band getBand(UUID chaseId) {
+        return bands.getOrDefault(chaseId, Band.CLOSE);
+    }
+
+    public void clear(UUID chaseId) {
+        bands.remove(chaseId);
+        displayedDistances.remove(chaseId);
+    }
+
+    public void clear() {
+        bands.clear();
+        displayedDistances.clear();
+    }
+
+    public int getTrackedChaseCount() {
+        return bands.size();
+    }
+}
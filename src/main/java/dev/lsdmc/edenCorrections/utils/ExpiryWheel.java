@@ -0,0 +1,246 @@
+package dev.lsdmc.edenCorrections.utils;
+
+import dev.lsdmc.edenCorrections.EdenCorrections;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+
+public class ExpiryWheel {
+
+    public static final String COMBAT = "combat";
+    public static final String WANTED = "wanted";
+    public static final String CONTRABAND = "contraband";
+    public static final String JAIL_TELEPORT_BYPASS = "jail-teleport-bypass";
+
+    private static final long TICK_MILLIS = 50L;
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 3;
+    private static final long MAX_SPAN = 1L << (WHEEL_BITS * LEVELS);
+
+    private final EdenCorrections plugin;
+    private final ArrayDeque<Entry>[][] wheels;
+    private final Map<String, Map<UUID, Entry>> entries = new HashMap<>();
+    private final long originMillis;
+
+    private BukkitTask task;
+    private long currentTick;
+
+    private final AtomicLong scheduled = new AtomicLong(0);
+    private final AtomicLong extended = new AtomicLong(0);
+    private final AtomicLong fired = new AtomicLong(0);
+    private final AtomicLong cancelled = new AtomicLong(0);
+
+    private static final class Entry {
+        private final String namespace;
+        private final UUID id;
+        private long deadlineMillis;
+        private long deadlineTick;
+        private Consumer<UUID> handler;
+        private boolean cancelled;
+
+        Entry(String namespace, UUID id) {
+            this.namespace = namespace;
+            this.id = id;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public ExpiryWheel(EdenCorrections plugin) {
+        this.plugin = plugin;
+        this.originMillis = System.currentTimeMillis();
+        this.wheels = new ArrayDeque[LEVELS][WHEEL_SIZE];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                wheels[level][slot] = new ArrayDeque<>();
+            }
+        }
+    }
+
+    public void start() {
+        if (task != null) return;
+        task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::advance, 1L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        synchronized (this) {
+            for (ArrayDeque<Entry>[] level : wheels) {
+                for (ArrayDeque<Entry> slot : level) {
+                    slot.clear();
+                }
+            }
+            entries.clear();
+        }
+    }
+
+
+    public synchronized boolean schedule(String namespace, UUID id, long deadlineMillis, Consumer<UUID> handler) {
+        Map<UUID, Entry> byId = entries.computeIfAbsent(namespace, key -> new HashMap<>());
+        long deadlineTick = toTick(deadlineMillis);
+        Entry existing = byId.get(id);
+
+        if (existing != null && deadlineTick >= existing.deadlineTick) {
+
+            existing.deadlineMillis = deadlineMillis;
+            existing.deadlineTick = deadlineTick;
+            existing.handler = handler;
+            extended.incrementAndGet();
+            return false;
+        }
+        if (existing != null) {
+            existing.cancelled = true;
+        }
+
+        Entry entry = new Entry(namespace, id);
+        entry.deadlineMillis = deadlineMillis;
+        entry.deadlineTick = deadlineTick;
+        entry.handler = handler;
+        byId.put(id, entry);
+        insert(entry);
+        scheduled.incrementAndGet();
+        return existing == null;
+    }
+
+    public synchronized boolean cancel(String namespace, UUID id) {
+        Map<UUID, Entry> byId = entries.get(namespace);
+        if (byId == null) return false;
+        Entry entry = byId.remove(id);
+        if (entry == null) return false;
+        entry.cancelled = true;
+        cancelled.incrementAndGet();
+        return true;
+    }
+
+    public synchronized boolean isScheduled(String namespace, UUID id) {
+        Map<UUID, Entry> byId = entries.get(namespace);
+        return byId != null && byId.containsKey(id);
+    }
+
+    public synchronized long getDeadline(String namespace, UUID id) {
+        Map<UUID, Entry> byId = entries.get(namespace);
+        Entry entry = byId != null ? byId.get(id) : null;
+        return entry != null ? entry.deadlineMillis : 0L;
+    }
+
+    public synchronized int size() {
+        int size = 0;
+        for (Map<UUID, Entry> byId : entries.values()) {
+            size += byId.size();
+        }
+        return size;
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("pending", (long) size());
+        stats.put("scheduled", scheduled.get());
+        stats.put("extended", extended.get());
+        stats.put("fired", fired.get());
+        stats.put("cancelled", cancelled.get());
+        return stats;
+    }
+
+    private long toTick(long millis) {
+        long delta = millis - originMillis;
+        return delta <= 0 ? 0 : (delta + TICK_MILLIS - 1) / TICK_MILLIS;
+    }
+
+    private void insert(Entry entry) {
+        long delta = entry.deadlineTick - currentTick;
+        if (delta <= 0) {
+            wheels[0][(int) ((currentTick + 1) & WHEEL_MASK)].add(entry);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (WHEEL_BITS * (level + 1))) {
+                int slot = (int) ((entry.deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+                wheels[level][slot].add(entry);
+                return;
+            }
+        }
+
+        long horizon = currentTick + MAX_SPAN - 1;
+        wheels[LEVELS - 1][(int) ((horizon >>> (WHEEL_BITS * (LEVELS - 1))) & WHEEL_MASK)].add(entry);
+    }
+
+    private void advance() {
+        List<Entry> due = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = (System.currentTimeMillis() - originMillis) / TICK_MILLIS;
+            while (currentTick < targetTick) {
+                currentTick++;
+                for (int level = LEVELS - 1; level > 0; level--) {
+                    if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                        cascade(wheels[level][(int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)]);
+                    }
+                }
+                collect(wheels[0][(int) (currentTick & WHEEL_MASK)], due);
+            }
+        }
+
+        for (Entry entry : due) {
+            if (!claim(entry)) continue;
+            try {
+                entry.handler.accept(entry.id);
+            } catch (Exception e) {
+                plugin.getLogger().warning("Expiry handler failed for " + entry.namespace + "/" + entry.id + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void cascade(ArrayDeque<Entry> slot) {
+        if (slot.isEmpty()) return;
+        List<Entry> moving = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry entry : moving) {
+            if (entry.cancelled) continue;
+            if (entry.deadlineTick <= currentTick) {
+                wheels[0][(int) (currentTick & WHEEL_MASK)].add(entry);
+            } else {
+                insert(entry);
+            }
+        }
+    }
+
+    private void collect(ArrayDeque<Entry> slot, List<Entry> due) {
+        if (slot.isEmpty()) return;
+        List<Entry> current = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry entry : current) {
+            if (entry.cancelled) continue;
+            if (entry.deadlineTick > currentTick) {
+
+                insert(entry);
+                continue;
+            }
+            due.add(entry);
+        }
+    }
+
+    private synchronized boolean claim(Entry entry) {
+        if (entry.cancelled) return false;
+        if (entry.deadlineTick > currentTick) {
+            insert(entry);
+            return false;
+        }
+        Map<UUID, Entry> byId = entries.get(entry.namespace);
+        if (byId != null) {
+            byId.remove(entry.id, entry);
+        }
+        fired.incrementAndGet();
+        return true;
+    }
+}
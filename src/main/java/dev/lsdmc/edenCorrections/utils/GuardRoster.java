@@ -0,0 +1,69 @@
+package dev.lsdmc.edenCorrections.utils;
+
+import dev.lsdmc.edenCorrections.EdenCorrections;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+public class GuardRoster {
+
+    private final EdenCorrections plugin;
+    private final Set<UUID> onDutyGuards = ConcurrentHashMap.newKeySet();
+
+    public GuardRoster(EdenCorrections plugin) {
+        this.plugin = plugin;
+    }
+
+
+    public void refresh(Player player) {
+        if (player == null) return;
+        if (player.isOnline()
+            && plugin.getDutyManager().isOnDuty(player)
+            && plugin.getDutyManager().isSubjectToGuardRestrictions(player)) {
+            onDutyGuards.add(player.getUniqueId());
+        } else {
+            onDutyGuards.remove(player.getUniqueId());
+        }
+    }
+
+    public void remove(UUID playerId) {
+        onDutyGuards.remove(playerId);
+    }
+
+
+    public void reconcile() {
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            refresh(player);
+        }
+        onDutyGuards.removeIf(id -> plugin.getServer().getPlayer(id) == null);
+    }
+
+    public boolean contains(UUID playerId) {
+        return onDutyGuards.contains(playerId);
+    }
+
+
+    public List<Player> getOnlineGuards() {
+        List<Player> guards = new ArrayList<>(onDutyGuards.size());
+        for (UUID id : onDutyGuards) {
+            Player player = plugin.getServer().getPlayer(id);
+            if (player != null && player.isOnline()) {
+                guards.add(player);
+            }
+        }
+        return guards;
+    }
+
+    public int size() {
+        return onDutyGuards.size();
+    }
+
+    public void clear() {
+        onDutyGuards.clear();
+    }
+}
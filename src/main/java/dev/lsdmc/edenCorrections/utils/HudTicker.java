@@ -0,0 +1,220 @@
+package dev.lsdmc.edenCorrections.utils;
+
+import dev.lsdmc.edenCorrections.EdenCorrections;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+public class HudTicker {
+
+    public static final String CHANNEL_BOSS_BAR = "bossbar";
+    public static final String CHANNEL_ACTION_BAR = "actionbar";
+    public static final String CHANNEL_MESSAGE_BOSS_BAR = "message-bossbar";
+    public static final String CHANNEL_DUTY_TRANSITION = "duty-transition";
+    public static final String CHANNEL_JAIL_COUNTDOWN = "jail-countdown";
+    public static final String CHANNEL_ARREST_MINIGAME = "arrest-minigame";
+
+    private static final int PROGRESS_STEPS = 100;
+
+    private final EdenCorrections plugin;
+    private final Map<UUID, Map<String, Slot>> slots = new ConcurrentHashMap<>();
+
+    private BukkitTask task;
+    private long currentTick = 0;
+
+    private final AtomicLong slotsScheduled = new AtomicLong(0);
+    private final AtomicLong updatesDelivered = new AtomicLong(0);
+    private final AtomicLong updatesSkipped = new AtomicLong(0);
+
+
+    @FunctionalInterface
+    public interface Countdown {
+        boolean update(Player player, int remainingSeconds, int totalSeconds);
+    }
+
+
+    @FunctionalInterface
+    public interface Frame {
+        boolean render(Player player);
+    }
+
+
+    @FunctionalInterface
+    public interface Finish {
+        void finish(Player player, boolean expired);
+    }
+
+    private static final class Slot {
+        private final Player player;
+        private final long deadline;
+        private final int totalSeconds;
+        private final long periodTicks;
+        private final Countdown countdown;
+        private final Frame frame;
+        private final Finish finish;
+        private long nextTick;
+        private int lastDisplayed = Integer.MIN_VALUE;
+
+        Slot(Player player, long deadline, int totalSeconds, long periodTicks,
+             Countdown countdown, Frame frame, Finish finish) {
+            this.player = player;
+            this.deadline = deadline;
+            this.totalSeconds = totalSeconds;
+            this.periodTicks = periodTicks;
+            this.countdown = countdown;
+            this.frame = frame;
+            this.finish = finish;
+        }
+    }
+
+    public HudTicker(EdenCorrections plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        if (task != null) return;
+        task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        slots.clear();
+    }
+
+
+    public void countdown(Player player, String channel, int durationSeconds, Countdown countdown, Finish finish) {
+        if (player == null || countdown == null) return;
+        int total = Math.max(0, durationSeconds);
+        long deadline = System.currentTimeMillis() + total * 1000L;
+        put(player, channel, new Slot(player, deadline, total, 0L, countdown, null, finish));
+    }
+
+
+    public void repeat(Player player, String channel, long periodTicks, long durationMillis, Frame frame, Finish finish) {
+        if (player == null || frame == null) return;
+        long deadline = durationMillis > 0 ? System.currentTimeMillis() + durationMillis : 0L;
+        Slot slot = new Slot(player, deadline, 0, Math.max(1L, periodTicks), null, frame, finish);
+        slot.nextTick = currentTick + 1;
+        put(player, channel, slot);
+    }
+
+    public boolean cancel(UUID playerId, String channel) {
+        Map<String, Slot> channels = slots.get(playerId);
+        if (channels == null) return false;
+        boolean removed = channels.remove(channel) != null;
+        if (channels.isEmpty()) {
+            slots.remove(playerId, channels);
+        }
+        return removed;
+    }
+
+    public void cancelAll(UUID playerId) {
+        slots.remove(playerId);
+    }
+
+    public boolean isActive(UUID playerId, String channel) {
+        Map<String, Slot> channels = slots.get(playerId);
+        return channels != null && channels.containsKey(channel);
+    }
+
+    public int getActiveSlotCount() {
+        int count = 0;
+        for (Map<String, Slot> channels : slots.values()) {
+            count += channels.size();
+        }
+        return count;
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("activeSlots", (long) getActiveSlotCount());
+        stats.put("scheduled", slotsScheduled.get());
+        stats.put("delivered", updatesDelivered.get());
+        stats.put("skipped", updatesSkipped.get());
+        return stats;
+    }
+
+
+    public static float quantizeProgress(float progress) {
+        float clamped = Math.max(0.0f, Math.min(1.0f, progress));
+        return Math.round(clamped * PROGRESS_STEPS) / (float) PROGRESS_STEPS;
+    }
+
+    private void put(Player player, String channel, Slot slot) {
+        slots.computeIfAbsent(player.getUniqueId(), id -> new ConcurrentHashMap<>()).put(channel, slot);
+        slotsScheduled.incrementAndGet();
+    }
+
+    private void tick() {
+        currentTick++;
+        if (slots.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        for (Map.Entry<UUID, Map<String, Slot>> playerEntry : slots.entrySet()) {
+            Map<String, Slot> channels = playerEntry.getValue();
+            for (Map.Entry<String, Slot> entry : channels.entrySet()) {
+                advance(channels, entry.getKey(), entry.getValue(), now);
+            }
+            if (channels.isEmpty()) {
+                slots.remove(playerEntry.getKey(), channels);
+            }
+        }
+    }
+
+    private void advance(Map<String, Slot> channels, String channel, Slot slot, long now) {
+        try {
+            if (!slot.player.isOnline()) {
+                finish(channels, channel, slot, false);
+                return;
+            }
+            if (slot.deadline > 0 && now >= slot.deadline) {
+                finish(channels, channel, slot, true);
+                return;
+            }
+
+            boolean keep;
+            if (slot.frame != null) {
+                if (currentTick < slot.nextTick) return;
+                slot.nextTick = currentTick + slot.periodTicks;
+                keep = slot.frame.render(slot.player);
+                updatesDelivered.incrementAndGet();
+            } else {
+                int remaining = (int) Math.ceil((slot.deadline - now) / 1000.0);
+                if (remaining == slot.lastDisplayed) {
+                    updatesSkipped.incrementAndGet();
+                    return;
+                }
+                slot.lastDisplayed = remaining;
+                keep = slot.countdown.update(slot.player, remaining, slot.totalSeconds);
+                updatesDelivered.incrementAndGet();
+            }
+
+            if (!keep) {
+                channels.remove(channel, slot);
+            }
+        } catch (Exception e) {
+            plugin.getLogger().warning("HUD update failed for " + slot.player.getName() + " (" + channel + "): " + e.getMessage());
+            finish(channels, channel, slot, false);
+        }
+    }
+
+    private void finish(Map<String, Slot> channels, String channel, Slot slot, boolean expired) {
+        if (!channels.remove(channel, slot)) return;
+        if (slot.finish != null) {
+            try {
+                slot.finish.finish(slot.player, expired);
+            } catch (Exception e) {
+                plugin.getLogger().warning("HUD finish failed for " + slot.player.getName() + " (" + channel + "): " + e.getMessage());
+            }
+        }
+    }
+}
@@ -20,6 +20,12 @@ import java.util.logging.Logger;
 import java.util.Base64;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 
 public class InventorySerializer {
@@ -31,24 +37,14 @@ public class InventorySerializer {
     private static final Logger logger = Logger.getLogger(InventorySerializer.class.getName());
 
     
+    public static final String COMPACT_FORMAT_PREFIX = "paper-bytes-deflate-v2:";
+    private static final int INVENTORY_SLOTS = 41;
+
+    
     public static String serializePlayerInventory(Player player) {
         try {
             PlayerInventory inventory = player.getInventory();
-            JsonObject inventoryJson = new JsonObject();
-
-            
-            inventoryJson.addProperty("format", "bukkit-base64-v1");
-            inventoryJson.addProperty("data", encodeInventory(inventory));
-
-            
-            JsonObject metadata = new JsonObject();
-            metadata.addProperty("heldItemSlot", inventory.getHeldItemSlot());
-            metadata.addProperty("timestamp", System.currentTimeMillis());
-            metadata.addProperty("playerName", player.getName());
-            metadata.addProperty("playerUuid", player.getUniqueId().toString());
-            inventoryJson.add("metadata", metadata);
-
-            return gson.toJson(inventoryJson);
+            return encodeCompactInventory(snapshotContents(inventory), inventory.getHeldItemSlot());
 
         } catch (Exception e) {
             logger.severe("Failed to serialise inventory for " + player.getName() + ": " + e.getMessage());
@@ -58,46 +54,61 @@ public class InventorySerializer {
     }
 
     
-    public static boolean deserializePlayerInventory(Player player, String inventoryJson) {
+    public static final class DecodedInventory {
+        private final String source;
+        private final ItemStack[] contents;
+        private final Integer heldItemSlot;
+
+        DecodedInventory(String source, ItemStack[] contents, Integer heldItemSlot) {
+            this.source = source;
+            this.contents = contents;
+            this.heldItemSlot = heldItemSlot;
+        }
+
+        public String getSource() { return source; }
+        public ItemStack[] getContents() { return contents; }
+        public Integer getHeldItemSlot() { return heldItemSlot; }
+    }
+
+    
+    public static DecodedInventory decodeInventorySnapshot(String inventoryJson) {
         try {
             if (inventoryJson == null || inventoryJson.trim().isEmpty()) {
-                logger.warning("Cannot deserialise null or empty inventory data for " + player.getName());
-                return false;
+                return null;
             }
 
-            JsonObject inventoryObj = JsonParser.parseString(inventoryJson).getAsJsonObject();
-            PlayerInventory inventory = player.getInventory();
+            if (inventoryJson.startsWith(COMPACT_FORMAT_PREFIX)) {
+                return decodeCompactInventory(inventoryJson);
+            }
 
-            
-            inventory.clear();
+            JsonObject inventoryObj = JsonParser.parseString(inventoryJson).getAsJsonObject();
+            ItemStack[] contents = new ItemStack[INVENTORY_SLOTS];
+            Integer heldItemSlot = null;
 
             
             if (inventoryObj.has("format") && "bukkit-base64-v1".equalsIgnoreCase(inventoryObj.get("format").getAsString()) && inventoryObj.has("data")) {
-                ItemStack[] contents = decodeInventory(inventoryObj.get("data").getAsString());
-                if (contents != null && contents.length > 0) {
-                    
-                    int mainLen = Math.min(36, contents.length);
-                    for (int i = 0; i < mainLen; i++) {
-                        inventory.setItem(i, contents[i]);
-                    }
+                ItemStack[] decoded = decodeInventory(inventoryObj.get("data").getAsString());
+                if (decoded != null) {
                     
-                    if (contents.length >= 40) {
-                        ItemStack[] armour = new ItemStack[] { contents[36], contents[37], contents[38], contents[39] };
-                        inventory.setArmorContents(armour);
+                    int mainLen = Math.min(36, decoded.length);
+                    System.arraycopy(decoded, 0, contents, 0, mainLen);
+                    
+                    if (decoded.length >= 40) {
+                        System.arraycopy(decoded, 36, contents, 36, 4);
                     }
                     
-                    if (contents.length >= 41) {
-                        inventory.setItemInOffHand(contents[40]);
+                    if (decoded.length >= 41) {
+                        contents[40] = decoded[40];
                     }
                 }
                 
                 if (inventoryObj.has("metadata")) {
                     JsonObject metadata = inventoryObj.getAsJsonObject("metadata");
                     if (metadata.has("heldItemSlot")) {
-                        inventory.setHeldItemSlot(metadata.get("heldItemSlot").getAsInt());
+                        heldItemSlot = metadata.get("heldItemSlot").getAsInt();
                     }
                 } else if (inventoryObj.has("heldItemSlot")) {
-                    inventory.setHeldItemSlot(inventoryObj.get("heldItemSlot").getAsInt());
+                    heldItemSlot = inventoryObj.get("heldItemSlot").getAsInt();
                 }
             } else {
                 
@@ -105,78 +116,161 @@ public class InventorySerializer {
                 if (inventoryObj.has("main")) {
                     JsonArray mainInventory = inventoryObj.getAsJsonArray("main");
                     for (int i = 0; i < mainInventory.size() && i < 36; i++) {
-                        ItemStack item = deserializeItemStack(mainInventory.get(i));
-                        if (item != null) {
-                            inventory.setItem(i, item);
-                        }
+                        contents[i] = deserializeItemStack(mainInventory.get(i));
                     }
                 }
 
                 
                 if (inventoryObj.has("armor")) {
                     JsonArray armourInventory = inventoryObj.getAsJsonArray("armor");
-                    ItemStack[] armour = new ItemStack[4];
                     for (int i = 0; i < armourInventory.size() && i < 4; i++) {
-                        armour[i] = deserializeItemStack(armourInventory.get(i));
+                        contents[36 + i] = deserializeItemStack(armourInventory.get(i));
                     }
-                    inventory.setArmorContents(armour);
                 }
 
                 
                 if (inventoryObj.has("offhand")) {
-                    ItemStack offhand = deserializeItemStack(inventoryObj.get("offhand"));
-                    if (offhand != null) {
-                        inventory.setItemInOffHand(offhand);
-                    }
+                    contents[40] = deserializeItemStack(inventoryObj.get("offhand"));
                 }
 
                 
                 if (inventoryObj.has("metadata")) {
                     JsonObject metadata = inventoryObj.getAsJsonObject("metadata");
                     if (metadata.has("heldItemSlot")) {
-                        inventory.setHeldItemSlot(metadata.get("heldItemSlot").getAsInt());
+                        heldItemSlot = metadata.get("heldItemSlot").getAsInt();
                     }
                 }
             }
 
-            
-            player.updateInventory();
-
-            return true;
+            return new DecodedInventory(inventoryJson, contents, heldItemSlot);
 
         } catch (Exception e) {
-            logger.severe("Failed to deserialise inventory for " + player.getName() + ": " + e.getMessage());
-            e.printStackTrace();
-            return false;
+            logger.severe("Failed to decode inventory snapshot: " + e.getMessage());
+            return null;
         }
     }
 
     
-    private static String encodeInventory(PlayerInventory inventory) {
+    public static boolean applyDecodedInventory(Player player, DecodedInventory decoded) {
+        if (decoded == null) {
+            return false;
+        }
         try {
-            ItemStack[] contents = new ItemStack[41];
+            PlayerInventory inventory = player.getInventory();
+            ItemStack[] contents = decoded.getContents();
+
+            inventory.clear();
             for (int i = 0; i < 36; i++) {
-                contents[i] = inventory.getItem(i);
+                inventory.setItem(i, contents[i]);
             }
-            
-            ItemStack[] armour = inventory.getArmorContents();
-            for (int i = 0; i < 4; i++) {
-                contents[36 + i] = (armour != null && i < armour.length) ? armour[i] : null;
+            inventory.setArmorContents(new ItemStack[] { contents[36], contents[37], contents[38], contents[39] });
+            if (contents[40] != null) {
+                inventory.setItemInOffHand(contents[40]);
+            }
+            if (decoded.getHeldItemSlot() != null) {
+                inventory.setHeldItemSlot(decoded.getHeldItemSlot());
             }
-            
-            contents[40] = inventory.getItemInOffHand();
 
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            BukkitObjectOutputStream out = new BukkitObjectOutputStream(baos);
+            player.updateInventory();
+            return true;
+
+        } catch (Exception e) {
+            logger.severe("Failed to apply inventory for " + player.getName() + ": " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    
+    public static boolean deserializePlayerInventory(Player player, String inventoryJson) {
+        if (inventoryJson == null || inventoryJson.trim().isEmpty()) {
+            logger.warning("Cannot deserialise null or empty inventory data for " + player.getName());
+            return false;
+        }
+
+        DecodedInventory decoded = decodeInventorySnapshot(inventoryJson);
+        if (decoded == null) {
+            logger.severe("Failed to deserialise inventory for " + player.getName());
+            return false;
+        }
+        return applyDecodedInventory(player, decoded);
+    }
+
+    
+    private static ItemStack[] snapshotContents(PlayerInventory inventory) {
+        ItemStack[] contents = new ItemStack[INVENTORY_SLOTS];
+        for (int i = 0; i < 36; i++) {
+            contents[i] = inventory.getItem(i);
+        }
+        
+        ItemStack[] armour = inventory.getArmorContents();
+        for (int i = 0; i < 4; i++) {
+            contents[36 + i] = (armour != null && i < armour.length) ? armour[i] : null;
+        }
+        
+        contents[40] = inventory.getItemInOffHand();
+        return contents;
+    }
+
+    
+    private static String encodeCompactInventory(ItemStack[] contents, Integer heldItemSlot) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(baos, deflater))) {
+            out.writeInt(heldItemSlot != null ? heldItemSlot : -1);
             out.writeInt(contents.length);
             for (ItemStack stack : contents) {
-                out.writeObject(stack);
+                if (stack == null || stack.getType() == Material.AIR || stack.getAmount() <= 0) {
+                    out.writeInt(-1);
+                    continue;
+                }
+                byte[] bytes = stack.serializeAsBytes();
+                out.writeInt(bytes.length);
+                out.write(bytes);
             }
-            out.close();
-            return Base64.getEncoder().encodeToString(baos.toByteArray());
+        } finally {
+            deflater.end();
+        }
+        return COMPACT_FORMAT_PREFIX + Base64.getEncoder().encodeToString(baos.toByteArray());
+    }
+
+    
+    private static DecodedInventory decodeCompactInventory(String inventoryData) throws IOException {
+        byte[] raw = Base64.getDecoder().decode(inventoryData.substring(COMPACT_FORMAT_PREFIX.length()));
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(raw)))) {
+            int heldItemSlot = in.readInt();
+            int length = in.readInt();
+            ItemStack[] contents = new ItemStack[INVENTORY_SLOTS];
+            for (int i = 0; i < length; i++) {
+                int size = in.readInt();
+                if (size < 0) {
+                    continue;
+                }
+                byte[] bytes = new byte[size];
+                in.readFully(bytes);
+                if (i < INVENTORY_SLOTS) {
+                    contents[i] = ItemStack.deserializeBytes(bytes);
+                }
+            }
+            return new DecodedInventory(inventoryData, contents, heldItemSlot >= 0 ? heldItemSlot : null);
+        }
+    }
+
+    
+    public static boolean isLegacyInventoryFormat(String inventoryData) {
+        return inventoryData != null && !inventoryData.trim().isEmpty() && !inventoryData.startsWith(COMPACT_FORMAT_PREFIX);
+    }
+
+    
+    public static String reencodeInventory(DecodedInventory decoded) {
+        if (decoded == null) {
+            return null;
+        }
+        try {
+            return encodeCompactInventory(decoded.getContents(), decoded.getHeldItemSlot());
         } catch (Exception e) {
-            logger.severe("Failed to encode inventory: " + e.getMessage());
-            return "";
+            logger.warning("Failed to re-encode inventory: " + e.getMessage());
+            return null;
         }
     }
 
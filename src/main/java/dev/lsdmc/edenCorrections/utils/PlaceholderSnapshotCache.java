@@ -0,0 +1,105 @@
+package dev.lsdmc.edenCorrections.utils;
+
+import org.bukkit.Bukkit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+
+public class PlaceholderSnapshotCache {
+
+    private static final Object NULL = new Object();
+    private static final int MAX_AGE_TICKS = 20;
+
+    private final Map<UUID, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private final AtomicLong requests = new AtomicLong(0);
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong hitNanos = new AtomicLong(0);
+    private final AtomicLong missNanos = new AtomicLong(0);
+
+    private static final class Snapshot {
+        private final Object source;
+        private final long version;
+        private final int tick;
+        private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+        Snapshot(Object source, long version, int tick) {
+            this.source = source;
+            this.version = version;
+            this.tick = tick;
+        }
+    }
+
+
+    public String resolve(UUID playerId, Object source, long version, String params, Function<String, String> resolver) {
+        long start = System.nanoTime();
+        requests.incrementAndGet();
+
+        Snapshot snapshot = current(playerId, source, version);
+        Object cached = snapshot.values.get(params);
+        if (cached != null) {
+            hits.incrementAndGet();
+            hitNanos.addAndGet(System.nanoTime() - start);
+            return cached == NULL ? null : (String) cached;
+        }
+
+        String value = resolver.apply(params);
+        snapshot.values.put(params, value != null ? value : NULL);
+        missNanos.addAndGet(System.nanoTime() - start);
+        return value;
+    }
+
+
+    @SuppressWarnings("unchecked")
+    public <T> T memo(UUID playerId, String key, Supplier<T> supplier) {
+        Snapshot snapshot = snapshots.get(playerId);
+        if (snapshot == null) {
+            return supplier.get();
+        }
+        Object cached = snapshot.values.get(key);
+        if (cached != null) {
+            return cached == NULL ? null : (T) cached;
+        }
+        T value = supplier.get();
+        snapshot.values.put(key, value != null ? value : NULL);
+        return value;
+    }
+
+    public void invalidate(UUID playerId) {
+        snapshots.remove(playerId);
+    }
+
+    public void clear() {
+        snapshots.clear();
+    }
+
+    public Map<String, Long> getStats() {
+        long total = requests.get();
+        long hitCount = hits.get();
+        long missCount = total - hitCount;
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("requests", total);
+        stats.put("hits", hitCount);
+        stats.put("snapshots", (long) snapshots.size());
+        stats.put("avgHitNanos", hitCount > 0 ? hitNanos.get() / hitCount : 0L);
+        stats.put("avgMissNanos", missCount > 0 ? missNanos.get() / missCount : 0L);
+        return stats;
+    }
+
+    private Snapshot current(UUID playerId, Object source, long version) {
+        int tick = Bukkit.getCurrentTick();
+        Snapshot snapshot = snapshots.get(playerId);
+        if (snapshot == null || snapshot.source != source || snapshot.version != version
+                || tick - snapshot.tick >= MAX_AGE_TICKS) {
+            snapshot = new Snapshot(source, version, tick);
+            snapshots.put(playerId, snapshot);
+        }
+        return snapshot;
+    }
+}
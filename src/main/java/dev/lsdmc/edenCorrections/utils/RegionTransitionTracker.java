@@ -0,0 +1,167 @@
+package dev.lsdmc.edenCorrections.utils;
+
+import dev.lsdmc.edenCorrections.EdenCorrections;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+public class RegionTransitionTracker {
+
+    private final EdenCorrections plugin;
+
+
+    private final Map<UUID, TrackedBlock> lastKnown = new ConcurrentHashMap<>();
+
+    private static final class TrackedBlock {
+        private final UUID worldId;
+        private final int x;
+        private final int y;
+        private final int z;
+        private final Set<String> regions;
+
+        TrackedBlock(Location location, Set<String> regions) {
+            this.worldId = location.getWorld().getUID();
+            this.x = location.getBlockX();
+            this.y = location.getBlockY();
+            this.z = location.getBlockZ();
+            this.regions = regions;
+        }
+
+        boolean isAt(Location location) {
+            return location.getBlockX() == x && location.getBlockY() == y && location.getBlockZ() == z
+                && location.getWorld() != null && location.getWorld().getUID().equals(worldId);
+        }
+    }
+
+
+    public static final class RegionTransition {
+        private final Set<String> entered;
+        private final Set<String> exited;
+        private final Set<String> current;
+
+        RegionTransition(Set<String> entered, Set<String> exited, Set<String> current) {
+            this.entered = entered;
+            this.exited = exited;
+            this.current = current;
+        }
+
+        public Set<String> getEntered() { return entered; }
+        public Set<String> getExited() { return exited; }
+        public Set<String> getCurrent() { return current; }
+
+        public boolean hasEntered() {
+            return !entered.isEmpty();
+        }
+
+        public boolean entered(String region) {
+            return region != null && entered.contains(region.trim().toLowerCase());
+        }
+
+
+        public String firstEntered(String[] regions) {
+            if (regions == null || entered.isEmpty()) return null;
+            for (String region : regions) {
+                if (entered(region)) {
+                    return region.trim();
+                }
+            }
+            return null;
+        }
+
+        public boolean enteredAny(String[] regions) {
+            return firstEntered(regions) != null;
+        }
+
+        public boolean enteredAny(Set<String> lowerCaseRegions) {
+            if (lowerCaseRegions == null || lowerCaseRegions.isEmpty() || entered.isEmpty()) return false;
+            return !Collections.disjoint(entered, lowerCaseRegions);
+        }
+    }
+
+    public RegionTransitionTracker(EdenCorrections plugin) {
+        this.plugin = plugin;
+    }
+
+
+    public static boolean isSameBlock(Location from, Location to) {
+        if (from == null || to == null) return false;
+        if (from.getBlockX() != to.getBlockX() || from.getBlockY() != to.getBlockY() || from.getBlockZ() != to.getBlockZ()) {
+            return false;
+        }
+        World fromWorld = from.getWorld();
+        World toWorld = to.getWorld();
+        return fromWorld != null && fromWorld.equals(toWorld);
+    }
+
+
+    public RegionTransition track(Player player, Location from, Location to) {
+        if (player == null || to == null || to.getWorld() == null) {
+            return null;
+        }
+        if (isSameBlock(from, to)) {
+            return null;
+        }
+
+        UUID playerId = player.getUniqueId();
+        TrackedBlock previous = lastKnown.get(playerId);
+
+        Set<String> fromRegions;
+        if (previous != null && from != null && previous.isAt(from)) {
+            fromRegions = previous.regions;
+        } else {
+            fromRegions = from != null && from.getWorld() != null ? queryRegions(from) : Collections.emptySet();
+        }
+
+        Set<String> toRegions = queryRegions(to);
+        lastKnown.put(playerId, new TrackedBlock(to, toRegions));
+
+        if (fromRegions.equals(toRegions)) {
+            return new RegionTransition(Collections.emptySet(), Collections.emptySet(), toRegions);
+        }
+
+        Set<String> entered = new HashSet<>(toRegions);
+        entered.removeAll(fromRegions);
+        Set<String> exited = new HashSet<>(fromRegions);
+        exited.removeAll(toRegions);
+
+        return new RegionTransition(Collections.unmodifiableSet(entered), Collections.unmodifiableSet(exited), toRegions);
+    }
+
+
+    public Set<String> getLastKnownRegions(UUID playerId) {
+        TrackedBlock tracked = lastKnown.get(playerId);
+        return tracked != null ? tracked.regions : Collections.emptySet();
+    }
+
+    public void clearPlayer(UUID playerId) {
+        lastKnown.remove(playerId);
+    }
+
+    public void clear() {
+        lastKnown.clear();
+    }
+
+    public int getTrackedPlayerCount() {
+        return lastKnown.size();
+    }
+
+    private Set<String> queryRegions(Location location) {
+        Set<String> raw = plugin.getWorldGuardUtils().getRegionsAtLocation(location);
+        if (raw.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> lower = new HashSet<>(raw.size() * 2);
+        for (String region : raw) {
+            lower.add(region.toLowerCase());
+        }
+        return Collections.unmodifiableSet(lower);
+    }
+}
@@ -0,0 +1,43 @@
+package dev.lsdmc.edenCorrections.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+public class StartupTimer {
+
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private long lastMark = startedAt;
+
+
+    public synchronized void mark(String phase) {
+        long now = System.nanoTime();
+        phases.merge(phase, now - lastMark, Long::sum);
+        lastMark = now;
+    }
+
+    public synchronized long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastMark - startedAt);
+    }
+
+    public synchronized Map<String, Long> getPhaseMillis() {
+        Map<String, Long> millis = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : phases.entrySet()) {
+            millis.put(entry.getKey(), TimeUnit.NANOSECONDS.toMillis(entry.getValue()));
+        }
+        return millis;
+    }
+
+    public synchronized String summary() {
+        StringBuilder line = new StringBuilder();
+        for (Map.Entry<String, Long> entry : getPhaseMillis().entrySet()) {
+            if (line.length() > 0) {
+                line.append(", ");
+            }
+            line.append(entry.getKey()).append(' ').append(entry.getValue()).append("ms");
+        }
+        return line.append(" (total ").append(getTotalMillis()).append("ms)").toString();
+    }
+}